@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,6 +24,11 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.webflux) // reactive 프로필 (기본 실행은 web 이 있으므로 MVC)
+    implementation(libs.spring.boot.starter.actuator)
+    implementation(libs.hikaricp) // jdbc 저장소 커넥션 풀 (spring-jdbc 없이 사용하므로 DataSource 자동 설정은 동작하지 않음)
+    runtimeOnly(libs.h2)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -38,6 +44,26 @@ with(extensions.getByType(JacocoPluginExtension::class.java)) {
     toolVersion = "0.8.7"
 }
 
+// benchmark tasks (src/jmh/java, ./gradlew jmh)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    warmupIterations.set(2)
+    iterations.set(3)
+    jvmArgs.add("-Xmx4g")
+    // 특정 벤치마크만 실행 (./gradlew jmh -Pjmh.includes=PointServiceBenchmark)
+    findProperty("jmh.includes")?.let { includes.add(it.toString()) }
+}
+
+// 플랫폼 쓰레드 / 가상 쓰레드 / WebFlux 모드 부하 비교 (./gradlew loadBenchmark --args="platform virtual reactive")
+tasks.register<JavaExec>("loadBenchmark") {
+    group = "benchmark"
+    description = "Runs the point API load benchmark in platform, virtual thread and reactive modes"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.PointLoadBenchmark")
+    jvmArgs("-Xmx2g")
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
     enabled = true
@@ -0,0 +1,119 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.util.LatencyHistogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 API 부하 벤치마크 (플랫폼 쓰레드 vs 가상 쓰레드 vs WebFlux)
+ * - 실행 모드별로 애플리케이션을 띄우고, 동시 요청 수를 늘려가며 처리량(RPS)과 p99 지연 시간을 측정
+ * - p99 가 기준 이하이고 오류율이 1% 미만인 단계 중 가장 높은 RPS 를 "최대 지속 가능 RPS" 로 출력
+ * - 요청 : 사용자 1 ~ 10,000 중 무작위로 포인트 조회(GET) 50%, 충전(PATCH) 50%
+ * - virtual 모드는 JDK 21 이상에서만 실행
+ * - reactive 모드는 reactive 프로필(Netty 이벤트 루프)로 실행
+ * - jdbc 모드는 jdbc 프로필(내장 H2 저장소)로 실행 (기본 목록에는 없으므로 직접 지정)
+ */
+// 실행) ./gradlew loadBenchmark --args="platform virtual reactive", ./gradlew loadBenchmark --args="platform jdbc"
+public class PointLoadBenchmark {
+
+    private static final int[] CONCURRENCY_LEVELS = {50, 200, 800, 2_000};
+    private static final Duration LEVEL_DURATION = Duration.ofSeconds(10);
+    private static final long P99_LIMIT_NANOS = TimeUnit.SECONDS.toNanos(1); // 지속 가능 기준
+    private static final int USER_COUNT = 10_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> modes = args.length > 0 ? List.of(args) : List.of("platform", "virtual", "reactive");
+        for (String mode : modes) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                System.out.println("[virtual] JDK 21 이상에서만 실행할 수 있습니다. 현재: " + Runtime.version());
+                continue;
+            }
+            try (ConfigurableApplicationContext context = start(mode)) {
+                int port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+                run(mode, port);
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String mode) {
+        SpringApplication application = new SpringApplication(TddApplication.class);
+        if (mode.equals("virtual") || mode.equals("reactive") || mode.equals("jdbc")) {
+            application.setAdditionalProfiles(mode);
+        }
+        return application.run("--server.port=0", "--logging.level.root=WARN");
+    }
+
+    private static void run(String mode, int port) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        double maxSustainableRps = 0;
+
+        System.out.printf("%n[%s] concurrency | rps | p50(ms) | p99(ms) | errors%n", mode);
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            LevelResult result = runLevel(client, port, concurrency);
+            System.out.printf("[%s] %11d | %8.1f | %7.1f | %7.1f | %d%n", mode, concurrency, result.rps(),
+                    result.p50Nanos() / 1e6, result.p99Nanos() / 1e6, result.errors());
+            if (result.p99Nanos() <= P99_LIMIT_NANOS && result.errorRate() < 0.01) {
+                maxSustainableRps = Math.max(maxSustainableRps, result.rps());
+            }
+        }
+        System.out.printf("[%s] 최대 지속 가능 RPS (p99 <= %dms, 오류율 < 1%%) = %.1f%n",
+                mode, TimeUnit.NANOSECONDS.toMillis(P99_LIMIT_NANOS), maxSustainableRps);
+    }
+
+    private static LevelResult runLevel(HttpClient client, int port, int concurrency) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency); // 동시에 보내는 요청 수 제한
+        LatencyHistogram latencies = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+
+        long started = System.nanoTime();
+        long deadline = started + LEVEL_DURATION.toNanos();
+        while (System.nanoTime() < deadline) {
+            inFlight.acquire();
+            long requested = System.nanoTime();
+            client.sendAsync(nextRequest(port), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies.record(System.nanoTime() - requested);
+                        if (e != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    });
+        }
+        inFlight.acquire(concurrency); // 남은 요청 완료 대기
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        LatencyHistogram.Snapshot snapshot = latencies.snapshot();
+        return new LevelResult(snapshot.count() / seconds, snapshot.percentileNanos(0.5), snapshot.percentileNanos(0.99),
+                errors.get(), snapshot.count());
+    }
+
+    private static HttpRequest nextRequest(int port) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = random.nextLong(1, USER_COUNT + 1);
+        if (random.nextBoolean()) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId)).GET().build();
+        }
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + userId + "/charge"))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("1"))
+                .build();
+    }
+
+    private record LevelResult(double rps, long p50Nanos, long p99Nanos, long errors, long total) {
+
+        double errorRate() {
+            return total == 0 ? 0 : (double) errors / total;
+        }
+    }
+}
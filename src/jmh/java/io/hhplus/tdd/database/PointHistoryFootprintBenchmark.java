@@ -0,0 +1,103 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 이력 저장소 메모리 사용량 벤치마크
+ * - totalRows 건을 적재하는 시간과, 적재 후 이력 한 건당 힙 / 힙 밖 메모리 사용량을 함께 측정
+ * - table : PointHistoryTable 과 같은 ArrayList + PointHistoryIndex (기본 저장소 table 의 실제 구성)
+ * - columnar : ColumnarPointHistoryStore (열 단위 varint 블록, 힙 밖)
+ * - 힙 사용량은 적재 전후 GC 직후의 사용량 차이 (heapBytesPerRow / offHeapBytesPerRow 보조 지표로 출력)
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=PointHistoryFootprintBenchmark (table 1,000만 건에 힙 약 1GB 필요)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class PointHistoryFootprintBenchmark {
+
+    private static final int USERS = 100_000;
+
+    @Param({"table", "columnar"})
+    public String store;
+
+    @Param({"1000000", "10000000"})
+    public int totalRows;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private Object loaded; // 측정이 끝날 때까지 적재한 저장소를 붙잡아 둠
+
+    /**
+     * 이력 한 건당 메모리 사용량 (바이트)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public double heapBytesPerRow;
+        public double offHeapBytesPerRow;
+    }
+
+    @Setup(Level.Iteration)
+    public void release() {
+        loaded = null;
+    }
+
+    @Benchmark
+    public Object load(Footprint footprint) {
+        long before = usedHeap();
+        long offHeap = 0;
+        if (store.equals("columnar")) {
+            ColumnarPointHistoryStore columnar = new ColumnarPointHistoryStore(4 << 20);
+            for (int i = 0; i < totalRows; i++) {
+                columnar.insert(userId(i), amount(i), type(i), updateMillis(i));
+            }
+            offHeap = columnar.getOffHeapBytes();
+            loaded = columnar;
+        } else {
+            List<PointHistory> table = new ArrayList<>(); // PointHistoryTable 내부와 같은 전역 리스트
+            PointHistoryIndex index = new PointHistoryIndex();
+            for (int i = 0; i < totalRows; i++) {
+                PointHistory pointHistory = new PointHistory(i + 1, userId(i), amount(i), type(i), updateMillis(i));
+                table.add(pointHistory);
+                index.append(pointHistory);
+            }
+            loaded = List.of(table, index);
+        }
+        footprint.heapBytesPerRow = (double) (usedHeap() - before) / totalRows;
+        footprint.offHeapBytesPerRow = (double) offHeap / totalRows;
+        return loaded;
+    }
+
+    // 실제 트래픽처럼 사용자가 섞이고 시각은 조금씩 증가
+    private static long userId(int i) {
+        return 1 + (i * 7_919L) % USERS;
+    }
+
+    private static long amount(int i) {
+        return i % 3 == 0 ? -(100 + i % 5_000) : 1_000 + i % 10_000;
+    }
+
+    private static TransactionType type(int i) {
+        return i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+    }
+
+    private static long updateMillis(int i) {
+        return 1_700_000_000_000L + i / 10;
+    }
+
+    private long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
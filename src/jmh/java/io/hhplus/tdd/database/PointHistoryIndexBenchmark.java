@@ -0,0 +1,55 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자별 이력 조회 비용 벤치마크
+ * - 조회 대상 사용자의 이력 수(100건)는 고정하고 전체 이력 수만 늘려가며 측정
+ * - indexLookup : PointHistoryIndex (전체 이력 수와 무관하게 일정해야 함)
+ * - tableScan : PointHistoryTable.selectAllByUserId 와 같은 전체 순회 방식 (전체 이력 수에 비례)
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=PointHistoryIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PointHistoryIndexBenchmark {
+
+    private static final long TARGET_USER_ID = 1L;
+    private static final int TARGET_USER_ROWS = 100;
+    private static final int OTHER_USERS = 100_000;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int totalRows;
+
+    private PointHistoryIndex index;
+    private List<PointHistory> table; // PointHistoryTable 내부와 같은 전역 리스트
+
+    @Setup
+    public void setUp() {
+        index = new PointHistoryIndex();
+        table = new ArrayList<>(totalRows);
+        int targetEvery = totalRows / TARGET_USER_ROWS; // 대상 사용자의 이력을 전체 구간에 고르게 섞음
+        for (int i = 0; i < totalRows; i++) {
+            long userId = i % targetEvery == 0 ? TARGET_USER_ID : 2 + (i % OTHER_USERS);
+            PointHistory pointHistory = new PointHistory(i + 1, userId, 1_000L, TransactionType.CHARGE, i);
+            index.append(pointHistory);
+            table.add(pointHistory);
+        }
+    }
+
+    @Benchmark
+    public List<PointHistory> indexLookup() {
+        return index.selectAllByUserId(TARGET_USER_ID);
+    }
+
+    @Benchmark
+    public List<PointHistory> tableScan() {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == TARGET_USER_ID).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.util.UserKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 잔액 저널 fsync 정책별 변경 처리량 벤치마크
+ * - UserPointCache.put (캐시 반영 + 저널 기록 + 테이블 저장 예약) 을 16 쓰레드에서 호출
+ * - off : 저널 없음 (기준값), ALWAYS : fsync 후 반환 (group commit), INTERVAL : 10ms 마다 fsync, NONE : fsync 없음
+ * - ALWAYS 는 디스크 fsync 지연에 따라 결과 차이가 크므로 실제 배포 디스크에서 측정해야 함
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=UserPointJournalBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class UserPointJournalBenchmark {
+
+    @Param({"off", "ALWAYS", "INTERVAL", "NONE"})
+    public String fsync;
+
+    @Param({"100000"})
+    public int users;
+
+    private Path directory;
+    private UserPointJournal journal;
+    private UserPointCache userPointCache;
+    private UserKeys userKeys;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("user-point-journal");
+        journal = fsync.equals("off")
+                ? UserPointJournal.disabled()
+                : new UserPointJournal(true, directory.toString(), FsyncPolicy.valueOf(fsync), 10, 1_000_000);
+        userPointCache = new UserPointCache(new NoThrottleUserPointTable(), new PointMetrics(new SimpleMeterRegistry()),
+                journal, 4, 100_000);
+        userKeys = UserKeys.of("uniform", users);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        userPointCache.shutdown();
+        journal.close();
+        deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public UserPoint put() {
+        long userId = userKeys.next();
+        return userPointCache.put(userId, userId);
+    }
+
+    static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
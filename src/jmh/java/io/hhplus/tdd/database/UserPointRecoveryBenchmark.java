@@ -0,0 +1,62 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 저널 복구 시간 벤치마크
+ * - 사용자 수만큼의 스냅샷과 그 이후 로그(tailEntries 건)를 만들어 두고 시작 시 복구에 걸리는 시간 측정
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=UserPointRecoveryBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class UserPointRecoveryBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int users;
+
+    @Param({"100000"})
+    public int tailEntries;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("user-point-recovery");
+        ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>(users * 2);
+        UserPointJournal journal = new UserPointJournal(true, directory.toString(), FsyncPolicy.NONE, 10, Long.MAX_VALUE);
+        journal.open(balances);
+        for (long userId = 1; userId <= users; userId++) {
+            balances.put(userId, new UserPoint(userId, userId, userId));
+        }
+        journal.snapshot();
+        for (long i = 0; i < tailEntries; i++) { // 스냅샷 이후 변경 -> 로그로만 남음
+            UserPoint userPoint = new UserPoint(1 + i % users, i, i);
+            balances.put(userPoint.id(), userPoint);
+            journal.append(userPoint);
+        }
+        journal.sync();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        UserPointJournalBenchmark.deleteDirectory(directory);
+    }
+
+    // 기록 쓰레드를 시작하지 않는 recover 만 측정 (반복마다 새 로그 파일이 생기지 않도록)
+    @Benchmark
+    public int recover() throws IOException {
+        ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>(users * 2);
+        new UserPointJournal(true, directory.toString(), FsyncPolicy.NONE, 10, Long.MAX_VALUE).recover(balances);
+        return balances.size();
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.TablePointHistoryStore;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.util.StripedLockManager;
+import io.hhplus.tdd.util.UserKeys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 주요 경로 벤치마크
+ * - 쓰레드 수(1 / 4 / 16)는 하위 클래스별로, 사용자 분포(uniform / zipf)와 테이블 지연 여부는 @Param 으로 조합
+ * - throttle=false 이면 테이블 지연(최대 200~300ms)을 빼고 서비스/동시성 제어 비용만 측정
+ * - ledgerCharge : 같은 조건에서 락 없는 AtomicPointLedger 충전 비용 (비교용)
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=PointServiceBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class PointServiceBenchmark {
+
+    private static final long INITIAL_BALANCE = 5_000_000L;
+    private static final int HISTORIES_PER_USER = 10;
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    @Param({"false", "true"})
+    public boolean throttle;
+
+    private UserKeys userKeys;
+    private UserPointCache userPointCache;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+    private AtomicPointLedger ledger;
+
+    @Setup
+    public void setUp() {
+        UserPointTable userPointTable = throttle ? new UserPointTable() : new NoThrottleUserPointTable();
+        PointHistoryTable pointHistoryTable = throttle ? new PointHistoryTable() : new NoThrottlePointHistoryTable();
+        PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry()); // 지표 기록 비용까지 포함해서 측정
+
+        userKeys = UserKeys.of(distribution, users);
+        userPointCache = new UserPointCache(userPointTable, pointMetrics, 4, 100_000);
+        long id = 1;
+        for (long userId = 1; userId <= users; userId++) {
+            for (int i = 0; i < HISTORIES_PER_USER; i++) { // 이력 조회용 데이터는 인덱스에 바로 적재
+                pointHistoryIndex.append(new PointHistory(id++, userId, 100L, TransactionType.CHARGE, i));
+            }
+        }
+
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex);
+        PointSummaryAggregator pointSummaryAggregator = new PointSummaryAggregator(pointHistoryStore, "Asia/Seoul", 90); // 적재한 이력으로 집계 복구
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, pointMetrics, List.of(pointSummaryAggregator), 65_536, 256);
+        pointService = new PointService(userPointCache, pointHistoryWriter, pointHistoryStore, pointSummaryAggregator,
+                new StripedLockManager(64, false), HotAccountManager.disabled(), pointMetrics, HistoryDurability.ASYNC);
+        ledger = new AtomicPointLedger(users);
+    }
+
+    // 충전/사용이 최대 잔고나 잔액 부족에 걸리지 않도록 반복마다 잔액을 초기화
+    @Setup(Level.Iteration)
+    public void resetBalances() {
+        for (long userId = 1; userId <= users; userId++) {
+            userPointCache.put(userId, INITIAL_BALANCE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pointHistoryWriter.shutdown();
+        userPointCache.shutdown();
+    }
+
+    @Benchmark
+    public void chargePoint(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.chargePoint(userKeys.next(), 1L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void usePoint(Blackhole blackhole) {
+        try {
+            blackhole.consume(pointService.usePoint(userKeys.next(), 1L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public UserPoint getUserPoint() {
+        return pointService.getUserPoint(userKeys.next());
+    }
+
+    @Benchmark
+    public Object getUserHistories() {
+        return pointService.getUserHistories(userKeys.next());
+    }
+
+    // getUserHistories 로 받아 직접 합산하는 대신 집계 값을 조회
+    @Benchmark
+    public PointSummary getUserSummary() {
+        return pointService.getUserSummary(userKeys.next(), 7);
+    }
+
+    @Benchmark
+    public void ledgerCharge(Blackhole blackhole) {
+        try {
+            blackhole.consume(ledger.charge(userKeys.next(), 1L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Threads(1)
+    public static class Threads1 extends PointServiceBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends PointServiceBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends PointServiceBenchmark {
+    }
+}
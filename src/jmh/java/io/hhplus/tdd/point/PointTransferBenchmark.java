@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.NoThrottlePointHistoryTable;
+import io.hhplus.tdd.database.NoThrottleUserPointTable;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.TablePointHistoryStore;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.util.HotKeyDetector;
+import io.hhplus.tdd.util.StripedLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 이체 경합 벤치마크
+ * - disjoint : 쓰레드마다 자기 사용자 두 명 사이에서만 이체 (스트라이프가 겹치지 않으면 경합 없음)
+ * - overlapping : 모든 쓰레드가 임의의 사용자와 소수의 hot 계정(hotAccounts 명) 사이에서 이체 (같은 락에 몰림)
+ * - sharding=true 이면 hot 계정을 분산 잔액으로 처리 (HotAccountManager)
+ * - 테이블 지연 없이 락/캐시/이력 저장 비용만 측정
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=PointTransferBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class PointTransferBenchmark {
+
+    private static final long INITIAL_BALANCE = 5_000_000L;
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"disjoint", "overlapping"})
+    public String pattern;
+
+    @Param({"4"})
+    public int hotAccounts;
+
+    @Param({"false", "true"})
+    public boolean sharding;
+
+    private UserPointCache userPointCache;
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+
+    /**
+     * 쓰레드별 이체 대상 (disjoint 의 사용자 두 명)
+     */
+    @State(Scope.Thread)
+    public static class Pair {
+        long first;
+        long second;
+        boolean reverse;
+
+        @Setup
+        public void setUp(PointTransferBenchmark benchmark, ThreadParams threadParams) {
+            first = benchmark.hotAccounts + 1 + 2L * threadParams.getThreadIndex(); // hot 계정 다음 번호부터
+            second = first + 1;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        userPointCache = new UserPointCache(new NoThrottleUserPointTable(), pointMetrics, 4, 100_000);
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(new NoThrottlePointHistoryTable(), new PointHistoryIndex());
+        PointSummaryAggregator pointSummaryAggregator = new PointSummaryAggregator(pointHistoryStore, "Asia/Seoul", 90);
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, pointMetrics, List.of(pointSummaryAggregator), 65_536, 256);
+        HotAccountManager hotAccountManager = sharding
+                ? new HotAccountManager(new HotKeyDetector(1_000, 1_000, 4_096), 16)
+                : HotAccountManager.disabled();
+        pointService = new PointService(userPointCache, pointHistoryWriter, pointHistoryStore, pointSummaryAggregator,
+                new StripedLockManager(64, false), hotAccountManager, pointMetrics, HistoryDurability.ASYNC);
+        for (long userId = 1; userId <= users; userId++) {
+            userPointCache.put(userId, INITIAL_BALANCE);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pointHistoryWriter.shutdown();
+        userPointCache.shutdown();
+    }
+
+    @Benchmark
+    public void transfer(Pair pair, Blackhole blackhole) {
+        long from;
+        long to;
+        if (pattern.equals("disjoint")) {
+            from = pair.reverse ? pair.second : pair.first;
+            to = pair.reverse ? pair.first : pair.second;
+        } else { // 사용자 <-> hot 계정 (번갈아 방향을 바꿔 잔액이 한쪽으로 쏠리지 않게 함)
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long user = hotAccounts + 1 + random.nextInt(users - hotAccounts);
+            long hot = 1 + random.nextInt(hotAccounts);
+            from = pair.reverse ? hot : user;
+            to = pair.reverse ? user : hot;
+        }
+        pair.reverse = !pair.reverse;
+        try {
+            blackhole.consume(pointService.transferPoint(from, to, 1L));
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.util;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크용 사용자 ID 생성기
+ * - uniform : 1 ~ users 균등 분포
+ * - zipf : 소수의 사용자에게 요청이 몰리는 분포 (지수 1.0, 사용자 1이 가장 많이 선택됨)
+ */
+public final class UserKeys {
+
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private final int users;
+    private final double[] cdf; // zipf 누적 분포 (uniform 이면 null)
+
+    private UserKeys(int users, double[] cdf) {
+        this.users = users;
+        this.cdf = cdf;
+    }
+
+    public static UserKeys of(String distribution, int users) {
+        return switch (distribution) {
+            case "uniform" -> new UserKeys(users, null);
+            case "zipf" -> new UserKeys(users, zipfCdf(users));
+            default -> throw new IllegalArgumentException("지원하지 않는 분포입니다: " + distribution);
+        };
+    }
+
+    public long next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cdf == null) {
+            return 1 + random.nextInt(users);
+        }
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return 1 + Math.min(index, users - 1);
+    }
+
+    private static double[] zipfCdf(int users) {
+        double[] cdf = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1 / Math.pow(rank, ZIPF_EXPONENT);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserRequestExecutor 처리량 벤치마크
+ * - 한 번의 측정 = 사용자 BATCH 명에게 요청 하나씩 제출 후 모두 완료될 때까지 대기
+ * - 사용자 수 100만 명 중 일부에게만 요청이 가므로 대부분의 사용자는 쉬고 있는 상태
+ * - 작업은 짧은 CPU 작업(Blackhole.consumeCPU)이므로 워커가 모두 바쁘게 일하는지(코어 사용률)가 처리량에 드러남
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=UserRequestExecutorBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(UserRequestExecutorBenchmark.BATCH)
+public class UserRequestExecutorBenchmark {
+
+    static final int BATCH = 10_000;
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    @Param({"64", "1024"})
+    public long tokens; // 작업 하나의 CPU 작업량
+
+    private UserKeys userKeys;
+    private UserRequestExecutor executor;
+
+    @Setup
+    public void setUp() {
+        userKeys = UserKeys.of(distribution, users);
+        executor = new UserRequestExecutor(0, false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void submitAndJoin() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            futures[i] = executor.submit(userKeys.next(), () -> {
+                Blackhole.consumeCPU(tokens);
+                return null;
+            });
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserRequestQueue 작업 추가/꺼내기 벤치마크
+ * - 한 번의 측정 = 작업 추가(addToQueue) + 같은 사용자 큐에서 작업 꺼내기(getNextTask)
+ * - 쓰레드 수(1 / 4 / 16)는 하위 클래스별로, 사용자 분포(uniform / zipf)는 @Param 으로 조합
+ */
+// 실행) ./gradlew jmh -Pjmh.includes=UserRequestQueueBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class UserRequestQueueBenchmark {
+
+    private static final Runnable TASK = () -> {
+    };
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    private UserKeys userKeys;
+    private UserRequestQueue queue;
+
+    @Setup
+    public void setUp() {
+        userKeys = UserKeys.of(distribution, users);
+        queue = new UserRequestQueue();
+    }
+
+    @Benchmark
+    public Runnable enqueueDequeue() throws InterruptedException {
+        long userId = userKeys.next();
+        queue.addToQueue(userId, TASK);
+        return queue.getNextTask(userId); // 방금 추가했으므로 대기하지 않음
+    }
+
+    @Threads(1)
+    public static class Threads1 extends UserRequestQueueBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends UserRequestQueueBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends UserRequestQueueBenchmark {
+    }
+}
@@ -1,12 +1,49 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.database.PointHistoryUnavailableException;
+import io.hhplus.tdd.point.PointBatchTooLargeException;
+import io.hhplus.tdd.point.PointVersionMismatchException;
+import io.hhplus.tdd.util.IdempotencyKeyMismatchException;
+import io.hhplus.tdd.util.QueueOverflowException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // reactive 프로필의 오류 응답은 PointRouter 에서 처리
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    // 요청 대기열 과부하 -> 클라이언트가 잠시 후 재시도하도록 429
+    @ExceptionHandler(value = QueueOverflowException.class)
+    public ResponseEntity<ErrorResponse> handleQueueOverflow(QueueOverflowException e) {
+        return ResponseEntity.status(429).body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    // If-Match 버전 불일치 -> 클라이언트가 다시 조회한 뒤 재시도하도록 412
+    @ExceptionHandler(value = PointVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleVersionMismatch(PointVersionMismatchException e) {
+        return ResponseEntity.status(412).body(new ErrorResponse("412", e.getErrorCode().getMessage()));
+    }
+
+    // 일괄 처리 요청 건수 초과 -> 클라이언트가 요청을 나눠 보내도록 413
+    @ExceptionHandler(value = PointBatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLarge(PointBatchTooLargeException e) {
+        return ResponseEntity.status(413).body(new ErrorResponse("413", e.getErrorCode().getMessage()));
+    }
+
+    // 같은 Idempotency-Key 로 다른 요청 -> 클라이언트가 새 키로 보내도록 422
+    @ExceptionHandler(value = IdempotencyKeyMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(422).body(new ErrorResponse("422", e.getMessage()));
+    }
+
+    // SYNC 이력 저장을 보장하지 못함 -> 성공으로 응답하지 않고 503 (잔액 변경은 반영되었을 수 있음)
+    @ExceptionHandler(value = PointHistoryUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleHistoryUnavailable(PointHistoryUnavailableException e) {
+        return ResponseEntity.status(503).body(new ErrorResponse("503", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,30 @@
+package io.hhplus.tdd;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * reactive 프로필 웹 서버 설정
+ * - Tomcat 도 클래스패스에 있으므로 Netty 서버를 직접 등록 (등록하지 않으면 Tomcat 위에서 WebFlux 가 실행됨)
+ * - 이벤트 루프 쓰레드는 요청을 받아 넘기기만 하므로 CPU 코어 수 정도면 충분
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig {
+
+    /**
+     * @param eventLoopThreads 이벤트 루프 쓰레드 수 (0 이하이면 CPU 코어 수)
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(
+            @Value("${point.reactive.event-loop-threads:0}") int eventLoopThreads) {
+        int threads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(LoopResources.create("point-http", threads, true)));
+        return factory;
+    }
+}
@@ -3,6 +3,12 @@ package io.hhplus.tdd;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+/**
+ * 실행 모드
+ * - 기본 : 플랫폼 쓰레드 (Tomcat 요청 쓰레드 풀 + 사용자별 요청 워커)
+ * - virtual 프로필 : 요청 처리와 사용자별 요청 워커를 가상 쓰레드로 실행 (JDK 21 이상, --spring.profiles.active=virtual)
+ * - reactive 프로필 : Netty 이벤트 루프 + WebFlux 라우터(PointRouter)로 실행, 블로킹 조회는 전용 스케줄러에서 실행 (--spring.profiles.active=reactive)
+ */
 @SpringBootApplication
 public class TddApplication {
 
@@ -0,0 +1,394 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 힙 밖(direct ByteBuffer) 열 단위 포인트 이력 저장소
+ * - 사용자별로 이력을 BLOCK_ROWS 건씩 블록으로 묶고, 블록 안에서는 열(ID / 시각 / 금액 / 종류)별로 모아서 저장
+ * - ID와 시각은 앞 이력과의 차이, 금액은 부호 포함 값을 varint 로 인코딩 (이력 한 건에 보통 8~12바이트)
+ * - 블록이 찰 때까지의 마지막 이력은 힙의 작은 byte 배열에 행 단위로 인코딩해 두고, 가득 차면 열 단위로 다시 인코딩해서 힙 밖 chunk 에 기록
+ * - PointHistory 객체는 조회 결과로 반환할 이력만 만듦 (시각/종류 조건은 디코딩한 열 값으로 먼저 확인)
+ * - 메모리에만 있으므로 재시작하면 이력이 사라짐
+ */
+// 예) point.history.store=columnar -> 이력 1억 건이 힙 수 GB 대신 힙 밖 약 1GB
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "columnar")
+public class ColumnarPointHistoryStore implements PointHistoryStore {
+
+    static final int BLOCK_ROWS = 32; // 블록 하나의 이력 수
+    private static final int MAX_ROW_BYTES = 10 + 10 + 10 + 1; // varint 최대 10바이트 x 3열 + 종류 1바이트
+    private static final int MAX_BLOCK_BYTES = BLOCK_ROWS * MAX_ROW_BYTES;
+
+    private static final TransactionType[] TYPES = TransactionType.values(); // 종류 바이트 = ordinal
+
+    private final ConcurrentHashMap<Long, UserColumns> users = new ConcurrentHashMap<>();
+    private final Arena arena;
+    private final byte[] scratch = new byte[MAX_BLOCK_BYTES]; // 블록 인코딩 버퍼 (insert 에서만 사용)
+    private final Block sealing = new Block();                 // 봉인할 블록 디코딩 버퍼 (insert 에서만 사용)
+    private long nextId = 1; // insert 에서만 변경 (synchronized)
+
+    /**
+     * @param chunkBytes 힙 밖 메모리를 한 번에 할당하는 크기
+     */
+    public ColumnarPointHistoryStore(@Value("${point.history.columnar.chunk-bytes:4194304}") int chunkBytes) {
+        if (chunkBytes < MAX_BLOCK_BYTES) {
+            throw new IllegalArgumentException("chunk 크기는 " + MAX_BLOCK_BYTES + "바이트 이상이어야 합니다.");
+        }
+        this.arena = new Arena(chunkBytes);
+    }
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long id = nextId++;
+        UserColumns columns = users.computeIfAbsent(userId, key -> new UserColumns());
+        columns.append(id, amount, (byte) type.ordinal(), updateMillis);
+        if (columns.isTailFull()) { // 블록이 가득 참 -> 열 단위로 인코딩해서 힙 밖으로
+            columns.seal(this::encode);
+        }
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = new ArrayList<>();
+        scan(userId, PointHistoryQuery.all(), histories::add);
+        return histories.isEmpty() ? List.of() : List.copyOf(histories);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), BLOCK_ROWS));
+        boolean[] hasNext = new boolean[1];
+        scan(userId, query, pointHistory -> {
+            if (histories.size() == query.limit()) { // limit 건을 채운 뒤 조건에 맞는 이력이 더 있으면 다음 페이지 존재
+                hasNext[0] = true;
+                return false;
+            }
+            return histories.add(pointHistory);
+        });
+        return new PointHistoryPage(histories, hasNext[0] ? histories.get(histories.size() - 1).id() : null);
+    }
+
+    @Override
+    public void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        scan(userId, query, pointHistory -> {
+            consumer.accept(pointHistory);
+            return true;
+        });
+    }
+
+    /**
+     * 전체 이력 순회
+     * - 사용자별로 저장 순서대로 전달 (사용자 사이의 순서는 보장하지 않음)
+     */
+    @Override
+    public void forEachAll(Consumer<PointHistory> consumer) {
+        for (Long userId : users.keySet()) {
+            forEach(userId, PointHistoryQuery.all(), consumer);
+        }
+    }
+
+    /**
+     * 저장된 이력 수
+     */
+    public synchronized long size() {
+        return nextId - 1;
+    }
+
+    /**
+     * 할당된 힙 밖 메모리 크기 (chunk 단위)
+     */
+    public synchronized long getOffHeapBytes() {
+        return arena.allocatedBytes();
+    }
+
+    /**
+     * 인코딩된 블록이 차지하는 힙 밖 메모리 크기
+     */
+    public synchronized long getEncodedBytes() {
+        return arena.usedBytes();
+    }
+
+    /**
+     * cursor 이후의 조건에 맞는 이력을 순서대로 전달
+     * - cursor 가 있으면 블록 첫 ID로 시작 블록을 바로 찾음
+     * @param visitor false 를 반환하면 중단
+     */
+    private void scan(long userId, PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        UserColumns columns = users.get(userId);
+        if (columns == null) {
+            return;
+        }
+        View view = columns.view();
+        Block block = new Block();
+        for (int index = view.firstBlockAfter(query.cursor()); index < view.blockCount(); index++) {
+            decode(view, index, block);
+            if (!visit(userId, block.ids, block.millis, block.amounts, block.types, BLOCK_ROWS, query, visitor)) {
+                return;
+            }
+        }
+        decodeTail(view.tail(), view.tailRows(), block);
+        visit(userId, block.ids, block.millis, block.amounts, block.types, view.tailRows(), query, visitor);
+    }
+
+    // 열 값으로 조건을 확인하고 맞는 이력만 PointHistory 로 만듦
+    private static boolean visit(long userId, long[] ids, long[] millis, long[] amounts, byte[] types, int rows,
+                                 PointHistoryQuery query, Predicate<PointHistory> visitor) {
+        for (int row = 0; row < rows; row++) {
+            if (ids[row] <= query.cursor() || !query.matches(millis[row], TYPES[types[row]])) {
+                continue;
+            }
+            if (!visitor.test(new PointHistory(ids[row], userId, amounts[row], TYPES[types[row]], millis[row]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 블록 인코딩 (insert 안에서 호출)
+     * - [ID 차이 x (BLOCK_ROWS - 1)] [시각 차이 x (BLOCK_ROWS - 1)] [금액 x BLOCK_ROWS] [종류 x BLOCK_ROWS]
+     * - 첫 ID와 첫 시각은 힙의 블록 목록에 보관 (cursor 탐색용)
+     * @param tail 가득 찬 마지막 블록 (행 단위 인코딩)
+     * @return 힙 밖 위치
+     */
+    private long encode(byte[] tail) {
+        decodeTail(tail, BLOCK_ROWS, sealing);
+        long[] ids = sealing.ids;
+        long[] millis = sealing.millis;
+        long[] amounts = sealing.amounts;
+        byte[] types = sealing.types;
+        int position = 0;
+        for (int row = 1; row < BLOCK_ROWS; row++) {
+            position = writeVarint(scratch, position, ids[row] - ids[row - 1]);
+        }
+        for (int row = 1; row < BLOCK_ROWS; row++) {
+            position = writeVarint(scratch, position, zigzag(millis[row] - millis[row - 1]));
+        }
+        for (int row = 0; row < BLOCK_ROWS; row++) {
+            position = writeVarint(scratch, position, zigzag(amounts[row]));
+        }
+        System.arraycopy(types, 0, scratch, position, BLOCK_ROWS);
+        return arena.write(scratch, position + BLOCK_ROWS);
+    }
+
+    private void decode(View view, int index, Block block) {
+        long ref = view.blockRefs()[index];
+        ByteBuffer chunk = arena.chunk(ref);
+        block.position = (int) ref;
+        block.ids[0] = view.blockFirstIds()[index];
+        block.millis[0] = view.blockFirstMillis()[index];
+        for (int row = 1; row < BLOCK_ROWS; row++) {
+            block.ids[row] = block.ids[row - 1] + block.readVarint(chunk);
+        }
+        for (int row = 1; row < BLOCK_ROWS; row++) {
+            block.millis[row] = block.millis[row - 1] + unzigzag(block.readVarint(chunk));
+        }
+        for (int row = 0; row < BLOCK_ROWS; row++) {
+            block.amounts[row] = unzigzag(block.readVarint(chunk));
+        }
+        chunk.get(block.position, block.types, 0, BLOCK_ROWS);
+    }
+
+    // 마지막 블록 디코딩 : 행마다 [ID 차이] [시각 차이] [금액] [종류] (첫 행은 0과의 차이)
+    private static void decodeTail(byte[] tail, int rows, Block block) {
+        ByteBuffer buffer = ByteBuffer.wrap(tail);
+        block.position = 0;
+        long id = 0;
+        long millis = 0;
+        for (int row = 0; row < rows; row++) {
+            id += block.readVarint(buffer);
+            millis += unzigzag(block.readVarint(buffer));
+            block.ids[row] = id;
+            block.millis[row] = millis;
+            block.amounts[row] = unzigzag(block.readVarint(buffer));
+            block.types[row] = buffer.get(block.position++);
+        }
+    }
+
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * 블록 인코딩 함수
+     */
+    @FunctionalInterface
+    private interface BlockEncoder {
+        long encode(byte[] tail);
+    }
+
+    /**
+     * 사용자 한 명의 이력 열
+     * - 봉인된 블록 : 힙 밖 위치와 첫 ID / 첫 시각만 힙에 보관
+     * - 마지막 블록 : 행 단위 varint 로 인코딩한 힙 byte 배열 (가득 차면 봉인하고 새 배열로 교체)
+     * - 배열의 앞쪽 칸은 다시 쓰이지 않으므로 view 는 복사 없이 읽을 수 있음
+     */
+    private static final class UserColumns {
+        private static final long[] NO_LONGS = new long[0];
+
+        private long[] blockRefs = NO_LONGS;
+        private long[] blockFirstIds = NO_LONGS;
+        private long[] blockFirstMillis = NO_LONGS;
+        private int blockCount;
+
+        private byte[] tail = new byte[16];
+        private int tailLength;
+        private int tailRows;
+        private long tailFirstId;     // 봉인할 때 블록 목록에 보관
+        private long tailFirstMillis;
+        private long lastId;          // 다음 행의 차이 계산용 (마지막 블록 안에서만 사용)
+        private long lastMillis;
+
+        synchronized void append(long id, long amount, byte type, long updateMillis) {
+            if (tailLength + MAX_ROW_BYTES > tail.length) { // 16 -> 32 -> ... (최대 MAX_BLOCK_BYTES)
+                tail = Arrays.copyOf(tail, Math.min(tail.length * 2, MAX_BLOCK_BYTES));
+            }
+            if (tailRows == 0) {
+                tailFirstId = id;
+                tailFirstMillis = updateMillis;
+            }
+            tailLength = writeVarint(tail, tailLength, id - lastId);
+            tailLength = writeVarint(tail, tailLength, zigzag(updateMillis - lastMillis));
+            tailLength = writeVarint(tail, tailLength, zigzag(amount));
+            tail[tailLength++] = type;
+            tailRows++;
+            lastId = id;
+            lastMillis = updateMillis;
+        }
+
+        synchronized boolean isTailFull() {
+            return tailRows == BLOCK_ROWS;
+        }
+
+        synchronized void seal(BlockEncoder encoder) {
+            long ref = encoder.encode(tail);
+            if (blockCount == blockRefs.length) {
+                int capacity = Math.max(4, blockCount * 2);
+                blockRefs = Arrays.copyOf(blockRefs, capacity);
+                blockFirstIds = Arrays.copyOf(blockFirstIds, capacity);
+                blockFirstMillis = Arrays.copyOf(blockFirstMillis, capacity);
+            }
+            blockRefs[blockCount] = ref;
+            blockFirstIds[blockCount] = tailFirstId;
+            blockFirstMillis[blockCount] = tailFirstMillis;
+            blockCount++;
+            tail = new byte[16]; // 이전 배열은 view 가 읽고 있을 수 있으므로 재사용하지 않음
+            tailLength = 0;
+            tailRows = 0;
+            lastId = 0;
+            lastMillis = 0;
+        }
+
+        synchronized View view() {
+            return new View(blockRefs, blockFirstIds, blockFirstMillis, blockCount, tail, tailRows);
+        }
+    }
+
+    /**
+     * 사용자 이력 열의 특정 시점 모습 (복사 없음)
+     */
+    private record View(long[] blockRefs, long[] blockFirstIds, long[] blockFirstMillis, int blockCount,
+                        byte[] tail, int tailRows) {
+
+        // cursor 보다 큰 ID가 있을 수 있는 첫 블록 (첫 ID가 cursor 이하인 마지막 블록)
+        int firstBlockAfter(long cursor) {
+            int index = Arrays.binarySearch(blockFirstIds, 0, blockCount, cursor);
+            return index >= 0 ? index : Math.max(0, -index - 2);
+        }
+    }
+
+    /**
+     * 블록 디코딩 버퍼 (조회 한 번 동안 재사용)
+     */
+    private static final class Block {
+        final long[] ids = new long[BLOCK_ROWS];
+        final long[] millis = new long[BLOCK_ROWS];
+        final long[] amounts = new long[BLOCK_ROWS];
+        final byte[] types = new byte[BLOCK_ROWS];
+        int position;
+
+        long readVarint(ByteBuffer chunk) {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = chunk.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * 힙 밖 메모리 할당기
+     * - chunkBytes 크기의 direct ByteBuffer 를 순서대로 채움 (해제 없음, 이력은 추가만 됨)
+     * - 위치 = chunk 번호 << 32 | chunk 안의 offset
+     */
+    private static final class Arena {
+        private final int chunkBytes;
+        private volatile ByteBuffer[] chunks = new ByteBuffer[0];
+        private int offset;
+        private long used;
+
+        Arena(int chunkBytes) {
+            this.chunkBytes = chunkBytes;
+        }
+
+        // insert 안에서만 호출 (쓰기는 한 쓰레드)
+        long write(byte[] bytes, int length) {
+            ByteBuffer[] current = chunks;
+            if (current.length == 0 || offset + length > chunkBytes) { // 남은 공간 부족 -> 새 chunk
+                current = Arrays.copyOf(current, current.length + 1);
+                current[current.length - 1] = ByteBuffer.allocateDirect(chunkBytes);
+                chunks = current;
+                offset = 0;
+            }
+            int index = current.length - 1;
+            current[index].put(offset, bytes, 0, length);
+            long ref = (long) index << 32 | offset;
+            offset += length;
+            used += length;
+            return ref;
+        }
+
+        ByteBuffer chunk(long ref) {
+            return chunks[(int) (ref >>> 32)];
+        }
+
+        long allocatedBytes() {
+            return (long) chunks.length * chunkBytes;
+        }
+
+        long usedBytes() {
+            return used;
+        }
+    }
+}
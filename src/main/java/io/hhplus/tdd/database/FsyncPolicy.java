@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 저널 fsync 정책
+ * - ALWAYS : 변경 요청은 자신의 기록이 fsync 될 때까지 대기 (동시에 들어온 기록은 fsync 한 번으로 묶음, group commit)
+ * - INTERVAL : 일정 간격마다 모아서 fsync, 요청은 대기하지 않음 (OS 장애 시 마지막 간격만큼 유실 가능)
+ * - NONE : OS 페이지 캐시에 쓰기만 하고 fsync 하지 않음 (프로세스 종료에는 안전, OS 장애 시 유실 가능)
+ */
+public enum FsyncPolicy {
+    ALWAYS, INTERVAL, NONE
+}
@@ -0,0 +1,217 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 내장 H2 기반 포인트 이력 저장소 (point_history 테이블)
+ * - 이력 ID는 저장소가 직접 부여 (시작 시 MAX(id) 다음부터) -> 자동 증가 키를 다시 읽지 않고 batch 로 저장
+ * - 묶음마다 건수만큼 ID를 AtomicLong 으로 한 번에 예약하므로 저장 쓰레드끼리 락 없이 동시에 저장
+ *   (한 사용자는 항상 같은 저장 쓰레드가 저장하므로 사용자별로는 ID 순서 = 저장 순서)
+ * - insertAll 은 INSERT 한 문장을 JDBC batch 로 묶어 한 트랜잭션에 처리 (PointHistoryWriter 의 batch-size 건까지 commit 1번)
+ * - 사용자별 조회는 (user_id, id) 인덱스를 따라 읽으므로 정렬하지 않고, cursor 조건도 인덱스 범위로 처리
+ * - 시간 범위 / 종류 조건은 SQL 로 걸러 조건에 맞는 행만 가져옴
+ */
+// 예) point.history.store=jdbc -> SELECT ... WHERE user_id = 1 AND id > 120 ORDER BY id LIMIT 51 (인덱스 범위 조회)
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "jdbc")
+public class JdbcPointHistoryStore implements PointHistoryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPointHistoryStore.class);
+
+    private static final String INSERT =
+            "INSERT INTO point_history (id, user_id, amount, type, update_millis) VALUES (?, ?, ?, ?, ?)";
+    private static final String COLUMNS = "SELECT id, user_id, amount, type, update_millis FROM point_history";
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final TransactionType[] TYPES = TransactionType.values(); // type 컬럼 = ordinal (새 종류는 뒤에 추가)
+
+    private final PointDatabase database;
+    private final AtomicLong nextId;
+
+    public JdbcPointHistoryStore(PointDatabase database) {
+        this.database = database;
+        long maxId = selectMaxId();
+        this.nextId = new AtomicLong(maxId + 1);
+        log.info("포인트 이력 테이블 연결 - 마지막 이력 ID: {}", maxId);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return insertAll(List.of(new NewHistory(userId, amount, type, updateMillis))).get(0);
+    }
+
+    /**
+     * 이력 일괄 저장
+     * - 한 트랜잭션으로 저장하므로 실패하면 모두 저장되지 않음
+     * - 실패한 묶음에 예약한 ID는 다시 사용하지 않으므로 ID 사이에 빈 번호가 생길 수 있음 (재시도하면 새 ID)
+     */
+    // 예) 쓰레드 A 가 101~150, 쓰레드 B 가 151~200 을 예약하고 각자 저장 -> A 가 실패하면 101~150 은 비어 있음
+    @Override
+    public List<PointHistory> insertAll(List<NewHistory> histories) {
+        List<PointHistory> inserted = new ArrayList<>(histories.size());
+        long id = nextId.getAndAdd(histories.size());
+        try (Connection connection = database.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                for (NewHistory history : histories) {
+                    statement.setLong(1, id);
+                    statement.setLong(2, history.userId());
+                    statement.setLong(3, history.amount());
+                    statement.setByte(4, (byte) history.type().ordinal());
+                    statement.setLong(5, history.updateMillis());
+                    statement.addBatch();
+                    inserted.add(new PointHistory(id++, history.userId(), history.amount(), history.type(), history.updateMillis()));
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // 풀에 반납하기 전에 원래대로
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("포인트 이력을 저장할 수 없습니다. 이력 수: " + histories.size(), e);
+        }
+        return inserted;
+    }
+
+    /**
+     * 한 트랜잭션으로 저장하므로 묶음 크기는 PointHistoryWriter 의 batch-size 만 따름
+     */
+    @Override
+    public int maxBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = new ArrayList<>();
+        forEach(userId, PointHistoryQuery.all(), histories::add);
+        return histories;
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), PointHistoryQuery.MAX_LIMIT));
+        // limit 건보다 1건 더 읽어 다음 페이지가 있는지 확인
+        boolean hasNext = select(userId, query, (long) query.limit() + 1, pointHistory -> {
+            if (histories.size() < query.limit()) {
+                histories.add(pointHistory);
+            }
+        }) > query.limit();
+        return new PointHistoryPage(histories, hasNext ? histories.get(histories.size() - 1).id() : null);
+    }
+
+    @Override
+    public void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        select(userId, query, 0, consumer);
+    }
+
+    /**
+     * 전체 이력 순회
+     * - 저장된 순서(ID 순)대로 전달
+     */
+    @Override
+    public void forEachAll(Consumer<PointHistory> consumer) {
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COLUMNS + " ORDER BY id")) {
+            statement.setFetchSize(FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(read(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("포인트 이력을 조회할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 조건에 맞는 사용자 이력을 ID 순으로 전달
+     * - 조건 조합마다 SQL 이 달라지지만 조합은 8가지뿐이라 모두 연결별 statement cache 에 남음
+     * @param limit 최대 건수 (0 이면 제한 없음)
+     * @return 전달한 건수
+     */
+    private int select(long userId, PointHistoryQuery query, long limit, Consumer<PointHistory> consumer) {
+        StringBuilder sql = new StringBuilder(COLUMNS).append(" WHERE user_id = ? AND id > ?");
+        if (query.from() != null) {
+            sql.append(" AND update_millis >= ?");
+        }
+        if (query.to() != null) {
+            sql.append(" AND update_millis < ?");
+        }
+        if (query.type() != null) {
+            sql.append(" AND type = ?");
+        }
+        sql.append(" ORDER BY id");
+        if (limit > 0) {
+            sql.append(" LIMIT ?");
+        }
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            statement.setLong(index++, userId);
+            statement.setLong(index++, query.cursor());
+            if (query.from() != null) {
+                statement.setLong(index++, query.from());
+            }
+            if (query.to() != null) {
+                statement.setLong(index++, query.to());
+            }
+            if (query.type() != null) {
+                statement.setByte(index++, (byte) query.type().ordinal());
+            }
+            if (limit > 0) {
+                statement.setLong(index, limit);
+            }
+            statement.setFetchSize(FETCH_SIZE);
+            int count = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(read(resultSet));
+                    count++;
+                }
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new IllegalStateException("포인트 이력을 조회할 수 없습니다. 사용자: " + userId, e);
+        }
+    }
+
+    private long selectMaxId() {
+        try (Connection connection = database.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM point_history")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("포인트 이력 테이블을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PointHistory read(ResultSet resultSet) throws SQLException {
+        return new PointHistory(resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3),
+                TYPES[resultSet.getByte(4)],
+                resultSet.getLong(5));
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 내장 H2 기반 사용자 포인트 저장소 (user_point 테이블)
+ * - 저장은 MERGE 한 문장을 JDBC batch 로 묶어 한 트랜잭션에 처리 (사용자 batch-size 명까지 왕복 1번, commit 1번)
+ * - UserPointCache 의 저장 쓰레드마다 담당 사용자가 나뉘어 있으므로 batch 끼리 같은 행을 두고 다투지 않음
+ * - 재시작 후에도 잔액이 유지됨 (파일 URL 사용 시)
+ */
+// 예) point.user-point.store=jdbc, point.jdbc.batch-size=256 -> 저장 대기 사용자 1,000명은 MERGE batch 4번
+@Component
+@ConditionalOnProperty(name = "point.user-point.store", havingValue = "jdbc")
+public class JdbcUserPointStore implements UserPointStore {
+
+    private static final String SELECT_BY_ID = "SELECT point, update_millis FROM user_point WHERE id = ?";
+    private static final String MERGE = "MERGE INTO user_point (id, point, update_millis) KEY (id) VALUES (?, ?, ?)";
+
+    private final PointDatabase database;
+    private final int batchSize;
+
+    /**
+     * @param batchSize 한 번에 저장하는 최대 사용자 수
+     */
+    public JdbcUserPointStore(PointDatabase database, @Value("${point.jdbc.batch-size:256}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch 크기는 0 이하일 수 없습니다.");
+        }
+        this.database = database;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        try (Connection connection = database.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next()
+                        ? new UserPoint(id, resultSet.getLong(1), resultSet.getLong(2))
+                        : UserPoint.empty(id);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("사용자 포인트를 조회할 수 없습니다. 사용자: " + id, e);
+        }
+    }
+
+    @Override
+    public void insertOrUpdateAll(List<UserPoint> userPoints) {
+        try (Connection connection = database.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(MERGE)) {
+                for (UserPoint userPoint : userPoints) {
+                    statement.setLong(1, userPoint.id());
+                    statement.setLong(2, userPoint.point());
+                    statement.setLong(3, userPoint.updateMillis());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true); // 풀에 반납하기 전에 원래대로
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("사용자 포인트를 저장할 수 없습니다. 사용자 수: " + userPoints.size(), e);
+        }
+    }
+
+    @Override
+    public int maxBatchSize() {
+        return batchSize;
+    }
+}
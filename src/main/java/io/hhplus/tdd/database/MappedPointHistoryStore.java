@@ -0,0 +1,489 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 맵 파일 기반 포인트 이력 저장소
+ * - 이력을 33바이트 고정 길이 레코드로 세그먼트 파일에 추가만 함 (id 8 | userId 8 | amount 8 | type 1 | updateMillis 8)
+ * - 세그먼트 파일은 레코드 records-per-segment 건 크기로 미리 만들어 메모리에 매핑하고, 가득 차면 다음 파일로 넘어감
+ * - 가득 찬 세그먼트는 봉인하면서 사용자별 색인을 파일의 레코드 영역 뒤에 기록 (사용자 ID 순 목록 + 사용자별 레코드 위치)
+ * - 이력 본문과 봉인된 세그먼트의 색인은 힙 밖(페이지 캐시)에 있고, 힙에는 마지막(봉인 전) 세그먼트의 사용자별 이력 ID 목록만 보관
+ * - 이력 ID = 레코드 위치 + 1 이므로 ID만으로 파일 위치를 바로 계산 (조회 시 파일 전체를 읽거나 복사하지 않음)
+ * - 사용자별 조회는 cursor 이후의 봉인된 세그먼트마다 색인을 이진 탐색한 뒤 마지막 세그먼트의 ID 목록을 읽음
+ * - 재시작 시 봉인된 세그먼트는 색인만 다시 매핑하고, 레코드는 마지막 세그먼트만 읽음 (복구 비용은 전체 이력 수가 아니라 세그먼트 하나 크기)
+ * - 프로세스가 죽어도 매핑된 페이지는 OS 가 기록하지만, OS 장애 대비는 종료 시 force 로만 보장 (색인은 기록 직후 force)
+ */
+// 예) point.history.store=mapped, records-per-segment=1048576 -> 세그먼트 파일 하나 약 33MB + 봉인 시 색인 약 4MB ~ 20MB
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "mapped")
+public class MappedPointHistoryStore implements PointHistoryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPointHistoryStore.class);
+
+    static final int RECORD_SIZE = 33;
+    private static final int ID = 0;
+    private static final int USER_ID = 8;
+    private static final int AMOUNT = 16;
+    private static final int TYPE = 24;
+    private static final int UPDATE_MILLIS = 25;
+
+    // 색인 = 사용자 수 4 | (userId 8 | 시작 위치 4 | 건수 4) x 사용자 수 | 레코드 위치 4 x 레코드 수 | INDEX_MAGIC 8
+    private static final int INDEX_ENTRY_SIZE = 16;
+    private static final long INDEX_MAGIC = 0x5048_4944_5831_4C4EL; // 색인 끝 표시 (이 값까지 기록되어야 완성된 색인)
+
+    private static final TransactionType[] TYPES = TransactionType.values(); // type 바이트 = ordinal (새 종류는 뒤에 추가)
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private volatile State state = new State(new MappedByteBuffer[0], new SegmentIndex[0], new ConcurrentHashMap<>());
+    private long nextId = 1; // insert 에서만 변경 (synchronized)
+    private long recoveredRecords; // 복구 시 색인 없이 직접 읽은 레코드 수
+
+    /**
+     * @param directory 세그먼트 파일 디렉터리
+     * @param recordsPerSegment 세그먼트 파일 하나의 레코드 수
+     */
+    public MappedPointHistoryStore(@Value("${point.history.mapped.directory:data/point-history}") String directory,
+                                   @Value("${point.history.mapped.records-per-segment:1048576}") int recordsPerSegment) {
+        if (recordsPerSegment <= 0 || (long) recordsPerSegment * RECORD_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("세그먼트 레코드 수는 1 ~ " + Integer.MAX_VALUE / RECORD_SIZE + " 사이여야 합니다.");
+        }
+        this.directory = Path.of(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        recover();
+    }
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        long id = nextId;
+        long position = id - 1;
+        int segment = (int) (position / recordsPerSegment);
+        State current = state;
+        boolean grow = segment == current.segments().length;   // 세그먼트가 가득 참 -> 다음 파일
+        boolean seal = segment > current.sealed().length;      // 앞 세그먼트가 가득 참 -> 색인을 기록하고 봉인
+        if (grow || seal) {
+            MappedByteBuffer[] segments = current.segments();
+            if (grow) {
+                segments = Arrays.copyOf(segments, segment + 1);
+                segments[segment] = map(segment);
+            }
+            SegmentIndex[] sealed = current.sealed();
+            if (seal) {
+                sealed = Arrays.copyOf(sealed, segment);
+                sealed[segment - 1] = seal(segment - 1, current.tail());
+            }
+            current = new State(segments, sealed, new ConcurrentHashMap<>()); // 봉인 전 상태를 읽은 조회는 이전 ID 목록을 그대로 사용
+        }
+        MappedByteBuffer buffer = current.segments()[segment];
+        int offset = (int) (position % recordsPerSegment) * RECORD_SIZE;
+        buffer.putLong(offset + USER_ID, userId);
+        buffer.putLong(offset + AMOUNT, amount);
+        buffer.put(offset + TYPE, (byte) type.ordinal());
+        buffer.putLong(offset + UPDATE_MILLIS, updateMillis);
+        buffer.putLong(offset + ID, id); // ID를 마지막에 기록 (ID가 0이 아니어야 완성된 레코드)
+        nextId = id + 1;
+        current.tail().computeIfAbsent(userId, key -> new IdList()).append(id);
+        state = current;
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = new ArrayList<>();
+        visit(userId, 0, histories::add);
+        return List.copyOf(histories);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), PointHistoryQuery.MAX_LIMIT));
+        boolean hasNext = !visit(userId, query.cursor(), pointHistory -> {
+            if (!query.matches(pointHistory)) {
+                return true;
+            }
+            if (histories.size() == query.limit()) { // limit 건을 채운 뒤 조건에 맞는 이력이 더 있으면 다음 페이지 존재
+                return false;
+            }
+            return histories.add(pointHistory);
+        });
+        return new PointHistoryPage(histories, hasNext ? histories.get(histories.size() - 1).id() : null);
+    }
+
+    @Override
+    public void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        visit(userId, query.cursor(), pointHistory -> {
+            if (query.matches(pointHistory)) {
+                consumer.accept(pointHistory);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * 전체 이력 순회
+     * - 파일에 저장된 순서(ID 순)대로 전달
+     */
+    @Override
+    public void forEachAll(Consumer<PointHistory> consumer) {
+        long last = size(); // 호출 시점까지 기록이 끝난 이력
+        State current = state;
+        for (long id = 1; id <= last; id++) {
+            consumer.accept(read(current, id));
+        }
+    }
+
+    /**
+     * 저장된 이력 수
+     */
+    public synchronized long size() {
+        return nextId - 1;
+    }
+
+    /**
+     * 시작 시 색인 없이 직접 읽은 레코드 수 (봉인되지 않은 마지막 세그먼트의 레코드 수)
+     */
+    long getRecoveredRecordCount() {
+        return recoveredRecords;
+    }
+
+    /**
+     * 종료
+     * - 매핑된 페이지를 디스크에 기록
+     */
+    @PreDestroy
+    public synchronized void close() {
+        for (MappedByteBuffer segment : state.segments()) {
+            segment.force();
+        }
+        log.info("포인트 이력 세그먼트 저장 완료 - 이력 수: {}, 세그먼트 수: {}", nextId - 1, state.segments().length);
+    }
+
+    /**
+     * 사용자 이력을 cursor 이후부터 ID 순으로 전달
+     * - 봉인된 세그먼트는 색인으로, 마지막 세그먼트는 힙의 ID 목록으로 찾음
+     * @param visitor false 를 반환하면 중단
+     * @return 끝까지 전달했으면 true, 중단했으면 false
+     */
+    private boolean visit(long userId, long cursor, Predicate<PointHistory> visitor) {
+        State current = state;
+        SegmentIndex[] sealed = current.sealed();
+        for (int segment = (int) Math.min(Math.max(cursor, 0) / recordsPerSegment, sealed.length); segment < sealed.length; segment++) {
+            SegmentIndex index = sealed[segment];
+            int entry = index.find(userId);
+            if (entry < 0) {
+                continue;
+            }
+            int end = index.start(entry) + index.count(entry);
+            for (int i = index.firstAfter(index.start(entry), end, cursor); i < end; i++) {
+                if (!visitor.test(read(current, index.id(i)))) {
+                    return false;
+                }
+            }
+        }
+        IdList ids = current.tail().get(userId);
+        if (ids == null) {
+            return true;
+        }
+        IdView view = ids.view();
+        for (int i = view.firstAfter(cursor); i < view.size(); i++) {
+            if (!visitor.test(read(current, view.ids()[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ID 목록이나 size() 를 읽은 뒤 호출되므로 해당 레코드 기록이 끝난 상태 (동기화로 보장)
+    private PointHistory read(State current, long id) {
+        long position = id - 1;
+        MappedByteBuffer buffer = current.segments()[(int) (position / recordsPerSegment)];
+        int offset = (int) (position % recordsPerSegment) * RECORD_SIZE;
+        return new PointHistory(id,
+                buffer.getLong(offset + USER_ID),
+                buffer.getLong(offset + AMOUNT),
+                TYPES[buffer.get(offset + TYPE)],
+                buffer.getLong(offset + UPDATE_MILLIS));
+    }
+
+    /**
+     * 기존 세그먼트 복구
+     * - 세그먼트를 순서대로 매핑하고, 완성된 색인이 있는 세그먼트는 색인만 매핑 (레코드를 읽지 않음)
+     * - 색인이 없는 첫 세그먼트부터 ID가 0인(기록되지 않은) 첫 레코드까지 읽어 ID 목록을 만듦
+     * - 읽은 세그먼트가 가득 차 있으면(봉인 전에 종료) 색인을 기록하고 다음 세그먼트로 넘어감
+     */
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            int count;
+            try (Stream<Path> files = Files.list(directory)) {
+                count = (int) files.filter(file -> file.getFileName().toString().matches("segment-\\d{8}\\.dat")).count();
+            }
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int segment = 0; segment < count; segment++) {
+                segments[segment] = map(segment);
+            }
+
+            List<SegmentIndex> sealed = new ArrayList<>();
+            ConcurrentHashMap<Long, IdList> tail = new ConcurrentHashMap<>();
+            int tailRecords = 0;
+            for (int segment = 0; segment < count; segment++) {
+                SegmentIndex index = openIndex(segment);
+                if (index != null) {
+                    sealed.add(index);
+                    continue;
+                }
+                tailRecords = scan(segments[segment], segment, tail);
+                recoveredRecords += tailRecords;
+                if (tailRecords < recordsPerSegment) { // 기록되지 않은 레코드 -> 여기까지가 유효한 이력
+                    break;
+                }
+                sealed.add(seal(segment, tail));
+                tail = new ConcurrentHashMap<>();
+                tailRecords = 0;
+            }
+            state = new State(segments, sealed.toArray(SegmentIndex[]::new), tail);
+            nextId = (long) sealed.size() * recordsPerSegment + tailRecords + 1;
+            log.info("포인트 이력 세그먼트 복구 완료 - 이력 수: {}, 세그먼트 수: {}, 색인 없이 읽은 레코드 수: {}",
+                    nextId - 1, count, recoveredRecords);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 이력 세그먼트를 열 수 없습니다. " + directory, e);
+        }
+    }
+
+    /**
+     * 세그먼트 레코드를 처음부터 읽어 사용자별 ID 목록에 추가
+     * @return 기록이 끝난 레코드 수
+     */
+    private int scan(MappedByteBuffer buffer, int segment, Map<Long, IdList> users) {
+        long firstId = (long) segment * recordsPerSegment + 1;
+        for (int slot = 0; slot < recordsPerSegment; slot++) {
+            int offset = slot * RECORD_SIZE;
+            long id = buffer.getLong(offset + ID);
+            if (id != firstId + slot) { // 기록되지 않았거나 완성되지 않은 레코드
+                return slot;
+            }
+            users.computeIfAbsent(buffer.getLong(offset + USER_ID), key -> new IdList()).append(id);
+        }
+        return recordsPerSegment;
+    }
+
+    /**
+     * 가득 찬 세그먼트 봉인
+     * - 사용자별 ID 목록을 색인으로 만들어 레코드 영역 뒤에 기록하고, 힙 대신 매핑한 색인을 사용
+     * - 색인 본문을 force 한 뒤 끝 표시를 기록하므로, 끝 표시가 있으면 색인 전체가 기록된 상태
+     */
+    private SegmentIndex seal(int segment, Map<Long, IdList> users) {
+        long firstId = (long) segment * recordsPerSegment + 1;
+        long[] userIds = users.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int length = 4 + userIds.length * INDEX_ENTRY_SIZE + recordsPerSegment * 4;
+        ByteBuffer index = ByteBuffer.allocate(length + 8);
+        index.putInt(userIds.length);
+        int start = 0;
+        for (long userId : userIds) {
+            int count = users.get(userId).view().size();
+            index.putLong(userId).putInt(start).putInt(count);
+            start += count;
+        }
+        for (long userId : userIds) {
+            IdView view = users.get(userId).view();
+            for (int i = 0; i < view.size(); i++) {
+                index.putInt((int) (view.ids()[i] - firstId));
+            }
+        }
+        index.putLong(INDEX_MAGIC).flip();
+
+        Path file = file(segment);
+        long base = (long) recordsPerSegment * RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            index.limit(length);
+            write(channel, index, base);
+            channel.force(false);
+            index.limit(length + 8);
+            write(channel, index, base + length);
+            return new SegmentIndex(firstId, channel.map(FileChannel.MapMode.READ_ONLY, base, length), userIds.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 이력 세그먼트 색인을 기록할 수 없습니다. " + file, e);
+        }
+    }
+
+    /**
+     * 봉인된 세그먼트의 색인 매핑
+     * @return 색인이 없거나 완성되지 않았으면 null (완성되지 않은 색인은 잘라냄)
+     */
+    private SegmentIndex openIndex(int segment) throws IOException {
+        Path file = file(segment);
+        long base = (long) recordsPerSegment * RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size == base) {
+                return null;
+            }
+            if (size >= base + 4 + 8) {
+                int userCount = read(channel, base, 4).getInt(0);
+                long length = 4 + (long) userCount * INDEX_ENTRY_SIZE + (long) recordsPerSegment * 4;
+                if (userCount > 0 && userCount <= recordsPerSegment && size == base + length + 8
+                        && read(channel, base + length, 8).getLong(0) == INDEX_MAGIC) {
+                    return new SegmentIndex((long) segment * recordsPerSegment + 1,
+                            channel.map(FileChannel.MapMode.READ_ONLY, base, length), userCount);
+                }
+            }
+            log.warn("포인트 이력 세그먼트 색인이 완성되지 않아 다시 만듭니다. {}", file);
+            channel.truncate(base);
+            return null;
+        }
+    }
+
+    private MappedByteBuffer map(int segment) {
+        Path file = file(segment);
+        long size = (long) recordsPerSegment * RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() != 0 && channel.size() < size) { // 레코드 영역보다 크면 뒤쪽은 색인
+                throw new IllegalStateException("세그먼트 크기가 설정과 다릅니다. " + file + " (" + channel.size() + " bytes)");
+            }
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size); // 매핑은 채널을 닫아도 유지됨
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 이력 세그먼트를 매핑할 수 없습니다. " + file, e);
+        }
+    }
+
+    private Path file(int segment) {
+        return directory.resolve(String.format("segment-%08d.dat", segment));
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break; // 파일 끝 -> 남은 값은 0
+            }
+        }
+        return buffer;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position - buffer.position();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position());
+        }
+    }
+
+    /**
+     * 조회가 한 번에 읽는 저장소 상태 (insert 가 세그먼트를 넘길 때마다 새로 만들어 교체)
+     * @param segments 매핑한 세그먼트 레코드 영역
+     * @param sealed 봉인된 세그먼트 색인 (앞에서부터 순서대로)
+     * @param tail 봉인 전 세그먼트의 사용자별 ID 목록
+     */
+    private record State(MappedByteBuffer[] segments, SegmentIndex[] sealed, ConcurrentHashMap<Long, IdList> tail) {
+    }
+
+    /**
+     * 봉인된 세그먼트의 사용자별 색인 (힙 밖, 읽기 전용)
+     */
+    private record SegmentIndex(long firstId, MappedByteBuffer index, int userCount) {
+
+        // 사용자 ID 순 목록에서 이진 탐색 (없으면 -1)
+        int find(long userId) {
+            int low = 0;
+            int high = userCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long found = index.getLong(4 + mid * INDEX_ENTRY_SIZE);
+                if (found < userId) {
+                    low = mid + 1;
+                } else if (found > userId) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        int start(int entry) {
+            return index.getInt(4 + entry * INDEX_ENTRY_SIZE + 8);
+        }
+
+        int count(int entry) {
+            return index.getInt(4 + entry * INDEX_ENTRY_SIZE + 12);
+        }
+
+        // 레코드 위치 목록의 i 번째 이력 ID
+        long id(int i) {
+            return firstId + index.getInt(4 + userCount * INDEX_ENTRY_SIZE + i * 4);
+        }
+
+        // [start, end) 중 cursor 보다 큰 첫 ID 위치
+        int firstAfter(int start, int end, long cursor) {
+            int low = start;
+            int high = end;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (id(mid) <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 사용자 한 명의 이력 ID 목록
+     */
+    private static final class IdList {
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized void append(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        // 배열 앞쪽 size 칸은 다시 쓰이지 않으므로 복사 없이 읽을 수 있음
+        synchronized IdView view() {
+            return new IdView(ids, size);
+        }
+    }
+
+    /**
+     * ID 목록의 특정 시점 모습 (복사 없음)
+     */
+    private record IdView(long[] ids, int size) {
+
+        // cursor 보다 큰 첫 ID 위치
+        int firstAfter(long cursor) {
+            int index = Arrays.binarySearch(ids, 0, size, cursor);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.hhplus.tdd.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 포인트 저장용 내장 H2 데이터베이스 (jdbc 저장소를 하나라도 사용할 때만 생성)
+ * - HikariCP 커넥션 풀로 연결을 재사용하고, 풀 크기는 고정 (최소 = 최대, 부하 중에 연결을 새로 만들지 않음)
+ * - H2 는 연결마다 준비한 SQL 을 statement-cache-size 개까지 보관하므로, 같은 SQL 을 다시 준비하면 파싱/최적화를 건너뜀
+ * - 시작 시 user_point, point_history 테이블과 point_history (user_id, id) 인덱스를 만듦
+ * - 종료 시 커넥션 풀을 닫음 (저장소를 사용하는 UserPointCache / PointHistoryWriter 가 먼저 저장을 마친 뒤)
+ */
+// 예) point.user-point.store=jdbc, point.history.store=jdbc -> data/point-db.mv.db 에 잔액과 이력 저장
+@Component
+@ConditionalOnExpression("'${point.user-point.store:table}' == 'jdbc' or '${point.history.store:table}' == 'jdbc'")
+public class PointDatabase {
+
+    private static final Logger log = LoggerFactory.getLogger(PointDatabase.class);
+
+    private static final String[] SCHEMA = {
+            """
+            CREATE TABLE IF NOT EXISTS user_point (
+                id BIGINT PRIMARY KEY,
+                point BIGINT NOT NULL,
+                update_millis BIGINT NOT NULL
+            )""",
+            """
+            CREATE TABLE IF NOT EXISTS point_history (
+                id BIGINT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                amount BIGINT NOT NULL,
+                type TINYINT NOT NULL,
+                update_millis BIGINT NOT NULL
+            )""",
+            // 사용자별 조회 / cursor 페이지 조회가 정렬 없이 인덱스 순서대로 읽도록
+            "CREATE INDEX IF NOT EXISTS idx_point_history_user_id_id ON point_history (user_id, id)"
+    };
+
+    private final HikariDataSource dataSource;
+
+    /**
+     * @param url H2 접속 URL (statement-cache-size 설정은 자동으로 덧붙임)
+     * @param poolSize 커넥션 풀 크기 (0 이면 CPU 코어 수 x 2)
+     * @param statementCacheSize 연결마다 보관하는 준비된 SQL 수 (H2 QUERY_CACHE_SIZE)
+     * @param connectionTimeoutMs 풀에 남은 연결이 없을 때 기다리는 최대 시간
+     */
+    public PointDatabase(@Value("${point.jdbc.url:jdbc:h2:file:./data/point-db;DB_CLOSE_ON_EXIT=FALSE}") String url,
+                         @Value("${point.jdbc.username:sa}") String username,
+                         @Value("${point.jdbc.password:}") String password,
+                         @Value("${point.jdbc.pool-size:0}") int poolSize,
+                         @Value("${point.jdbc.statement-cache-size:64}") int statementCacheSize,
+                         @Value("${point.jdbc.connection-timeout-ms:30000}") long connectionTimeoutMs) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("point-db");
+        config.setJdbcUrl(url + ";QUERY_CACHE_SIZE=" + statementCacheSize);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(size);
+        config.setMinimumIdle(size);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        this.dataSource = new HikariDataSource(config);
+        createSchema();
+        log.info("포인트 데이터베이스 연결 - url: {}, 커넥션 풀 크기: {}", url, size);
+    }
+
+    /**
+     * 풀에서 연결을 빌림 (사용 후 close 하면 풀에 반납)
+     */
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @PreDestroy
+    public void close() {
+        dataSource.close();
+    }
+
+    private void createSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String ddl : SCHEMA) {
+                statement.execute(ddl);
+            }
+        } catch (SQLException e) {
+            dataSource.close();
+            throw new IllegalStateException("포인트 데이터베이스 테이블을 만들 수 없습니다.", e);
+        }
+    }
+}
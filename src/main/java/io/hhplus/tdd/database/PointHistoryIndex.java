@@ -0,0 +1,152 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 포인트 이력 인덱스
+ * - PointHistoryTable 에 저장된 이력을 사용자 ID별 구간(segment)으로 따로 보관
+ * - PointHistoryTable.selectAllByUserId 는 전체 이력을 훑지만, 인덱스 조회는 해당 사용자 이력 수만큼만 비용이 듦
+ * - 이력은 추가만 가능 (수정/삭제 없음)
+ */
+// 예) 전체 이력 1,000만 건 중 사용자 1의 이력이 10건이면 10건만 복사해서 반환
+@Component
+public class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, Segment> segments = new ConcurrentHashMap<>();
+
+    /**
+     * 이력 추가
+     * - PointHistoryTable.insert 가 반환한 이력을 그대로 추가
+     * @param pointHistory 저장된 포인트 이력
+     */
+    public void append(PointHistory pointHistory) {
+        segments.computeIfAbsent(pointHistory.userId(), id -> new Segment()).append(pointHistory);
+    }
+
+    /**
+     * 사용자별 이력 조회
+     * @param userId 사용자 ID
+     * @return 추가된 순서대로 정렬된 이력 (없으면 빈 리스트)
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        Segment segment = segments.get(userId);
+        return segment == null ? List.of() : segment.snapshot();
+    }
+
+    /**
+     * 사용자별 이력 페이지 조회
+     * - 구간은 이력 ID 순으로 정렬되어 있으므로 cursor 위치는 이진 탐색으로 찾음
+     * @param userId 사용자 ID
+     * @param query 조회 조건
+     * @return 조건에 맞는 이력 최대 limit 건과 다음 cursor
+     */
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        Segment segment = segments.get(userId);
+        if (segment == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        View view = segment.view();
+        List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), view.size()));
+        for (int i = view.firstAfter(query.cursor()); i < view.size(); i++) {
+            PointHistory pointHistory = view.items()[i];
+            if (!query.matches(pointHistory)) {
+                continue;
+            }
+            if (histories.size() == query.limit()) { // limit 건을 채운 뒤 조건에 맞는 이력이 더 있으면 다음 페이지 존재
+                return new PointHistoryPage(histories, histories.get(histories.size() - 1).id());
+            }
+            histories.add(pointHistory);
+        }
+        return new PointHistoryPage(histories, null);
+    }
+
+    /**
+     * 사용자별 이력 순회
+     * - 리스트를 만들지 않고 조건에 맞는 이력을 하나씩 전달 (limit 무시)
+     * @param userId 사용자 ID
+     * @param query 조회 조건
+     * @param consumer 이력을 받을 함수
+     */
+    public void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        Segment segment = segments.get(userId);
+        if (segment == null) {
+            return;
+        }
+        View view = segment.view();
+        for (int i = view.firstAfter(query.cursor()); i < view.size(); i++) {
+            PointHistory pointHistory = view.items()[i];
+            if (query.matches(pointHistory)) {
+                consumer.accept(pointHistory);
+            }
+        }
+    }
+
+    /**
+     * 전체 이력 순회
+     * - 사용자 순서는 정해져 있지 않고, 같은 사용자의 이력은 추가된 순서대로 전달
+     * @param consumer 이력을 받을 함수
+     */
+    public void forEachAll(Consumer<PointHistory> consumer) {
+        for (Segment segment : segments.values()) {
+            View view = segment.view();
+            for (int i = 0; i < view.size(); i++) {
+                consumer.accept(view.items()[i]);
+            }
+        }
+    }
+
+    /**
+     * 사용자 한 명의 이력 구간
+     * - 같은 사용자의 추가/조회만 서로 동기화되므로 다른 사용자와는 경합하지 않음
+     */
+    private static final class Segment {
+        private PointHistory[] items = new PointHistory[4];
+        private int size;
+
+        synchronized void append(PointHistory pointHistory) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = pointHistory;
+        }
+
+        synchronized List<PointHistory> snapshot() {
+            return List.of(Arrays.copyOf(items, size));
+        }
+
+        // 배열 앞쪽 size 칸은 다시 쓰이지 않으므로 복사 없이 읽을 수 있음 (배열이 커지면 새 배열로 교체)
+        synchronized View view() {
+            return new View(items, size);
+        }
+    }
+
+    /**
+     * 구간의 특정 시점 모습 (복사 없음)
+     */
+    private record View(PointHistory[] items, int size) {
+
+        // cursor 보다 큰 첫 이력 위치
+        int firstAfter(long cursor) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (items[mid].id() <= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 포인트 이력 저장 알림
+ * - PointHistoryWriter 가 저장소에 이력을 저장한 직후, 저장 쓰레드에서 호출
+ * - 이력 저장 완료(future)보다 먼저 호출되므로 SYNC 요청은 응답 시점에 반영된 결과를 볼 수 있음
+ * - 저장 쓰레드를 막지 않도록 가볍게 처리해야 함 (예외는 로그만 남기고 저장은 성공으로 처리)
+ */
+// 예) 사용자별 충전/사용 합계를 이력이 저장될 때마다 갱신 (PointSummaryAggregator)
+public interface PointHistoryListener {
+
+    /**
+     * 이력 저장 완료
+     * @param pointHistory ID가 부여된 이력
+     */
+    void onInserted(PointHistory pointHistory);
+}
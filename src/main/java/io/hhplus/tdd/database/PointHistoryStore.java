@@ -0,0 +1,79 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 이력 저장소
+ * - 이력 저장(PointHistoryWriter)과 조회(PointService)가 사용하는 저장소 규격
+ * - 이력 ID는 1부터 1씩 증가하고, 같은 사용자의 이력은 저장된 순서(ID 순)대로 조회됨
+ * - 여러 이력 저장 쓰레드가 동시에 호출하므로 구현은 쓰레드 안전해야 함 (같은 사용자는 한 쓰레드만 저장)
+ * - point.history.store 설정으로 구현을 선택 (table | mapped | columnar | jdbc)
+ */
+// 예) table : PointHistoryTable + PointHistoryIndex (메모리), mapped : 메모리 맵 파일 (재시작 후에도 유지), columnar : 힙 밖 압축 블록 (메모리), jdbc : 내장 H2 point_history 테이블
+public interface PointHistoryStore {
+
+    /**
+     * 이력 저장
+     * @return ID가 부여된 이력
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 이력 일괄 저장
+     * - 전달한 순서대로 ID가 부여됨
+     * - 기본 구현은 insert 를 한 건씩 호출하므로 중간에 실패하면 앞의 이력은 저장된 채 남음 (jdbc 는 한 트랜잭션)
+     * @return ID가 부여된 이력 (전달한 순서)
+     */
+    default List<PointHistory> insertAll(List<NewHistory> histories) {
+        List<PointHistory> inserted = new ArrayList<>(histories.size());
+        for (NewHistory history : histories) {
+            inserted.add(insert(history.userId(), history.amount(), history.type(), history.updateMillis()));
+        }
+        return inserted;
+    }
+
+    /**
+     * insertAll 한 번에 전달받을 최대 이력 수
+     * - PointHistoryWriter 는 실패한 묶음을 그대로 다시 저장하므로, 1보다 크게 하려면 insertAll 이 모두 저장되거나 모두 실패해야 함
+     * - 기본값 1 : 한 건씩 저장 (재시도해도 이미 저장된 이력이 중복되지 않음)
+     */
+    default int maxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * 사용자별 이력 조회
+     * @return 저장된 순서대로 정렬된 이력 (없으면 빈 리스트)
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 사용자별 이력 페이지 조회
+     * @return 조건에 맞는 이력 최대 limit 건과 다음 cursor
+     */
+    PointHistoryPage selectPage(long userId, PointHistoryQuery query);
+
+    /**
+     * 사용자별 이력 순회 (limit 무시)
+     */
+    void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer);
+
+    /**
+     * 전체 이력 순회
+     * - 같은 사용자의 이력은 저장 순서대로 전달 (전체 이력을 읽으므로 요청 경로나 시작 시에는 사용하지 않음)
+     */
+    void forEachAll(Consumer<PointHistory> consumer);
+
+    /**
+     * 저장할 이력 (ID 부여 전)
+     */
+    record NewHistory(long userId, long amount, TransactionType type, long updateMillis) {
+    }
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+/**
+ * 포인트 이력 저장을 보장할 수 없을 때의 예외 (SYNC)
+ * - 이력 저장 버퍼가 가득 차 대기 시간 안에 예약하지 못했거나, 종료 중이라 이력을 저장하지 못함
+ * - 잔액 변경은 이미 반영되었을 수 있으므로 Idempotency-Key 는 지우지 않음 (IllegalArgumentException 이 아님)
+ * - HTTP 503 (Service Unavailable) 로 응답 (ApiControllerAdvice, PointRouter)
+ */
+public class PointHistoryUnavailableException extends RuntimeException {
+
+    public PointHistoryUnavailableException() {
+        super("포인트 이력 저장소를 사용할 수 없습니다. 잔액 변경은 반영되었을 수 있으니 잠시 후 조회해 주세요.");
+    }
+}
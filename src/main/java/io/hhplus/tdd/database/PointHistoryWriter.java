@@ -0,0 +1,263 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포인트 이력 저장 쓰레드
+ * - 포인트 변경 요청은 이력을 크기가 정해진 버퍼에 넣기만 하고, 실제 저장은 저장 쓰레드가 처리
+ * - 저장 쓰레드는 writer-count 개이고 사용자 ID로 나눠 맡음 (같은 사용자는 항상 같은 쓰레드 -> 사용자별 이력 순서 유지)
+ * - 저장 쓰레드는 버퍼에 쌓인 이력을 저장소가 허용하는 만큼(maxBatchSize, 최대 batch-size) 꺼내 일괄 저장 (insertAll)
+ * - 버퍼가 가득 차면 요청 쓰레드가 offer-timeout-ms 까지만 대기하고, 그래도 자리가 없으면 이력을 버리고 PointHistoryUnavailableException 으로 알림
+ *   (요청 쓰레드는 사용자 락을 잡고 있으므로 저장소 장애 중에 락을 잡은 채 무한히 기다리지 않음)
+ * - 저장에 실패하면 같은 이력을 간격을 늘려 가며 다시 저장 (뒤의 이력은 순서대로 대기, 기다리는 요청은 저장이 끝날 때까지 대기)
+ * - 저장한 이력은 PointHistoryListener 에 사용자별로 순서대로 전달 (사용자별 집계 등)
+ */
+// 예) writer.write(1L, 1_000L, TransactionType.CHARGE, now).join(); // 저장 완료까지 대기 (SYNC)
+@Component
+public class PointHistoryWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryWriter.class);
+
+    private static final PendingHistory SHUTDOWN_SIGNAL = new PendingHistory(null, null);
+    private static final long RETRY_BACKOFF_MIN_MS = 10;   // 첫 재시도 간격
+    private static final long RETRY_BACKOFF_MAX_MS = 1_000; // 재시도 간격 상한
+    private static final long DEFAULT_OFFER_TIMEOUT_MS = 100; // 버퍼 빈 자리 대기 시간 기본값
+
+    private final PointHistoryStore pointHistoryStore;
+    private final PointMetrics pointMetrics;
+    private final List<PointHistoryListener> listeners;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final List<BlockingQueue<PendingHistory>> buffers = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+    private final LongAdder failures = new LongAdder(); // 저장 실패 횟수 (재시도 포함)
+    private final LongAdder retrying = new LongAdder(); // 재시도 중인 이력 수
+    private final LongAdder dropped = new LongAdder();  // 저장하지 못하고 버린 이력 수 (버퍼 가득 참, 종료 중 실패)
+    private volatile boolean running = true;
+
+    /**
+     * @param bufferCapacity 저장 대기 버퍼 전체 크기
+     * @param batchSize 한 번에 꺼내 저장하는 최대 건수
+     * @param writerCount 저장 쓰레드 수 (같은 사용자는 항상 같은 쓰레드가 저장하므로 사용자별 순서가 유지됨)
+     * @param offerTimeoutMillis 버퍼가 가득 찼을 때 빈 자리를 기다리는 최대 시간 (ms)
+     */
+    @Autowired
+    public PointHistoryWriter(PointHistoryStore pointHistoryStore,
+                              PointMetrics pointMetrics,
+                              List<PointHistoryListener> listeners,
+                              @Value("${point.history.buffer-capacity:65536}") int bufferCapacity,
+                              @Value("${point.history.batch-size:256}") int batchSize,
+                              @Value("${point.history.writer-count:16}") int writerCount,
+                              @Value("${point.history.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        if (writerCount <= 0) {
+            throw new IllegalArgumentException("이력 저장 쓰레드 수는 0 이하일 수 없습니다.");
+        }
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointMetrics = pointMetrics;
+        this.listeners = List.copyOf(listeners);
+        this.batchSize = Math.max(1, Math.min(batchSize, pointHistoryStore.maxBatchSize()));
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        int capacity = Math.max(1, bufferCapacity / writerCount);
+        for (int i = 0; i < writerCount; i++) {
+            BlockingQueue<PendingHistory> buffer = new ArrayBlockingQueue<>(capacity + 1); // +1 : 종료 신호 자리
+            Thread writer = new Thread(() -> writeLoop(buffer), "point-history-writer-" + i);
+            writer.setDaemon(true);
+            buffers.add(buffer);
+            writers.add(writer);
+            writer.start();
+        }
+    }
+
+    /**
+     * 저장 쓰레드 하나로 생성
+     */
+    public PointHistoryWriter(PointHistoryStore pointHistoryStore, PointMetrics pointMetrics,
+                              List<PointHistoryListener> listeners, int bufferCapacity, int batchSize) {
+        this(pointHistoryStore, pointMetrics, listeners, bufferCapacity, batchSize, 1, DEFAULT_OFFER_TIMEOUT_MS);
+    }
+
+    /**
+     * 알림 받을 곳 없이 저장 쓰레드 하나로 생성
+     */
+    public PointHistoryWriter(PointHistoryStore pointHistoryStore, PointMetrics pointMetrics, int bufferCapacity, int batchSize) {
+        this(pointHistoryStore, pointMetrics, List.of(), bufferCapacity, batchSize, 1, DEFAULT_OFFER_TIMEOUT_MS);
+    }
+
+    /**
+     * 이력 저장 예약
+     * - 같은 사용자의 이력은 호출 순서대로 저장되도록 호출자가 직렬화해야 함 (예: StripedLockManager)
+     * - 버퍼가 offerTimeoutMillis 동안 가득 차 있으면 이력을 버림 (버린 이력은 로그와 point.history.dropped 로 확인)
+     * @return 저장이 끝나면 완료되는 future (저장 실패는 재시도가 성공할 때까지 기다리고,
+     *         이력을 버리면 PointHistoryUnavailableException 으로 실패)
+     */
+    public CompletableFuture<PointHistory> write(long userId, long amount, TransactionType type, long updateMillis) {
+        if (!running) {
+            throw new IllegalStateException("포인트 이력 저장 쓰레드가 종료되었습니다.");
+        }
+        PendingHistory pending = new PendingHistory(new PointHistoryStore.NewHistory(userId, amount, type, updateMillis),
+                new CompletableFuture<>());
+        boolean offered = false;
+        try {
+            offered = buffers.get(writerIndex(userId)).offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!offered) {
+            log.error("포인트 이력 저장 버퍼가 가득 차 이력을 버렸습니다. 버린 이력: {}", pending.history());
+            dropped.increment();
+            pending.result().completeExceptionally(new PointHistoryUnavailableException());
+        }
+        return pending.result();
+    }
+
+    /**
+     * 저장 대기 중인 이력 수
+     */
+    public int getPendingCount() {
+        int pending = 0;
+        for (BlockingQueue<PendingHistory> buffer : buffers) {
+            pending += buffer.size();
+        }
+        return pending;
+    }
+
+    /**
+     * 저장 실패 횟수 (재시도 실패 포함)
+     */
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    /**
+     * 저장에 실패해 재시도 중인 이력 수
+     */
+    public long getRetryingCount() {
+        return retrying.sum();
+    }
+
+    /**
+     * 저장하지 못하고 버린 이력 수 (버퍼 가득 참, 종료 중 저장 실패)
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 종료
+     * - 버퍼에 남은 이력을 모두 저장한 뒤 쓰레드를 종료 (종료 중에는 실패한 이력을 재시도하지 않음)
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            for (BlockingQueue<PendingHistory> buffer : buffers) {
+                buffer.put(SHUTDOWN_SIGNAL);
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop(BlockingQueue<PendingHistory> buffer) {
+        List<PendingHistory> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, batchSize - 1);
+                int signal = batch.indexOf(SHUTDOWN_SIGNAL);
+                store(buffer, signal < 0 ? batch : batch.subList(0, signal));
+                if (signal >= 0) {
+                    return;
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("포인트 이력 저장 쓰레드가 중단되었습니다. 남은 이력: {}", buffer.size());
+        }
+    }
+
+    /**
+     * 한 번에 저장하고, 실패하면 성공할 때까지 같은 묶음을 다시 저장
+     * - 잔액은 이미 바뀌었으므로 이력을 버리지 않음 (다음 이력은 이 묶음이 저장될 때까지 대기 -> 순서 유지)
+     * - 기다리는 요청(SYNC)은 재시도가 성공할 때까지 대기 (저장되지 않은 이력을 성공으로 알리지 않음)
+     * - 종료 중에 실패하면 재시도하지 않고 버린 뒤 PointHistoryUnavailableException 으로 알림
+     */
+    private void store(BlockingQueue<PendingHistory> buffer, List<PendingHistory> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PointHistoryStore.NewHistory> histories = new ArrayList<>(batch.size());
+        for (PendingHistory pending : batch) {
+            histories.add(pending.history());
+        }
+        List<PointHistory> inserted = null;
+        long backoffMillis = RETRY_BACKOFF_MIN_MS;
+        while (inserted == null) {
+            try {
+                inserted = pointMetrics.recordTable("point_history", "insertAll", () -> pointHistoryStore.insertAll(histories));
+            } catch (RuntimeException e) {
+                failures.increment();
+                if (backoffMillis == RETRY_BACKOFF_MIN_MS) { // 첫 실패
+                    log.error("포인트 이력 저장 실패 - 이력 수: {}, 성공할 때까지 재시도", batch.size(), e);
+                    retrying.add(batch.size());
+                }
+                if (!running) {
+                    log.error("종료 중이라 포인트 이력을 저장하지 못했습니다. 버린 이력: {}", histories);
+                    retrying.add(-batch.size());
+                    dropped.add(batch.size());
+                    batch.forEach(pending -> pending.result().completeExceptionally(new PointHistoryUnavailableException()));
+                    return;
+                }
+                Thread.sleep(backoffMillis);
+                backoffMillis = Math.min(backoffMillis * 2, RETRY_BACKOFF_MAX_MS);
+            }
+        }
+        if (backoffMillis != RETRY_BACKOFF_MIN_MS) {
+            log.info("포인트 이력 재시도 저장 성공 - 이력 수: {}", batch.size());
+            retrying.add(-batch.size());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            notifyListeners(inserted.get(i));
+            batch.get(i).result().complete(inserted.get(i));
+        }
+    }
+
+    // 이력은 이미 저장되었으므로 알림 실패는 저장 결과에 영향을 주지 않음
+    private void notifyListeners(PointHistory pointHistory) {
+        for (PointHistoryListener listener : listeners) {
+            try {
+                listener.onInserted(pointHistory);
+            } catch (RuntimeException e) {
+                log.error("포인트 이력 저장 알림 실패 - 이력: {}", pointHistory.id(), e);
+            }
+        }
+    }
+
+    // 사용자 ID로 저장 쓰레드 선택 (TablePointHistoryStore 의 테이블 선택과 같은 방식)
+    private int writerIndex(long userId) {
+        return Math.floorMod(Long.hashCode(userId), buffers.size());
+    }
+
+    private record PendingHistory(PointHistoryStore.NewHistory history, CompletableFuture<PointHistory> result) {
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * PointHistoryTable 기반 이력 저장소 (기본값)
+ * - 저장은 PointHistoryTable, 조회는 사용자별 PointHistoryIndex 가 담당
+ * - PointHistoryTable 은 쓰레드 안전하지 않고 저장마다 최대 300ms 가 걸리므로, 사용자 ID로 나눈 테이블마다 락을 걸고 저장
+ * - 테이블 수는 PointHistoryWriter 저장 쓰레드 수와 같고 나누는 방식도 같으므로, 저장 쓰레드끼리는 락을 다투지 않음
+ * - 이력 ID는 테이블마다 따로 매겨지므로 저장소가 전체에서 이어지는 ID를 다시 부여 (조회는 인덱스만 사용)
+ * - 모두 힙 메모리에 있으므로 재시작하면 이력이 사라짐
+ */
+// 예) writer-count=16 -> 최대 16건을 동시에 저장 (테이블 하나는 초당 약 6~7건)
+@Component
+@ConditionalOnProperty(name = "point.history.store", havingValue = "table", matchIfMissing = true)
+public class TablePointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryTable[] pointHistoryTables;
+    private final PointHistoryIndex pointHistoryIndex;
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /**
+     * @param pointHistoryTable 첫 번째 테이블 (나머지는 새로 만듦)
+     * @param partitions 테이블 수 (PointHistoryWriter 저장 쓰레드 수)
+     */
+    @Autowired
+    public TablePointHistoryStore(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex,
+                                  @Value("${point.history.writer-count:16}") int partitions) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("테이블 수는 0 이하일 수 없습니다.");
+        }
+        this.pointHistoryTables = new PointHistoryTable[partitions];
+        this.pointHistoryTables[0] = pointHistoryTable;
+        for (int i = 1; i < partitions; i++) {
+            this.pointHistoryTables[i] = new PointHistoryTable();
+        }
+        this.pointHistoryIndex = pointHistoryIndex;
+    }
+
+    /**
+     * 테이블 하나로 생성 (모든 저장이 순서대로 실행됨)
+     */
+    public TablePointHistoryStore(PointHistoryTable pointHistoryTable, PointHistoryIndex pointHistoryIndex) {
+        this(pointHistoryTable, pointHistoryIndex, 1);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistoryTable pointHistoryTable = pointHistoryTables[Math.floorMod(Long.hashCode(userId), pointHistoryTables.length)];
+        synchronized (pointHistoryTable) {
+            pointHistoryTable.insert(userId, amount, type, updateMillis);
+            // 같은 사용자는 같은 테이블 락 안에서 ID를 받으므로 사용자별 ID 순서 = 저장 순서
+            PointHistory pointHistory = new PointHistory(nextId.getAndIncrement(), userId, amount, type, updateMillis);
+            pointHistoryIndex.append(pointHistory);
+            return pointHistory;
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return pointHistoryIndex.selectAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        return pointHistoryIndex.selectPage(userId, query);
+    }
+
+    @Override
+    public void forEach(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        pointHistoryIndex.forEach(userId, query, consumer);
+    }
+
+    @Override
+    public void forEachAll(Consumer<PointHistory> consumer) {
+        pointHistoryIndex.forEachAll(consumer);
+    }
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * UserPointTable 기반 사용자 포인트 저장소 (기본값)
+ * - 힙 메모리에 있으므로 재시작하면 잔액이 사라짐 (저널을 켜면 UserPointCache 가 복구)
+ * - 호출마다 UserPointTable 의 지연(최대 200~300ms)이 그대로 발생하므로 사용자 한 명씩 저장
+ * - UserPointTable 은 HashMap 기반이라 여러 쓰레드가 함께 쓰면 안 됨 -> 저장은 전용 락으로 한 번에 하나씩
+ * - 조회는 저장 락을 기다리지 않음: 이 테이블에 저장된 사용자는 모두 UserPointCache 에 남아 있으므로,
+ *   캐시를 지나 테이블까지 오는 조회는 저장 중인 사용자와 겹치지 않음 (HashMap 조회만 하므로 구조를 바꾸지 않음)
+ */
+// 예) 저장 쓰레드가 사용자 1을 300ms 동안 저장하는 중에도 처음 보는 사용자 2 조회는 바로 테이블을 읽음
+@Component
+@ConditionalOnProperty(name = "point.user-point.store", havingValue = "table", matchIfMissing = true)
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+    private final Object writeLock = new Object();
+
+    public TableUserPointStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public void insertOrUpdateAll(List<UserPoint> userPoints) {
+        for (UserPoint userPoint : userPoints) {
+            synchronized (writeLock) {
+                userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+            }
+        }
+    }
+}
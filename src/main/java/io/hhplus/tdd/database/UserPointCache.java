@@ -0,0 +1,316 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 포인트 캐시 (write-behind)
+ * - 한 번 읽은 사용자의 포인트는 메모리에 보관하고, 이후 조회/변경은 캐시를 기준으로 처리
+ * - 변경은 캐시에 즉시 반영하고 UserPointStore 저장은 별도 쓰레드가 나중에 처리
+ * - 저장 전에 같은 사용자가 여러 번 변경되면 마지막 값 한 번만 저장 (쓰기 병합)
+ * - 저장 쓰레드는 대기 중인 사용자를 저장소가 허용하는 만큼(maxBatchSize) 모아 한 번에 저장
+ * - 저장 대기 큐가 가득 차면 변경 요청이 빈 자리가 생길 때까지 대기 (backpressure)
+ * - 저널을 켜면 변경을 UserPointJournal 에도 기록하고, 시작 시 저널에서 잔액을 복구 (재시작 후에도 유지)
+ * - 캐시에 없는 사용자를 동시에 조회하면 테이블 조회는 한 번만 하고 결과를 나눠 가짐 (single-flight)
+ * - 변경은 UserPointListener 에 반영 순서대로 전달 (잔액 스트리밍 등)
+ * - 캐시에는 잔액이 있는 사용자와 한 번이라도 변경된 사용자만 보관 (빈 값 / 없는 사용자는 매번 저장소에서 조회)
+ * - 보관한 사용자는 내보내지 않음 (버전이 캐시에만 있어서, 내보냈다가 다시 읽으면 ETag / 잔액 스트림 순서가 어긋남, 크기는 point.cache.size 로 확인)
+ */
+// 예) 사용자 1이 충전 3번 -> 캐시는 3번 갱신, UserPointStore.insertOrUpdateAll 에는 마지막 잔액만 1번 전달될 수 있음
+@Component
+public class UserPointCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointCache.class);
+
+    private static final long SHUTDOWN_SIGNAL = Long.MIN_VALUE; // 저장 쓰레드 종료 신호
+
+    private final UserPointStore userPointStore;
+    private final PointMetrics pointMetrics;
+    private final UserPointJournal journal;
+    private final List<UserPointListener> listeners;
+    private final ConcurrentHashMap<Long, UserPoint> cache = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet(); // 저장 대기 중인 사용자 ID
+    private final ConcurrentHashMap<Long, CompletableFuture<UserPoint>> loading = new ConcurrentHashMap<>(); // 테이블 조회 중인 사용자
+    private final LongAdder hits = new LongAdder();        // 캐시에서 바로 반환
+    private final LongAdder loads = new LongAdder();       // 테이블 조회
+    private final LongAdder coalesced = new LongAdder();   // 진행 중인 테이블 조회 결과를 함께 받음
+    private final LongAdder piggybacked = new LongAdder(); // 테이블 조회가 끝나기 전에 변경 결과로 완료됨
+    private final List<BlockingQueue<Long>> flushQueues = new ArrayList<>();
+    private final List<Thread> flushers = new ArrayList<>();
+
+    /**
+     * @param userPointStore 실제 저장소
+     * @param pointMetrics 테이블 호출 시간 기록
+     * @param journal 잔액 변경 저널 (꺼져 있으면 기록/복구 없음)
+     * @param listeners 변경 알림을 받을 곳
+     * @param flusherCount 저장 쓰레드 수 (같은 사용자는 항상 같은 쓰레드가 저장하므로 저장 순서가 유지됨)
+     * @param flushQueueCapacity 저장 대기 큐 전체 크기
+     */
+    @Autowired
+    public UserPointCache(UserPointStore userPointStore, PointMetrics pointMetrics, UserPointJournal journal,
+                          List<UserPointListener> listeners,
+                          @Value("${point.cache.flusher-count:4}") int flusherCount,
+                          @Value("${point.cache.flush-queue-capacity:100000}") int flushQueueCapacity) {
+        this.userPointStore = userPointStore;
+        this.pointMetrics = pointMetrics;
+        this.journal = journal;
+        this.listeners = List.copyOf(listeners);
+        journal.open(cache); // 저장 쓰레드 시작 전에 복구
+        int capacity = Math.max(1, flushQueueCapacity / flusherCount);
+        for (int i = 0; i < flusherCount; i++) {
+            BlockingQueue<Long> queue = new ArrayBlockingQueue<>(capacity + 1); // +1 : 종료 신호 자리
+            Thread flusher = new Thread(() -> flushLoop(queue), "point-cache-flusher-" + i);
+            flusher.setDaemon(true);
+            flushQueues.add(queue);
+            flushers.add(flusher);
+            flusher.start();
+        }
+    }
+
+    /**
+     * UserPointTable 저장소로, 알림 받을 곳 없이 생성
+     */
+    public UserPointCache(UserPointTable userPointTable, PointMetrics pointMetrics, UserPointJournal journal,
+                          int flusherCount, int flushQueueCapacity) {
+        this(new TableUserPointStore(userPointTable), pointMetrics, journal, List.of(), flusherCount, flushQueueCapacity);
+    }
+
+    /**
+     * 저널 없이 생성
+     */
+    public UserPointCache(UserPointTable userPointTable, PointMetrics pointMetrics, int flusherCount, int flushQueueCapacity) {
+        this(userPointTable, pointMetrics, UserPointJournal.disabled(), flusherCount, flushQueueCapacity);
+    }
+
+    /**
+     * 포인트 조회
+     * - 캐시에 있으면 테이블을 조회하지 않음
+     * - 캐시에 없으면 테이블에서 읽어 캐시에 적재 (잔액이 0인 빈 값은 적재하지 않음 -> 없는 ID 조회로 캐시가 커지지 않음)
+     * - 같은 사용자의 테이블 조회가 이미 진행 중이면 새로 조회하지 않고 그 결과를 기다림
+     * - 조회가 끝나기 전에 변경(put)이 들어오면 기다리던 조회는 변경된 값으로 바로 완료
+     * @param userId 사용자 ID
+     * @return 사용자 포인트 (테이블이 null 을 반환하면 null)
+     */
+    // 예) 사용자 1을 100명이 동시에 조회 -> UserPointStore.selectById 는 1번만 호출
+    public UserPoint get(long userId) {
+        UserPoint cached = cache.get(userId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        CompletableFuture<UserPoint> flight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> inFlight = loading.putIfAbsent(userId, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+        try {
+            UserPoint latest = cache.get(userId); // 조회 등록 직전에 다른 조회/변경이 끝났을 수 있음
+            if (latest == null) {
+                loads.increment();
+                UserPoint loaded = pointMetrics.recordTable("user_point", "selectById", () -> userPointStore.selectById(userId));
+                if (loaded == null || loaded.point() == 0) { // 없는 사용자(빈 값)는 캐시에 넣지 않음
+                    UserPoint current = cache.get(userId);
+                    latest = current != null ? current : loaded;
+                } else { // 테이블을 읽는 사이에 변경이 먼저 반영됐다면 캐시 값이 최신
+                    latest = cache.merge(userId, loaded, (current, ignored) -> current);
+                }
+            }
+            flight.complete(latest);
+            return await(flight); // 변경이 먼저 완료했다면 그 값
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(userId, flight);
+        }
+    }
+
+    /**
+     * 포인트 변경
+     * - 캐시에 즉시 반영하고 저널에 기록한 뒤 테이블 저장을 예약
+     * - 캐시 반영 후 저널에 기록해야, 스냅샷이 로그를 넘긴 시점 이전의 변경을 빠뜨리지 않음
+     * - 버전은 캐시에 있던 값의 버전 + 1 (처음 저장하는 사용자는 1)
+     * - 호출자는 같은 사용자에 대한 변경을 직렬화해야 함 (예: StripedLockManager)
+     * @param userId 사용자 ID
+     * @param point 새 잔액
+     * @return 변경된 사용자 포인트
+     */
+    public UserPoint put(long userId, long point) {
+        UserPoint current = cache.get(userId);
+        long version = current == null ? 1 : current.version() + 1;
+        return put(new UserPoint(userId, point, System.currentTimeMillis(), version));
+    }
+
+    /**
+     * 버전이 정해진 포인트 변경 (분산 잔액의 합산 결과 반영)
+     * - 호출자는 같은 사용자에 대해 버전이 줄어들지 않는 순서로 호출해야 함
+     * @param userPoint 새 잔액/버전
+     * @return 변경된 사용자 포인트
+     */
+    public UserPoint put(UserPoint userPoint) {
+        long userId = userPoint.id();
+        cache.put(userId, userPoint);
+        CompletableFuture<UserPoint> inFlight = loading.get(userId);
+        if (inFlight != null && inFlight.complete(userPoint)) { // 테이블 조회를 기다리던 요청은 변경 결과를 받음
+            piggybacked.increment();
+        }
+        journal.append(userPoint); // fsync 정책이 ALWAYS 이면 기록될 때까지 대기
+        notifyListeners(userPoint);
+        scheduleFlush(userId);
+        return userPoint;
+    }
+
+    /**
+     * 조회 통계 (캐시 적중 / 테이블 조회 / 진행 중인 조회 공유 / 변경 결과로 완료)
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getLoadCount() {
+        return loads.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getPiggybackedCount() {
+        return piggybacked.sum();
+    }
+
+    /**
+     * 캐시에 보관 중인 사용자 수 (잔액이 있거나 변경된 사용자, 줄어들지 않음)
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * 저장 대기 중인 사용자 수
+     */
+    public int getPendingFlushCount() {
+        return dirty.size();
+    }
+
+    /**
+     * 종료 시 저장
+     * - 저장 쓰레드가 대기 큐를 모두 비운 뒤 종료되도록 하고, 남은 변경이 있으면 직접 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (BlockingQueue<Long> queue : flushQueues) {
+            try {
+                queue.put(SHUTDOWN_SIGNAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (Thread flusher : flushers) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Long> remaining = List.copyOf(dirty);
+        dirty.removeAll(remaining);
+        flush(remaining);
+        log.info("포인트 캐시 저장 완료 - 사용자 수: {}", cache.size());
+    }
+
+    // 변경은 이미 반영되었으므로 알림 실패는 변경 결과에 영향을 주지 않음
+    private void notifyListeners(UserPoint userPoint) {
+        for (UserPointListener listener : listeners) {
+            try {
+                listener.onUpdated(userPoint);
+            } catch (RuntimeException e) {
+                log.error("포인트 변경 알림 실패 - 사용자: {}", userPoint.id(), e);
+            }
+        }
+    }
+
+    private void scheduleFlush(long userId) {
+        if (!dirty.add(userId)) {
+            return; // 이미 저장 대기 중 -> 저장 시점에 최신 값이 반영되므로 합쳐짐
+        }
+        try {
+            flushQueues.get(flusherIndex(userId)).put(userId); // 큐가 가득 차면 대기 (backpressure)
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dirty.remove(userId);
+            flush(List.of(userId)); // 대기하지 못하면 직접 저장
+        }
+    }
+
+    private void flushLoop(BlockingQueue<Long> queue) {
+        int batchSize = Math.max(1, userPointStore.maxBatchSize());
+        List<Long> userIds = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                userIds.add(queue.take());
+                queue.drainTo(userIds, batchSize - 1);
+                boolean shutdown = userIds.remove((Long) SHUTDOWN_SIGNAL);
+                // 값을 읽기 전에 대기 표시를 지워야, 그 사이의 변경이 다시 저장 예약된다
+                userIds.forEach(dirty::remove);
+                try {
+                    flush(userIds);
+                } catch (RuntimeException e) {
+                    log.error("포인트 저장 실패 - 사용자: {}", userIds, e);
+                }
+                if (shutdown) {
+                    return;
+                }
+                userIds.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(List<Long> userIds) {
+        List<UserPoint> latest = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserPoint userPoint = cache.get(userId);
+            if (userPoint != null) {
+                latest.add(userPoint);
+            }
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+        pointMetrics.recordTable("user_point", "insertOrUpdateAll", () -> {
+            userPointStore.insertOrUpdateAll(latest);
+            return null;
+        });
+    }
+
+    private static UserPoint await(CompletableFuture<UserPoint> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private int flusherIndex(long userId) {
+        return Math.floorMod(Long.hashCode(userId), flushQueues.size());
+    }
+}
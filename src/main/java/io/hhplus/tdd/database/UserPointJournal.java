@@ -0,0 +1,488 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 사용자 포인트 저널 (write-ahead log + 스냅샷)
+ * - 잔액 변경마다 28바이트 기록(userId 8 | point 8 | updateMillis 8 | crc 4)을 로그 파일에 추가
+ * - 기록은 변경 후 잔액이므로 같은 사용자의 마지막 기록만 의미가 있음 (다시 적용해도 결과가 같음)
+ * - 로그 파일 쓰기/fsync 는 전용 쓰레드가 모아서 처리 (group commit, FsyncPolicy 참고)
+ * - 기록이 snapshot-every 건 쌓이면 새 로그 파일로 넘기고 전체 잔액 스냅샷을 저장한 뒤 이전 로그를 삭제
+ * - 시작 시 마지막 스냅샷을 읽고 그 이후 로그만 다시 적용하여 잔액을 복구
+ */
+// 예) wal-0000000000000003.log, snapshot-0000000000000003.dat -> 스냅샷 3 + 로그 3 이후만 적용
+@Component
+public class UserPointJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPointJournal.class);
+
+    static final int ENTRY_SIZE = 28;
+    private static final int SNAPSHOT_ENTRY_SIZE = 24;
+    private static final int SNAPSHOT_MAGIC = 0x55505331; // "UPS1"
+    private static final int SNAPSHOT_HEADER_SIZE = 12;   // magic 4 | count 8
+    private static final int IO_CHUNK_ENTRIES = 1 << 16;  // 파일을 읽고 쓸 때 한 번에 처리하는 기록 수
+
+    private final boolean enabled;
+    private final Path directory;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+    private final long snapshotEvery;
+
+    // 기록 대기 버퍼 (appendLock)
+    private final Object appendLock = new Object();
+    private ByteBuffer pending = ByteBuffer.allocate(ENTRY_SIZE * 1024);
+    private ByteBuffer spare = ByteBuffer.allocate(ENTRY_SIZE * 1024);
+    private long appendedSeq;   // 버퍼에 추가된 기록 수
+    private long durableSeq;    // 로그 파일에 기록(정책에 따라 fsync)된 기록 수
+    private IOException failure;
+    private boolean running;
+
+    // 로그 파일 (ioLock)
+    private final Object ioLock = new Object();
+    private FileChannel channel;
+    private long walSeq;
+
+    private final Object snapshotLock = new Object();
+    private final AtomicLong sinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private final CRC32C crc = new CRC32C(); // appendLock 안에서만 사용
+    private Map<Long, UserPoint> balances;
+    private Thread syncThread;
+    private boolean closed;
+
+    /**
+     * @param enabled 저널 사용 여부 (false 이면 기록/복구 없음)
+     * @param directory 로그/스냅샷 파일 디렉터리
+     * @param fsyncPolicy fsync 정책
+     * @param fsyncIntervalMillis INTERVAL 정책의 fsync 간격
+     * @param snapshotEvery 스냅샷 사이의 기록 수
+     */
+    public UserPointJournal(@Value("${point.cache.journal.enabled:false}") boolean enabled,
+                            @Value("${point.cache.journal.directory:data/user-point}") String directory,
+                            @Value("${point.cache.journal.fsync:ALWAYS}") FsyncPolicy fsyncPolicy,
+                            @Value("${point.cache.journal.fsync-interval-ms:10}") long fsyncIntervalMillis,
+                            @Value("${point.cache.journal.snapshot-every:1000000}") long snapshotEvery) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.snapshotEvery = snapshotEvery;
+    }
+
+    /**
+     * 기록/복구를 하지 않는 저널
+     */
+    public static UserPointJournal disabled() {
+        return new UserPointJournal(false, ".", FsyncPolicy.NONE, 0, 0);
+    }
+
+    /**
+     * 복구 후 기록 시작
+     * - 스냅샷과 로그에서 복구한 잔액을 balances 에 넣고, 이후 스냅샷은 balances 의 현재 값으로 저장
+     * @param balances 사용자 포인트 캐시 (복구 대상이자 스냅샷 원본)
+     */
+    public void open(Map<Long, UserPoint> balances) {
+        if (!enabled) {
+            return;
+        }
+        this.balances = balances;
+        try {
+            walSeq = recover(balances) + 1; // 잘린 로그 뒤에 이어 쓰지 않도록 항상 새 파일에서 시작
+            channel = openWal(walSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널을 열 수 없습니다. " + directory, e);
+        }
+        running = true;
+        syncThread = new Thread(this::syncLoop, "point-journal-sync");
+        syncThread.setDaemon(true);
+        syncThread.start();
+    }
+
+    /**
+     * 복구
+     * - 마지막 스냅샷을 읽고 그 번호 이후의 로그를 순서대로 적용 (파일을 새로 만들지 않음)
+     * @param balances 복구한 잔액을 넣을 맵
+     * @return 마지막으로 적용한 로그(또는 스냅샷) 번호
+     */
+    long recover(Map<Long, UserPoint> balances) throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) { // 저장 중 종료된 스냅샷
+            for (Path temp : files.filter(path -> path.toString().endsWith(".tmp")).toList()) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        long snapshotSeq = latestSeq("snapshot-", ".dat");
+        if (snapshotSeq > 0) {
+            readSnapshot(file("snapshot-", snapshotSeq, ".dat"), balances);
+        }
+        long replayed = 0;
+        long lastSeq = snapshotSeq;
+        for (long seq : seqs("wal-", ".log")) {
+            if (seq >= snapshotSeq) {
+                replayed += replay(file("wal-", seq, ".log"), balances);
+                lastSeq = seq;
+            }
+        }
+        sinceSnapshot.set(replayed);
+        log.info("포인트 저널 복구 완료 - 사용자 수: {}, 적용한 로그 기록 수: {}, {}ms",
+                balances.size(), replayed, (System.nanoTime() - started) / 1_000_000);
+        return lastSeq;
+    }
+
+    /**
+     * 기록 대기 중인 변경을 로그 파일에 쓰고 fsync (정책과 무관)
+     */
+    public void sync() {
+        if (!enabled || balances == null) {
+            return;
+        }
+        try {
+            synchronized (ioLock) {
+                flush();
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널을 기록할 수 없습니다. " + directory, e);
+        }
+    }
+
+    /**
+     * 잔액 변경 기록
+     * - 캐시에 반영한 뒤 같은 사용자의 다음 변경 전에 호출해야 함 (호출자가 사용자별로 직렬화)
+     * - ALWAYS 정책이면 fsync 될 때까지 대기
+     * @param userPoint 변경된 사용자 포인트
+     */
+    public void append(UserPoint userPoint) {
+        if (!enabled) {
+            return;
+        }
+        long seq;
+        synchronized (appendLock) {
+            if (!running) {
+                throw new IllegalStateException("포인트 저널이 종료되었습니다.");
+            }
+            if (pending.remaining() < ENTRY_SIZE) {
+                pending = ByteBuffer.allocate(pending.capacity() * 2).put(pending.flip());
+            }
+            int start = pending.position();
+            pending.putLong(userPoint.id()).putLong(userPoint.point()).putLong(userPoint.updateMillis());
+            crc.reset();
+            crc.update(pending.array(), start, SNAPSHOT_ENTRY_SIZE);
+            pending.putInt((int) crc.getValue());
+            seq = ++appendedSeq;
+            appendLock.notifyAll();
+        }
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            awaitDurable(seq);
+        }
+    }
+
+    /**
+     * 스냅샷 저장
+     * - 새 로그 파일로 넘긴 뒤 전체 잔액을 저장하고, 스냅샷 이전 로그/스냅샷 파일을 삭제
+     * - 로그 파일을 넘긴 시점 이전의 기록은 모두 캐시에 반영되어 있으므로 스냅샷에 포함됨
+     */
+    public void snapshot() {
+        if (!enabled || balances == null) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            long snapshotSeq;
+            try {
+                synchronized (ioLock) {
+                    flush();
+                    channel.close();
+                    snapshotSeq = ++walSeq;
+                    channel = openWal(snapshotSeq);
+                }
+                sinceSnapshot.set(0);
+                long count = writeSnapshot(snapshotSeq);
+                for (long seq : seqs("wal-", ".log")) {
+                    if (seq < snapshotSeq) {
+                        Files.deleteIfExists(file("wal-", seq, ".log"));
+                    }
+                }
+                for (long seq : seqs("snapshot-", ".dat")) {
+                    if (seq < snapshotSeq) {
+                        Files.deleteIfExists(file("snapshot-", seq, ".dat"));
+                    }
+                }
+                log.info("포인트 스냅샷 저장 완료 - 스냅샷: {}, 사용자 수: {}", snapshotSeq, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException("포인트 스냅샷을 저장할 수 없습니다. " + directory, e);
+            }
+        }
+    }
+
+    /**
+     * 종료
+     * - 남은 기록을 로그에 쓰고 스냅샷을 저장 (다음 시작 시 적용할 로그가 없도록)
+     */
+    @PreDestroy
+    public void close() {
+        synchronized (appendLock) {
+            if (!enabled || closed || balances == null) {
+                return;
+            }
+            closed = true;
+            running = false;
+            appendLock.notifyAll();
+        }
+        try {
+            syncThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshot();
+        try {
+            synchronized (ioLock) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            log.warn("포인트 저널 파일을 닫지 못했습니다.", e);
+        }
+    }
+
+    private void awaitDurable(long seq) {
+        synchronized (appendLock) {
+            while (durableSeq < seq) {
+                if (failure != null) {
+                    throw new UncheckedIOException("포인트 저널 기록에 실패했습니다.", failure);
+                }
+                try {
+                    appendLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("포인트 저널 기록 대기 중 중단되었습니다.", e);
+                }
+            }
+        }
+    }
+
+    private void syncLoop() {
+        try {
+            while (true) {
+                synchronized (appendLock) {
+                    while (running && pending.position() == 0) {
+                        appendLock.wait();
+                    }
+                    if (!running && pending.position() == 0) {
+                        return;
+                    }
+                }
+                if (fsyncPolicy == FsyncPolicy.INTERVAL && running) {
+                    Thread.sleep(fsyncIntervalMillis); // 간격 동안 들어온 기록을 모아서 fsync 한 번
+                }
+                synchronized (ioLock) {
+                    flush();
+                }
+                if (sinceSnapshot.get() >= snapshotEvery && snapshotRunning.compareAndSet(false, true)) {
+                    Thread snapshotThread = new Thread(() -> {
+                        try {
+                            snapshot();
+                        } catch (RuntimeException e) {
+                            log.error("포인트 스냅샷 저장 실패", e);
+                        } finally {
+                            snapshotRunning.set(false);
+                        }
+                    }, "point-journal-snapshot");
+                    snapshotThread.setDaemon(true);
+                    snapshotThread.start();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("포인트 저널 기록 실패 - 이후 변경은 저널에 남지 않습니다.", e);
+            synchronized (appendLock) {
+                failure = e;
+                running = false;
+                appendLock.notifyAll();
+            }
+        }
+    }
+
+    // ioLock 안에서 호출
+    private void flush() throws IOException {
+        ByteBuffer batch;
+        long upTo;
+        synchronized (appendLock) {
+            if (pending.position() == 0) {
+                return;
+            }
+            batch = pending;
+            pending = spare; // 쓰는 동안에도 다른 쓰레드는 반대쪽 버퍼에 기록
+            upTo = appendedSeq;
+        }
+        batch.flip();
+        int entries = batch.remaining() / ENTRY_SIZE;
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            channel.force(false);
+        }
+        sinceSnapshot.addAndGet(entries);
+        synchronized (appendLock) {
+            spare = batch.clear();
+            durableSeq = upTo;
+            appendLock.notifyAll();
+        }
+    }
+
+    private long writeSnapshot(long seq) throws IOException {
+        Path target = file("snapshot-", seq, ".dat");
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        long count = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_ENTRY_SIZE * IO_CHUNK_ENTRIES);
+            buffer.putInt(SNAPSHOT_MAGIC).putLong(0); // 건수는 마지막에 기록
+            for (UserPoint userPoint : balances.values()) {
+                if (buffer.remaining() < SNAPSHOT_ENTRY_SIZE) {
+                    writeFully(out, buffer.flip());
+                    buffer.clear();
+                }
+                buffer.putLong(userPoint.id()).putLong(userPoint.point()).putLong(userPoint.updateMillis());
+                count++;
+            }
+            writeFully(out, buffer.flip());
+            out.write(ByteBuffer.allocate(8).putLong(0, count), 4);
+            out.force(true);
+        }
+        // 이름을 바꾸기 전까지는 복구 대상이 아니므로 쓰다 만 스냅샷은 무시됨
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    private void readSnapshot(Path file, Map<Long, UserPoint> into) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE);
+            readFully(in, header);
+            if (header.flip().remaining() < SNAPSHOT_HEADER_SIZE || header.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("스냅샷 형식이 올바르지 않습니다. " + file);
+            }
+            long remaining = header.getLong();
+            ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_ENTRY_SIZE * IO_CHUNK_ENTRIES);
+            while (remaining > 0) {
+                buffer.clear();
+                if (readFully(in, buffer) < SNAPSHOT_ENTRY_SIZE) {
+                    throw new IOException("스냅샷이 손상되었습니다. " + file);
+                }
+                buffer.flip();
+                while (buffer.remaining() >= SNAPSHOT_ENTRY_SIZE && remaining > 0) {
+                    long id = buffer.getLong();
+                    into.put(id, new UserPoint(id, buffer.getLong(), buffer.getLong()));
+                    remaining--;
+                }
+            }
+        }
+    }
+
+    /**
+     * 로그 파일 적용
+     * - 끝이 잘렸거나 crc 가 맞지 않는 기록을 만나면 그 앞까지만 적용하고 파일을 잘라냄
+     * @return 적용한 기록 수
+     */
+    private long replay(Path file, Map<Long, UserPoint> into) throws IOException {
+        long applied = 0;
+        CRC32C checksum = new CRC32C();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(ENTRY_SIZE * IO_CHUNK_ENTRIES);
+            while (true) {
+                buffer.clear();
+                int read = readFully(in, buffer);
+                buffer.flip();
+                while (buffer.remaining() >= ENTRY_SIZE) {
+                    int start = buffer.position();
+                    checksum.reset();
+                    checksum.update(buffer.array(), start, SNAPSHOT_ENTRY_SIZE);
+                    long id = buffer.getLong();
+                    long point = buffer.getLong();
+                    long updateMillis = buffer.getLong();
+                    if (buffer.getInt() != (int) checksum.getValue()) {
+                        return truncate(in, file, applied);
+                    }
+                    into.put(id, new UserPoint(id, point, updateMillis));
+                    applied++;
+                }
+                if (buffer.hasRemaining()) { // 기록 중간에 끊긴 마지막 기록
+                    return truncate(in, file, applied);
+                }
+                if (read < buffer.capacity()) {
+                    return applied;
+                }
+            }
+        }
+    }
+
+    private static long truncate(FileChannel channel, Path file, long applied) throws IOException {
+        log.warn("포인트 저널 끝부분이 손상되어 잘라냅니다. {} (유효한 기록 수: {})", file, applied);
+        channel.truncate(applied * ENTRY_SIZE);
+        return applied;
+    }
+
+    private FileChannel openWal(long seq) throws IOException {
+        return FileChannel.open(file("wal-", seq, ".log"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path file(String prefix, long seq, String suffix) {
+        return directory.resolve(String.format("%s%016d%s", prefix, seq, suffix));
+    }
+
+    private long latestSeq(String prefix, String suffix) throws IOException {
+        List<Long> seqs = seqs(prefix, suffix);
+        return seqs.isEmpty() ? 0 : seqs.get(seqs.size() - 1);
+    }
+
+    private List<Long> seqs(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // 버퍼가 가득 차거나 파일 끝까지 읽음
+    private static int readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
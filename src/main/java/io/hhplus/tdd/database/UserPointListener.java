@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 사용자 포인트 변경 알림
+ * - UserPointCache 가 변경을 캐시와 저널에 반영한 직후, 변경한 쓰레드에서 호출 (사용자 락 안)
+ * - 같은 사용자의 변경은 반영된 순서대로 전달됨
+ * - 변경 요청을 막지 않도록 가볍게 처리해야 함 (예외는 로그만 남기고 변경은 성공으로 처리)
+ */
+// 예) 잔액이 바뀔 때마다 SSE 구독자에게 새 잔액 전달 (PointStreamHub)
+public interface UserPointListener {
+
+    /**
+     * 포인트 변경 반영 완료
+     * @param userPoint 변경된 사용자 포인트 (버전 포함)
+     */
+    void onUpdated(UserPoint userPoint);
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 사용자 포인트 저장소
+ * - UserPointCache 가 캐시에 없는 사용자를 읽고(selectById), 변경된 잔액을 나중에 저장(insertOrUpdateAll)할 때 사용하는 저장소 규격
+ * - 버전은 저장하지 않음 (캐시가 관리, 읽은 포인트의 버전은 0)
+ * - point.user-point.store 설정으로 구현을 선택 (table | jdbc)
+ */
+// 예) table : UserPointTable (메모리), jdbc : 내장 H2 user_point 테이블 (HikariCP 커넥션 풀, batch 저장)
+public interface UserPointStore {
+
+    /**
+     * 사용자 포인트 조회
+     * @return 사용자 포인트 (저장된 적 없는 사용자는 잔액 0)
+     */
+    UserPoint selectById(long id);
+
+    /**
+     * 사용자 포인트 일괄 저장 (없으면 추가, 있으면 잔액 변경)
+     * @param userPoints 저장할 사용자 포인트 (사용자 ID는 서로 다름)
+     */
+    void insertOrUpdateAll(List<UserPoint> userPoints);
+
+    /**
+     * insertOrUpdateAll 한 번에 전달받을 최대 사용자 수
+     * - 1 이면 사용자 한 명씩 저장 (저장 직전까지 쓰기 병합 기회가 가장 큼)
+     */
+    default int maxBatchSize() {
+        return 1;
+    }
+}
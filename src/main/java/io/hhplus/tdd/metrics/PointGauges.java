@@ -0,0 +1,143 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.point.HotAccountManager;
+import io.hhplus.tdd.point.PointStreamHub;
+import io.hhplus.tdd.util.IdempotencyCache;
+import io.hhplus.tdd.util.LatencyHistogram;
+import io.hhplus.tdd.util.QueueOverflowException;
+import io.hhplus.tdd.util.StripedLockManager;
+import io.hhplus.tdd.util.UserRequestExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 포인트 대기열 지표
+ * - 요청 실행기 / 캐시 저장 / 이력 저장 대기열의 현재 크기를 gauge 로 노출 (수집 시점에 조회)
+ * - 요청 대기열 과부하로 거절한 요청 수를 사유별 counter 로 노출
+ * - 이력 저장 실패/재시도/버린 이력 수를 노출
+ * - 포인트 캐시 조회를 캐시 적중 / 테이블 조회 / 진행 중인 조회 공유로 나눠 counter 로 노출
+ * - 분산 잔액으로 처리 중인 사용자(hot account) 수와 누적 전환 횟수를 노출
+ * - 잔액 스트림(SSE) 구독자 수와 전달/버린 변경 수를 노출
+ * - 스트라이프 락 대기/보유 시간을 스트라이프별 timer 로 노출
+ * - 사용자별 큐 깊이는 사용자 ID를 태그로 쓰면 시계열이 사용자 수만큼 늘어나므로 최대값과 활성 사용자 수로 노출
+ */
+// 예) point_executor_pending_tasks 가 늘고 point_table_seconds 는 그대로면 -> 테이블이 아니라 대기열에서 지연
+@Component
+public class PointGauges implements MeterBinder {
+
+    private final UserRequestExecutor userRequestExecutor;
+    private final UserPointCache userPointCache;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final StripedLockManager lockManager;
+    private final IdempotencyCache idempotencyCache;
+    private final HotAccountManager hotAccountManager;
+    private final PointStreamHub pointStreamHub;
+
+    public PointGauges(UserRequestExecutor userRequestExecutor, UserPointCache userPointCache,
+                       PointHistoryWriter pointHistoryWriter, StripedLockManager lockManager,
+                       IdempotencyCache idempotencyCache, HotAccountManager hotAccountManager,
+                       PointStreamHub pointStreamHub) {
+        this.userRequestExecutor = userRequestExecutor;
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.lockManager = lockManager;
+        this.idempotencyCache = idempotencyCache;
+        this.hotAccountManager = hotAccountManager;
+        this.pointStreamHub = pointStreamHub;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.executor.pending.tasks", userRequestExecutor, UserRequestExecutor::getPendingTaskCount)
+                .description("모든 사용자 큐에 남아 있는 작업 수")
+                .register(registry);
+        Gauge.builder("point.executor.user.queue.depth.max", userRequestExecutor, UserRequestExecutor::getMaxUserPendingTaskCount)
+                .description("작업이 가장 많이 쌓인 사용자의 대기 작업 수")
+                .register(registry);
+        Gauge.builder("point.executor.active.users", userRequestExecutor, UserRequestExecutor::getActiveUserCount)
+                .description("대기 작업이 있는 사용자 수")
+                .register(registry);
+        for (QueueOverflowException.Reason reason : QueueOverflowException.Reason.values()) {
+            FunctionCounter.builder("point.executor.rejected", userRequestExecutor, executor -> executor.getRejectedCount(reason))
+                    .tag("reason", reason.name().toLowerCase())
+                    .description("요청 대기열 과부하로 거절한 요청 수")
+                    .register(registry);
+        }
+        Gauge.builder("point.cache.size", userPointCache, UserPointCache::getSize)
+                .description("포인트 캐시에 보관 중인 사용자 수")
+                .register(registry);
+        Gauge.builder("point.cache.pending.flushes", userPointCache, UserPointCache::getPendingFlushCount)
+                .description("UserPointStore 저장 대기 중인 사용자 수")
+                .register(registry);
+        bindCacheReads(registry, "hit", UserPointCache::getHitCount);
+        bindCacheReads(registry, "load", UserPointCache::getLoadCount);
+        bindCacheReads(registry, "coalesced", UserPointCache::getCoalescedCount);
+        FunctionCounter.builder("point.cache.loads.piggybacked", userPointCache, UserPointCache::getPiggybackedCount)
+                .description("테이블 조회를 기다리던 중 포인트 변경 결과로 완료된 조회 수")
+                .register(registry);
+        Gauge.builder("point.history.pending.writes", pointHistoryWriter, PointHistoryWriter::getPendingCount)
+                .description("PointHistoryStore 저장 대기 중인 이력 수")
+                .register(registry);
+        Gauge.builder("point.history.retrying.writes", pointHistoryWriter, PointHistoryWriter::getRetryingCount)
+                .description("저장에 실패해 재시도 중인 이력 수")
+                .register(registry);
+        FunctionCounter.builder("point.history.write.failures", pointHistoryWriter, PointHistoryWriter::getFailureCount)
+                .description("PointHistoryStore 저장 실패 횟수 (재시도 포함)")
+                .register(registry);
+        FunctionCounter.builder("point.history.dropped", pointHistoryWriter, PointHistoryWriter::getDroppedCount)
+                .description("저장하지 못하고 버린 이력 수 (버퍼 가득 참, 종료 중 저장 실패)")
+                .register(registry);
+        Gauge.builder("point.idempotency.keys", idempotencyCache, IdempotencyCache::size)
+                .description("보관 중인 Idempotency-Key 수")
+                .register(registry);
+        FunctionCounter.builder("point.idempotency.hits", idempotencyCache, IdempotencyCache::getHitCount)
+                .description("Idempotency-Key 재시도에 저장된 결과를 반환한 횟수")
+                .register(registry);
+        Gauge.builder("point.hotkey.sharded.accounts", hotAccountManager, HotAccountManager::getShardedCount)
+                .description("분산 잔액으로 처리 중인 사용자 수")
+                .register(registry);
+        FunctionCounter.builder("point.hotkey.opened", hotAccountManager, HotAccountManager::getOpenedCount)
+                .description("분산 잔액으로 전환한 횟수")
+                .register(registry);
+        Gauge.builder("point.stream.subscribers", pointStreamHub, PointStreamHub::getSubscriberCount)
+                .description("잔액 스트림(SSE) 구독자 수")
+                .register(registry);
+        FunctionCounter.builder("point.stream.delivered", pointStreamHub, PointStreamHub::getDeliveredCount)
+                .description("잔액 스트림 구독자에게 전달한 변경 수")
+                .register(registry);
+        FunctionCounter.builder("point.stream.dropped", pointStreamHub, PointStreamHub::getDroppedCount)
+                .description("구독자 버퍼가 가득 차 버린 변경 수")
+                .register(registry);
+        FunctionCounter.builder("point.stream.timed-out", pointStreamHub, PointStreamHub::getTimedOutCount)
+                .description("전송이 제한 시간 안에 끝나지 않아 끊은 구독 수")
+                .register(registry);
+
+        for (int stripe = 0; stripe < lockManager.getStripeCount(); stripe++) {
+            bindLatency(registry, "point.lock.wait", stripe, lockManager.getWaitTime(stripe));
+            bindLatency(registry, "point.lock.hold", stripe, lockManager.getHoldTime(stripe));
+        }
+    }
+
+    // result=hit(캐시) / load(테이블 조회) / coalesced(진행 중인 조회 공유)
+    private void bindCacheReads(MeterRegistry registry, String result, ToDoubleFunction<UserPointCache> count) {
+        FunctionCounter.builder("point.cache.reads", userPointCache, count)
+                .tag("result", result)
+                .description("포인트 캐시 조회 수")
+                .register(registry);
+    }
+
+    private static void bindLatency(MeterRegistry registry, String name, int stripe, LatencyHistogram histogram) {
+        FunctionTimer.builder(name, histogram, LatencyHistogram::count, LatencyHistogram::totalNanos, TimeUnit.NANOSECONDS)
+                .tag("stripe", String.valueOf(stripe))
+                .register(registry);
+    }
+}
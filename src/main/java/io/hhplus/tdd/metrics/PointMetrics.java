@@ -0,0 +1,101 @@
+package io.hhplus.tdd.metrics;
+
+import io.hhplus.tdd.point.PointException;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 포인트 지표 기록
+ * - point.service : PointService 메서드별 처리 시간 (method, outcome 태그)
+ * - point.table : UserPointStore / PointHistoryStore 호출 시간 (table, operation, outcome 태그)
+ * - point.batch.items : 일괄 처리 항목 수 (type, outcome 태그)
+ * - outcome 은 success, 오류 코드 소문자(예: insufficient_balance, max_balance_exceeded, invalid_id), error 중 하나
+ * - 컨트롤러 엔드포인트는 스프링이 기록하는 http.server.requests 지표로 확인
+ */
+// 예) pointMetrics.recordService("chargePoint", () -> ...); // point_service_seconds_count{method="chargePoint",outcome="success"}
+@Component
+public class PointMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry registry;
+
+    public PointMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 서비스 메서드 실행 시간 기록
+     * - 예외가 발생해도 결과(outcome)를 태그로 남기고 예외는 그대로 전달
+     * @param method 메서드 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T recordService(String method, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(registry.timer("point.service", "method", method, "outcome", outcome));
+        }
+    }
+
+    /**
+     * 반환 값이 없는 서비스 메서드 실행 시간 기록
+     */
+    public void runService(String method, Runnable action) {
+        recordService(method, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 테이블 호출 시간 기록
+     * @param table 테이블 이름 (예: user_point, point_history)
+     * @param operation 호출한 메서드 이름
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T recordTable(String table, String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(registry.timer("point.table", "table", table, "operation", operation, "outcome", outcome));
+        }
+    }
+
+    /**
+     * 일괄 처리 항목별 결과 집계
+     */
+    public void recordBatchResults(List<PointOperationResult> results) {
+        for (PointOperationResult result : results) {
+            String type = result.type() == null ? "unknown" : result.type().name().toLowerCase(Locale.ROOT);
+            String outcome = result.success() ? SUCCESS : result.errorCode().toLowerCase(Locale.ROOT);
+            registry.counter("point.batch.items", "type", type, "outcome", outcome).increment();
+        }
+    }
+
+    private static String outcomeOf(RuntimeException e) {
+        return e instanceof PointException pointException
+                ? pointException.getErrorCode().name().toLowerCase(Locale.ROOT)
+                : ERROR;
+    }
+}
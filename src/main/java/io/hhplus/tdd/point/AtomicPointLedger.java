@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.util.LongAtomicLongMap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 포인트 잔액 장부
+ * - 사용자별 잔액을 AtomicLong 으로 보관하고 충전/사용을 compare-and-set 반복으로 반영
+ * - 최대 잔고(MAX_POINT_BALANCE)와 잔액 부족 검증을 CAS 직전 값으로 수행하므로 락 없이도 규칙이 지켜짐
+ * - 잔액은 long 키 전용 맵에 보관하여 요청마다 Long 박싱이나 UserPoint 생성이 없음
+ * - 이력 저장/테이블 저장은 하지 않는 동기 잔액 계산 전용 (락 방식과의 성능 비교용)
+ */
+// 예) ledger.charge(1L, 1_000L); // 충전 후 잔액 반환
+public class AtomicPointLedger {
+
+    private final LongAtomicLongMap balances;
+
+    public AtomicPointLedger(int expectedUsers) {
+        this.balances = new LongAtomicLongMap(expectedUsers);
+    }
+
+    /**
+     * 잔액 조회
+     * @return 잔액 (없는 사용자는 0)
+     */
+    public long balance(long userId) {
+        validateUserId(userId);
+        AtomicLong balance = balances.get(userId);
+        return balance == null ? 0 : balance.get();
+    }
+
+    /**
+     * 포인트 충전
+     * @return 충전 후 잔액
+     */
+    public long charge(long userId, long amount) {
+        validateUserId(userId);
+        if (amount <= 0) { // 충전 금액이 음수나 0이 될 수 없다
+            throw new PointException(PointErrorCode.INVALID_AMOUNT, "충전 요청 포인트는 0원 이하일 수 없습니다.");
+        }
+        AtomicLong balance = balances.getOrCreate(userId);
+        while (true) {
+            long current = balance.get();
+            if (amount > PointService.MAX_POINT_BALANCE - current) { // 최대 잔고 초과
+                throw new PointException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+            }
+            long updated = current + amount;
+            if (balance.compareAndSet(current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    /**
+     * 포인트 사용
+     * @return 사용 후 잔액
+     */
+    public long use(long userId, long amount) {
+        validateUserId(userId);
+        if (amount <= 0) { // 사용 금액이 0이하
+            throw new PointException(PointErrorCode.INVALID_AMOUNT, "사용 요청 포인트는 0원 이하일 수 없습니다.");
+        }
+        AtomicLong balance = balances.get(userId);
+        while (true) {
+            long current = balance == null ? 0 : balance.get();
+            if (current < amount) { // 잔액 부족
+                throw new PointException(PointErrorCode.INSUFFICIENT_BALANCE);
+            }
+            long updated = current - amount;
+            if (balance.compareAndSet(current, updated)) {
+                return updated;
+            }
+        }
+    }
+
+    private static void validateUserId(long userId) {
+        if (userId <= 0) { // 유효하지 않은 ID
+            throw new PointException(PointErrorCode.INVALID_ID);
+        }
+    }
+}
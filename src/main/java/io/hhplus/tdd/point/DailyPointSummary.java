@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 하루 동안의 포인트 이력 종류별 집계
+ * - 이력이 있는 날만 만들어짐
+ */
+public record DailyPointSummary(
+        LocalDate date,
+        Map<TransactionType, PointTypeSummary> types
+) {
+}
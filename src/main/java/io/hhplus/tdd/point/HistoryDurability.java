@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이력 저장 보장 수준
+ * - SYNC : 이력이 PointHistoryStore 에 저장된 뒤 응답 (저장이 실패하면 재시도가 성공할 때까지 대기,
+ *          이력을 버렸으면 PointHistoryUnavailableException 으로 503 응답)
+ * - ASYNC : 이력 저장을 예약만 하고 바로 응답 (저장은 이력 저장 쓰레드가 순서대로 처리)
+ */
+public enum HistoryDurability {
+    SYNC, ASYNC
+}
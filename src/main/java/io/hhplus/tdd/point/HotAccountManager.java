@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.util.HotKeyDetector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청이 몰리는 사용자(hot account) 관리
+ * - HotKeyDetector 가 hot 으로 판단한 사용자의 잔액을 ShardedBalance 로 옮겨 충전이 사용자 락 없이 병렬로 처리되게 함
+ * - 더 이상 hot 이 아니면 합산 잔액을 캐시에 돌려놓고 일반 경로(사용자 락)로 복귀
+ * - 전환(open/close)은 PointService 가 해당 사용자의 스트라이프 락 안에서 호출
+ */
+// 예) 이벤트 중 특정 가맹점 계정에 초당 수천 건의 충전 -> 칸 16개에 나눠 충전, 조회 시 합산
+@Component
+public class HotAccountManager {
+
+    private final HotKeyDetector hotKeyDetector;
+    private final int shards;
+    private final ConcurrentHashMap<Long, ShardedBalance> accounts = new ConcurrentHashMap<>();
+    private final LongAdder opened = new LongAdder();
+
+    /**
+     * @param hotKeyDetector 사용자별 요청 빈도 추정
+     * @param shards hot 사용자 잔액을 나눌 칸 수
+     */
+    @Autowired
+    public HotAccountManager(HotKeyDetector hotKeyDetector, @Value("${point.hotkey.shards:16}") int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("칸 수는 0 이하일 수 없습니다.");
+        }
+        this.hotKeyDetector = hotKeyDetector;
+        this.shards = shards;
+    }
+
+    /**
+     * 분산 처리를 하지 않는 관리자 (테스트/벤치마크용)
+     */
+    public static HotAccountManager disabled() {
+        return new HotAccountManager(new HotKeyDetector(Long.MAX_VALUE, 1_000, 1), 1);
+    }
+
+    /**
+     * 요청 기록
+     * @return 기록 후 hot 이면 true
+     */
+    boolean record(long userId) {
+        return hotKeyDetector.record(userId);
+    }
+
+    /**
+     * 분산 잔액으로 처리 중인 사용자인지 (요청 분배용)
+     */
+    public boolean isSharded(long userId) {
+        return accounts.containsKey(userId);
+    }
+
+    ShardedBalance get(long userId) {
+        return accounts.get(userId);
+    }
+
+    /**
+     * 분산 잔액으로 전환 (스트라이프 락 안에서 호출)
+     * @param userPoint 현재 잔액/버전
+     */
+    ShardedBalance open(long userId, UserPoint userPoint) {
+        return accounts.computeIfAbsent(userId, key -> {
+            opened.increment();
+            return new ShardedBalance(shards, PointService.MAX_POINT_BALANCE, userPoint);
+        });
+    }
+
+    /**
+     * 일반 잔액으로 복귀 (스트라이프 락 안에서 호출)
+     * @return 닫은 분산 잔액 (없으면 null)
+     */
+    ShardedBalance close(long userId) {
+        return accounts.remove(userId);
+    }
+
+    /**
+     * 분산 잔액으로 처리 중인 사용자 수
+     */
+    public int getShardedCount() {
+        return accounts.size();
+    }
+
+    /**
+     * 분산 잔액으로 전환한 누적 횟수
+     */
+    public long getOpenedCount() {
+        return opened.sum();
+    }
+}
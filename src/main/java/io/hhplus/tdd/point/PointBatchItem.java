@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 항목과 요청 목록에서의 위치
+ */
+public record PointBatchItem(
+        int index,
+        PointOperation operation
+) {
+}
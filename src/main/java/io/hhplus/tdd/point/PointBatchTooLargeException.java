@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 건수가 최대 건수(PointService.MAX_BATCH_SIZE)를 넘음
+ * - 응답은 413 (Content Too Large), 클라이언트는 요청을 나눠서 다시 보냄
+ */
+public class PointBatchTooLargeException extends PointException {
+
+    public PointBatchTooLargeException() {
+        super(PointErrorCode.BATCH_TOO_LARGE);
+    }
+}
@@ -1,30 +1,85 @@
 package io.hhplus.tdd.point;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET) // reactive 프로필에서는 PointRouter 가 처리
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
     private final PointService pointService;
-    public PointController(PointService pointService) {
+    private final PointRequestDispatcher pointRequestDispatcher; // 충전/사용을 사용자별 순차 실행기로 분배
+    private final ObjectMapper objectMapper;                      // NDJSON 스트리밍 직렬화
+    private final PointStreamHub pointStreamHub;                  // 잔액 변경 SSE 전달
+    private final long streamTimeoutMillis;                       // SSE 연결 유지 시간 (지나면 클라이언트가 다시 연결)
+
+    public PointController(PointService pointService, PointRequestDispatcher pointRequestDispatcher, ObjectMapper objectMapper,
+                           PointStreamHub pointStreamHub,
+                           @Value("${point.stream.timeout-ms:1800000}") long streamTimeoutMillis) {
         this.pointService = pointService;
+        this.pointRequestDispatcher = pointRequestDispatcher;
+        this.objectMapper = objectMapper;
+        this.pointStreamHub = pointStreamHub;
+        this.streamTimeoutMillis = streamTimeoutMillis;
     }
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
      */
+    // 응답 ETag 를 If-None-Match 로 보내면 잔액이 그대로일 때 본문 없이 304 (폴링 클라이언트용)
     @GetMapping("{id}")
-    public UserPoint point(@PathVariable long id) {
+    public ResponseEntity<UserPoint> point(@PathVariable long id,
+                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         UserPoint userpoint = pointService.getUserPoint(id);
         // System.out.println("C)포인트 조회 = " + userpoint);
 
-        return userpoint;
+        if (UserPointETag.matches(ifNoneMatch, userpoint)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(UserPointETag.of(userpoint)).build();
+        }
+        return withETag(userpoint);
+    }
+
+    /**
+     * 특정 유저의 포인트 변경을 SSE(Server-Sent Events)로 전달
+     * - 현재 포인트를 먼저 보내고, 이후 충전/사용/이체가 반영될 때마다 새 포인트를 보냄 (폴링 대체)
+     * - 이벤트 id 는 포인트 버전, 이벤트 이름은 point
+     * - 클라이언트가 느리면 전달하지 못한 변경 중 오래된 것부터 버림 (마지막 값은 항상 전달)
+     * - 한 번의 전송이 send-timeout 안에 끝나지 않으면 연결을 닫음 (클라이언트가 다시 연결)
+     */
+    // 예) new EventSource("/point/1/stream").addEventListener("point", e => render(JSON.parse(e.data)))
+    @GetMapping(value = "{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable long id) {
+        UserPoint current = pointService.getUserPoint(id); // 잘못된 ID, 없는 사용자는 SSE 연결 전에 오류 응답
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        PointStreamHub.Subscription subscription = pointStreamHub.subscribe(id, current, userPoint -> {
+            try {
+                emitter.send(SseEmitter.event().id(Long.toString(userPoint.version())).name("point").data(userPoint));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, emitter::complete);
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        subscription.request(Long.MAX_VALUE);
+        return emitter;
     }
 
     /**
@@ -37,23 +92,112 @@ public class PointController {
         return histories;
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 페이지 단위로 조회
+     * - limit 파라미터가 있으면 이 API 로 처리
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (null 이면 마지막 페이지)
+     */
+    // 예) GET /point/1/histories?limit=50&cursor=120&type=USE&from=1700000000000
+    @GetMapping(value = "{id}/histories", params = "limit")
+    public PointHistoryPage historyPage(@PathVariable long id,
+                                        @RequestParam int limit,
+                                        @RequestParam(defaultValue = "0") long cursor,
+                                        @RequestParam(required = false) Long from,
+                                        @RequestParam(required = false) Long to,
+                                        @RequestParam(required = false) TransactionType type) {
+        return pointService.getUserHistoryPage(id, new PointHistoryQuery(cursor, limit, from, to, type));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 NDJSON(한 줄에 이력 하나)으로 스트리밍
+     * - 전체 목록을 메모리에 만들지 않고 이력을 한 건씩 응답에 씀
+     * - 200 응답을 보낸 뒤에는 400 으로 바꿀 수 없으므로 사용자 ID는 본문을 만들기 전에 확인
+     */
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyStream(@PathVariable long id,
+                                                               @RequestParam(defaultValue = "0") long cursor,
+                                                               @RequestParam(required = false) Long from,
+                                                               @RequestParam(required = false) Long to,
+                                                               @RequestParam(required = false) TransactionType type) {
+        PointService.checkUserId(id);
+        PointHistoryQuery query = new PointHistoryQuery(cursor, Integer.MAX_VALUE, from, to, type);
+        StreamingResponseBody body = out -> pointService.streamUserHistories(id, query, pointHistory -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(pointHistory));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 요약 조회
+     * - 종류별 건수/금액 합계, 전체 건수, 마지막 이력 시각
+     * - days 를 지정하면 최근 days 일(오늘 포함)의 일별 집계도 함께 반환
+     */
+    // 예) GET /point/1/summary?days=7
+    @GetMapping("{id}/summary")
+    public PointSummary summary(@PathVariable long id, @RequestParam(defaultValue = "0") int days) {
+        return pointService.getUserSummary(id, days);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
+    // 같은 사용자의 충전/사용 요청은 사용자별 큐에서 순서대로 실행된다
+    // durability=SYNC 이면 포인트 이력 저장까지 끝난 뒤 응답 (생략하면 point.history.durability 설정값)
+    // Idempotency-Key 헤더가 같은 재시도는 다시 충전하지 않고 처음 요청의 결과를 반환
+    // If-Match 헤더(조회 응답의 ETag)가 있으면 그 사이 잔액이 바뀌지 않았을 때만 충전 (바뀌었으면 412)
     @PatchMapping("{id}/charge")
-    public UserPoint charge(@PathVariable long id, @RequestBody long amount) {
-        UserPoint updatedPoint = pointService.chargePoint(id, amount);
-        // System.out.println("C)포인트 충전 = " + updatedPoint);
-        return updatedPoint;
+    public CompletableFuture<ResponseEntity<UserPoint>> charge(@PathVariable long id, @RequestBody long amount,
+                                                               @RequestParam(required = false) HistoryDurability durability,
+                                                               @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return pointRequestDispatcher.charge(id, amount, durability, idempotencyKey, UserPointETag.expectedVersion(ifMatch))
+                .thenApply(PointController::withETag);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(@PathVariable long id, @RequestBody long amount) {
-        UserPoint updatedPoint = pointService.usePoint(id, amount);
-        // System.out.println("C)포인트 사용 = " + updatedPoint);
-        return updatedPoint;
+    public CompletableFuture<ResponseEntity<UserPoint>> use(@PathVariable long id, @RequestBody long amount,
+                                                            @RequestParam(required = false) HistoryDurability durability,
+                                                            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return pointRequestDispatcher.use(id, amount, durability, idempotencyKey, UserPointETag.expectedVersion(ifMatch))
+                .thenApply(PointController::withETag);
+    }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 이체
+     * - 보내는 유저 차감과 받는 유저 증가가 함께 반영되고, 두 유저에게 TRANSFER 이력이 한 건씩 남음
+     */
+    // 예) POST /point/transfer {"fromUserId":1,"toUserId":2,"amount":1000}
+    @PostMapping("transfer")
+    public CompletableFuture<PointTransferResult> transfer(@RequestBody PointTransfer transfer,
+                                                           @RequestParam(required = false) HistoryDurability durability,
+                                                           @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return pointRequestDispatcher.transfer(transfer, durability, idempotencyKey);
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용
+     * - 요청 항목을 유저별로 묶어 유저마다 한 번의 작업으로 처리 (유저 간에는 병렬)
+     * - 같은 유저의 항목은 요청 순서대로 적용되고, 항목별 성공/실패 결과를 요청 순서대로 반환
+     * - 항목이 PointService.MAX_BATCH_SIZE 건을 넘으면 413
+     */
+    // 예) POST /point/batch [{"userId":1,"type":"CHARGE","amount":1000},{"userId":2,"type":"USE","amount":500}]
+    @PostMapping("batch")
+    public CompletableFuture<List<PointOperationResult>> batch(@RequestBody List<PointOperation> operations,
+                                                               @RequestParam(required = false) HistoryDurability durability) {
+        return pointRequestDispatcher.batch(operations, durability);
+    }
+
+    // 변경/조회 결과와 ETag (다음 요청의 If-Match / If-None-Match 로 사용)
+    private static ResponseEntity<UserPoint> withETag(UserPoint userPoint) {
+        return ResponseEntity.ok().eTag(UserPointETag.of(userPoint)).body(userPoint);
     }
 }
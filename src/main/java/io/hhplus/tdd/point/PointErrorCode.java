@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 오류 코드
+ * - ErrorResponse 의 code 로 사용되고, 지표(metrics)의 결과(outcome) 태그로도 사용
+ */
+public enum PointErrorCode {
+    INVALID_ID("유효하지 않은 사용자 ID입니다."),
+    INVALID_AMOUNT("요청 포인트는 0원 이하일 수 없습니다."),
+    INVALID_TYPE("지원하지 않는 요청 종류입니다."),
+    INVALID_LIMIT("조회 건수는 1 ~ " + PointHistoryQuery.MAX_LIMIT + " 사이여야 합니다."),
+    INVALID_DAYS("조회 기간이 일별 집계 보관 기간을 벗어났습니다."),
+    USER_POINT_NOT_FOUND("해당 사용자의 포인트 정보가 없습니다."),
+    HISTORY_NOT_FOUND("해당 사용자의 포인트 이력 정보가 없습니다."),
+    MAX_BALANCE_EXCEEDED("보유 포인트는 1000만원 이상일 수 없습니다."),
+    INSUFFICIENT_BALANCE("보유 포인트는 0원 이하일 수 없습니다."),
+    SELF_TRANSFER("자기 자신에게는 포인트를 이체할 수 없습니다."),
+    VERSION_MISMATCH("포인트 정보가 변경되었습니다. 다시 조회한 뒤 요청해 주세요."),
+    BATCH_TOO_LARGE("일괄 처리 요청은 " + PointService.MAX_BATCH_SIZE + "건을 넘을 수 없습니다."),
+    OVERLOADED("요청이 너무 많아 처리하지 않았습니다. 잠시 후 다시 시도해주세요."),
+    RESULT_UNKNOWN("처리 중 오류가 발생해 반영 여부를 확인하지 못했습니다. 포인트를 조회한 뒤 다시 요청해 주세요.");
+
+    private final String message;
+
+    PointErrorCode(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
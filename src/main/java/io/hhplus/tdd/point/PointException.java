@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 포인트 비즈니스 규칙 위반 예외
+ * - 메시지는 ErrorResponse 형식 (예: ErrorResponse[code=INVALID_ID, message=유효하지 않은 사용자 ID입니다.])
+ */
+public class PointException extends IllegalArgumentException {
+
+    private final PointErrorCode errorCode;
+    private final ErrorResponse errorResponse;
+
+    public PointException(PointErrorCode errorCode) {
+        this(errorCode, errorCode.getMessage());
+    }
+
+    // 같은 오류 코드에 상황별 메시지를 쓸 때 사용 (예: 충전/사용 금액 오류)
+    public PointException(PointErrorCode errorCode, String message) {
+        this(errorCode, new ErrorResponse(errorCode.name(), message));
+    }
+
+    private PointException(PointErrorCode errorCode, ErrorResponse errorResponse) {
+        super(errorResponse.toString());
+        this.errorCode = errorCode;
+        this.errorResponse = errorResponse;
+    }
+
+    public PointErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public ErrorResponse getErrorResponse() {
+        return errorResponse;
+    }
+}
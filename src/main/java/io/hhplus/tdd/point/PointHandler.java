@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 포인트 API WebFlux 핸들러 (reactive 프로필)
+ * - PointController 와 같은 경로/파라미터/응답 형식을 ReactivePointService 로 처리
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PointHandler {
+
+    private static final ParameterizedTypeReference<List<PointOperation>> OPERATIONS = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<ServerSentEvent<UserPoint>> POINT_EVENT = new ParameterizedTypeReference<>() {
+    };
+
+    private final ReactivePointService reactivePointService;
+
+    public PointHandler(ReactivePointService reactivePointService) {
+        this.reactivePointService = reactivePointService;
+    }
+
+    // GET /point/{id} (If-None-Match 가 현재 ETag 와 같으면 304)
+    public Mono<ServerResponse> point(ServerRequest request) {
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        return reactivePointService.getUserPoint(id(request))
+                .flatMap(userPoint -> UserPointETag.matches(ifNoneMatch, userPoint)
+                        ? ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(UserPointETag.of(userPoint)).build()
+                        : withETag(userPoint));
+    }
+
+    // GET /point/{id}/stream (SSE, 이벤트 id = 포인트 버전, 없는 사용자는 연결 전에 오류 응답)
+    public Mono<ServerResponse> stream(ServerRequest request) {
+        long id = id(request);
+        return reactivePointService.getUserPoint(id)
+                .flatMap(current -> ServerResponse.ok().contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(reactivePointService.streamUserPoint(id, current)
+                                .map(userPoint -> ServerSentEvent.builder(userPoint)
+                                        .id(Long.toString(userPoint.version()))
+                                        .event("point")
+                                        .build()), POINT_EVENT));
+    }
+
+    // GET /point/{id}/histories (limit 파라미터가 있으면 페이지 조회)
+    public Mono<ServerResponse> history(ServerRequest request) {
+        long id = id(request);
+        if (request.queryParam("limit").isPresent()) {
+            return reactivePointService.getUserHistoryPage(id, query(request, Integer.parseInt(request.queryParam("limit").get())))
+                    .flatMap(page -> ServerResponse.ok().bodyValue(page));
+        }
+        return reactivePointService.getUserHistories(id).collectList()
+                .flatMap(histories -> ServerResponse.ok().bodyValue(histories));
+    }
+
+    // GET /point/{id}/histories/stream (NDJSON)
+    public Mono<ServerResponse> historyStream(ServerRequest request) {
+        long id = id(request);
+        return Mono.defer(() -> {
+            PointService.checkUserId(id); // 200 응답을 시작하기 전에 확인
+            return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+                    .body(reactivePointService.streamUserHistories(id, query(request, Integer.MAX_VALUE)), PointHistory.class);
+        });
+    }
+
+    // GET /point/{id}/summary?days=N
+    public Mono<ServerResponse> summary(ServerRequest request) {
+        int days = request.queryParam("days").map(Integer::parseInt).orElse(0);
+        return reactivePointService.getUserSummary(id(request), days)
+                .flatMap(summary -> ServerResponse.ok().bodyValue(summary));
+    }
+
+    // PATCH /point/{id}/charge (If-Match 가 현재 ETag 와 다르면 412)
+    public Mono<ServerResponse> charge(ServerRequest request) {
+        long id = id(request);
+        return amount(request)
+                .flatMap(amount -> reactivePointService.chargePoint(id, amount, durability(request), idempotencyKey(request),
+                        expectedVersion(request)))
+                .flatMap(PointHandler::withETag);
+    }
+
+    // PATCH /point/{id}/use (If-Match 가 현재 ETag 와 다르면 412)
+    public Mono<ServerResponse> use(ServerRequest request) {
+        long id = id(request);
+        return amount(request)
+                .flatMap(amount -> reactivePointService.usePoint(id, amount, durability(request), idempotencyKey(request),
+                        expectedVersion(request)))
+                .flatMap(PointHandler::withETag);
+    }
+
+    // POST /point/transfer
+    public Mono<ServerResponse> transfer(ServerRequest request) {
+        return request.bodyToMono(PointTransfer.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("이체 요청이 없습니다.")))
+                .flatMap(transfer -> reactivePointService.transferPoint(transfer, durability(request), idempotencyKey(request)))
+                .flatMap(result -> ServerResponse.ok().bodyValue(result));
+    }
+
+    // POST /point/batch
+    public Mono<ServerResponse> batch(ServerRequest request) {
+        return request.bodyToMono(OPERATIONS)
+                .flatMap(operations -> reactivePointService.applyBatch(operations, durability(request)))
+                .flatMap(results -> ServerResponse.ok().bodyValue(results));
+    }
+
+    private static long id(ServerRequest request) {
+        return Long.parseLong(request.pathVariable("id"));
+    }
+
+    private static Mono<Long> amount(ServerRequest request) {
+        return request.bodyToMono(Long.class)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("요청 포인트가 없습니다.")));
+    }
+
+    private static HistoryDurability durability(ServerRequest request) {
+        return request.queryParam("durability").map(HistoryDurability::valueOf).orElse(null);
+    }
+
+    private static String idempotencyKey(ServerRequest request) {
+        return request.headers().firstHeader("Idempotency-Key");
+    }
+
+    private static Long expectedVersion(ServerRequest request) {
+        return UserPointETag.expectedVersion(request.headers().firstHeader(HttpHeaders.IF_MATCH));
+    }
+
+    private static Mono<ServerResponse> withETag(UserPoint userPoint) {
+        return ServerResponse.ok().eTag(UserPointETag.of(userPoint)).bodyValue(userPoint);
+    }
+
+    private static PointHistoryQuery query(ServerRequest request, int limit) {
+        return new PointHistoryQuery(
+                request.queryParam("cursor").map(Long::parseLong).orElse(0L),
+                limit,
+                request.queryParam("from").map(Long::valueOf).orElse(null),
+                request.queryParam("to").map(Long::valueOf).orElse(null),
+                request.queryParam("type").map(TransactionType::valueOf).orElse(null));
+    }
+}
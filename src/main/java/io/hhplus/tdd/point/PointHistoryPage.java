@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 페이지
+ * - nextCursor : 다음 페이지 요청에 사용할 cursor (더 이상 이력이 없으면 null)
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이력 조회 조건
+ * - cursor : 이 ID 보다 큰 이력부터 조회 (0 이면 처음부터)
+ * - limit : 한 번에 조회할 최대 건수
+ * - from, to : updateMillis 범위 [from, to) (null 이면 제한 없음)
+ * - type : 트랜잭션 종류 (null 이면 전체)
+ */
+// 예) new PointHistoryQuery(120L, 50, null, null, TransactionType.USE) -> 이력 ID 120 이후의 사용 내역 50건
+public record PointHistoryQuery(
+        long cursor,
+        int limit,
+        Long from,
+        Long to,
+        TransactionType type
+) {
+
+    public static final int MAX_LIMIT = 1_000; // 한 페이지 최대 건수
+
+    /**
+     * 전체 이력 조건 (건수 제한 없음)
+     */
+    public static PointHistoryQuery all() {
+        return new PointHistoryQuery(0, Integer.MAX_VALUE, null, null, null);
+    }
+
+    /**
+     * 시간 범위와 트랜잭션 종류 조건 확인 (cursor, limit 제외)
+     * @param pointHistory 포인트 이력
+     * @return 조건에 맞으면 true
+     */
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.updateMillis(), pointHistory.type());
+    }
+
+    /**
+     * 시간 범위와 트랜잭션 종류 조건 확인 (PointHistory 를 만들기 전의 값으로 확인)
+     */
+    public boolean matches(long updateMillis, TransactionType type) {
+        return (from == null || updateMillis >= from)
+                && (to == null || updateMillis < to)
+                && (this.type == null || type == this.type);
+    }
+}
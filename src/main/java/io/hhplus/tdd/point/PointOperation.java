@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청 항목
+ * - type : CHARGE(충전) 또는 USE(사용)
+ * - amount : 충전/사용 포인트 (양수)
+ */
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+}
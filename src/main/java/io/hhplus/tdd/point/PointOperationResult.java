@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 항목별 결과
+ * - index : 요청 목록에서의 위치
+ * - userPoint : 성공 시 해당 항목 반영 직후의 포인트 (실패 시 null)
+ * - errorCode, message : 실패 사유 (성공 시 null)
+ */
+public record PointOperationResult(
+        int index,
+        long userId,
+        TransactionType type,
+        long amount,
+        boolean success,
+        UserPoint userPoint,
+        String errorCode,
+        String message
+) {
+
+    public static PointOperationResult success(PointBatchItem item, UserPoint userPoint) {
+        PointOperation operation = item.operation();
+        return new PointOperationResult(item.index(), operation.userId(), operation.type(), operation.amount(),
+                true, userPoint, null, null);
+    }
+
+    public static PointOperationResult failure(PointBatchItem item, PointErrorCode errorCode) {
+        return failure(item, errorCode.name(), errorCode.getMessage());
+    }
+
+    public static PointOperationResult failure(PointBatchItem item, String errorCode, String message) {
+        PointOperation operation = item.operation();
+        return new PointOperationResult(item.index(), operation.userId(), operation.type(), operation.amount(),
+                false, null, errorCode, message);
+    }
+}
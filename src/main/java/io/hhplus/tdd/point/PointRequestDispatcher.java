@@ -0,0 +1,159 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.util.IdempotencyCache;
+import io.hhplus.tdd.util.QueueOverflowException;
+import io.hhplus.tdd.util.UserRequestExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 포인트 변경 요청 분배
+ * - 충전/사용/일괄 처리 요청을 사용자별 요청 실행기(UserRequestExecutor)에 넣고 결과를 future 로 반환
+ * - 요청 쓰레드(Tomcat 쓰레드, 이벤트 루프)는 테이블 호출을 기다리지 않음
+ * - 분산 잔액으로 처리 중인 사용자(HotAccountManager)의 충전은 사용자 큐를 거치지 않고 여러 워커에서 동시에 실행
+ * - MVC 컨트롤러(PointController)와 WebFlux 핸들러(ReactivePointService)가 같은 규칙으로 요청을 처리하도록 공유
+ */
+// 예) dispatcher.charge(1L, 1_000L, null, "abc") -> 사용자 1의 워커에서 충전, 같은 Idempotency-Key 재시도는 첫 결과 반환
+@Component
+public class PointRequestDispatcher {
+
+    private final PointService pointService;
+    private final UserRequestExecutor userRequestExecutor; // 사용자별 순차 실행기
+    private final IdempotencyCache idempotencyCache;        // Idempotency-Key 재시도 결과 캐시
+    private final HotAccountManager hotAccountManager;      // 요청이 몰리는 사용자의 분산 잔액
+
+    public PointRequestDispatcher(PointService pointService, UserRequestExecutor userRequestExecutor,
+                                  IdempotencyCache idempotencyCache, HotAccountManager hotAccountManager) {
+        this.pointService = pointService;
+        this.userRequestExecutor = userRequestExecutor;
+        this.idempotencyCache = idempotencyCache;
+        this.hotAccountManager = hotAccountManager;
+    }
+
+    /**
+     * 포인트 충전
+     * @param durability 이력 저장 보장 수준 (null 이면 point.history.durability 설정값)
+     * @param idempotencyKey 멱등성 키 (null 이면 매번 실행)
+     */
+    public CompletableFuture<UserPoint> charge(long id, long amount, HistoryDurability durability, String idempotencyKey) {
+        return charge(id, amount, durability, idempotencyKey, null);
+    }
+
+    /**
+     * 포인트 충전 (If-Match)
+     * @param expectedVersion 기대 버전 (null 이면 확인하지 않음, 다르면 PointVersionMismatchException 으로 완료)
+     */
+    public CompletableFuture<UserPoint> charge(long id, long amount, HistoryDurability durability, String idempotencyKey,
+                                               Long expectedVersion) {
+        Supplier<UserPoint> action = () -> pointService.chargePoint(id, amount, durability, expectedVersion);
+        return idempotent(idempotencyKey, id, "charge:" + amount, () -> hotAccountManager.isSharded(id)
+                ? userRequestExecutor.submitUnordered(id, action) // 충전끼리는 순서와 관계없이 합계가 같음 (사용자 큐 용량에는 포함)
+                : userRequestExecutor.submit(id, action));
+    }
+
+    /**
+     * 포인트 사용
+     * @param durability 이력 저장 보장 수준 (null 이면 point.history.durability 설정값)
+     * @param idempotencyKey 멱등성 키 (null 이면 매번 실행)
+     */
+    public CompletableFuture<UserPoint> use(long id, long amount, HistoryDurability durability, String idempotencyKey) {
+        return use(id, amount, durability, idempotencyKey, null);
+    }
+
+    /**
+     * 포인트 사용 (If-Match)
+     * @param expectedVersion 기대 버전 (null 이면 확인하지 않음, 다르면 PointVersionMismatchException 으로 완료)
+     */
+    public CompletableFuture<UserPoint> use(long id, long amount, HistoryDurability durability, String idempotencyKey,
+                                            Long expectedVersion) {
+        return idempotent(idempotencyKey, id, "use:" + amount, () -> userRequestExecutor.submit(id,
+                () -> pointService.usePoint(id, amount, durability, expectedVersion)));
+    }
+
+    /**
+     * 포인트 이체
+     * - 보내는 사용자의 큐에서 실행 (같은 사용자의 사용/이체와 순서 유지), 받는 사용자는 스트라이프 락으로 보호
+     * @param idempotencyKey 멱등성 키 (보내는 사용자 기준, null 이면 매번 실행)
+     */
+    public CompletableFuture<PointTransferResult> transfer(PointTransfer transfer, HistoryDurability durability, String idempotencyKey) {
+        long from = transfer.fromUserId();
+        return idempotent(idempotencyKey, from, "transfer:" + transfer.toUserId() + ":" + transfer.amount(),
+                () -> userRequestExecutor.submit(from,
+                        () -> pointService.transferPoint(from, transfer.toUserId(), transfer.amount(), durability)));
+    }
+
+    /**
+     * 여러 유저의 포인트를 한 번에 충전/사용
+     * - 요청 항목을 유저별로 묶어 유저마다 한 번의 작업으로 처리 (유저 간에는 병렬)
+     * - 같은 유저의 항목은 요청 순서대로 적용되고, 항목별 성공/실패 결과를 요청 순서대로 반환
+     * - 한 유저의 작업이 실패해도 전체를 실패로 응답하지 않고 그 유저의 항목만 실패로 반환
+     *   (다른 유저의 항목은 이미 반영되었고 일괄 처리에는 멱등성 키가 없으므로, 전체 실패로 응답하면 재시도가 두 번 반영함)
+     */
+    // 예) 사용자 1 큐가 가득 참 -> 사용자 1 항목은 OVERLOADED, 사용자 2 항목은 정상 결과
+    public CompletableFuture<List<PointOperationResult>> batch(List<PointOperation> operations, HistoryDurability durability) {
+        if (operations.size() > PointService.MAX_BATCH_SIZE) {
+            throw new PointBatchTooLargeException();
+        }
+        Map<Long, List<PointBatchItem>> itemsByUser = IntStream.range(0, operations.size())
+                .mapToObj(index -> new PointBatchItem(index, operations.get(index)))
+                .collect(Collectors.groupingBy(item -> item.operation().userId(), LinkedHashMap::new, Collectors.toList()));
+
+        List<CompletableFuture<List<PointOperationResult>>> futures = itemsByUser.entrySet().stream()
+                .map(entry -> submitBatch(entry.getKey(), entry.getValue(), durability)
+                        .exceptionally(error -> failAll(entry.getValue(), error)))
+                .toList();
+
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(done -> futures.stream()
+                        .flatMap(future -> future.join().stream())
+                        .sorted(Comparator.comparingInt(PointOperationResult::index))
+                        .toList());
+    }
+
+    private CompletableFuture<List<PointOperationResult>> submitBatch(long userId, List<PointBatchItem> items,
+                                                                      HistoryDurability durability) {
+        try {
+            return userRequestExecutor.submit(userId, () -> durability == null
+                    ? pointService.applyBatch(userId, items)
+                    : pointService.applyBatch(userId, items, durability));
+        } catch (RuntimeException e) { // 실행기 종료 등
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 유저 작업 실패를 그 유저의 항목별 실패로 변환
+     * - 대기열 과부하는 반영 전에 거절되었으므로 OVERLOADED (그대로 다시 요청해도 됨)
+     * - 그 밖의 실패는 일부가 반영되었을 수 있으므로 RESULT_UNKNOWN (조회로 확인한 뒤 다시 요청)
+     */
+    private static List<PointOperationResult> failAll(List<PointBatchItem> items, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        PointErrorCode errorCode = cause instanceof QueueOverflowException ? PointErrorCode.OVERLOADED
+                : cause instanceof PointException pointException ? pointException.getErrorCode()
+                : PointErrorCode.RESULT_UNKNOWN;
+        return items.stream()
+                .map(item -> PointOperationResult.failure(item, errorCode))
+                .toList();
+    }
+
+    /**
+     * 멱등성 키가 있으면 결과 캐시를 거쳐 실행
+     * - 키는 사용자별로 구분 (다른 사용자가 같은 키를 써도 섞이지 않음)
+     */
+    private <T> CompletableFuture<T> idempotent(String idempotencyKey, long id, String fingerprint,
+                                                Supplier<CompletableFuture<T>> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        return idempotencyCache.execute(id + ":" + idempotencyKey, fingerprint, action);
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.database.PointHistoryUnavailableException;
+import io.hhplus.tdd.util.IdempotencyKeyMismatchException;
+import io.hhplus.tdd.util.QueueOverflowException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * 포인트 API WebFlux 라우터 (reactive 프로필)
+ * - PointController 와 같은 /point 경로를 PointHandler 로 연결
+ * - 오류 응답은 ApiControllerAdvice 와 같은 형식 (요청 대기열 과부하 429, If-Match 버전 불일치 412, 일괄 처리 건수 초과 413, Idempotency-Key 재사용 422, SYNC 이력 저장 불가 503, 그 외 500, ErrorResponse)
+ */
+// 예) java -jar hhplus-tdd-jvm.jar --spring.profiles.active=reactive
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class PointRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> pointRoutes(PointHandler handler) {
+        return RouterFunctions.route()
+                .path("/point", builder -> builder
+                        .GET("/{id}/histories/stream", handler::historyStream)
+                        .GET("/{id}/histories", handler::history)
+                        .GET("/{id}/summary", handler::summary)
+                        .GET("/{id}/stream", handler::stream)
+                        .GET("/{id}", handler::point)
+                        .PATCH("/{id}/charge", handler::charge)
+                        .PATCH("/{id}/use", handler::use)
+                        .POST("/transfer", handler::transfer)
+                        .POST("/batch", handler::batch))
+                .onError(QueueOverflowException.class, (e, request) ->
+                        ServerResponse.status(429).bodyValue(new ErrorResponse("429", e.getMessage())))
+                .onError(PointVersionMismatchException.class, (e, request) ->
+                        ServerResponse.status(412).bodyValue(new ErrorResponse("412", e.getErrorCode().getMessage())))
+                .onError(PointBatchTooLargeException.class, (e, request) ->
+                        ServerResponse.status(413).bodyValue(new ErrorResponse("413", e.getErrorCode().getMessage())))
+                .onError(IdempotencyKeyMismatchException.class, (e, request) ->
+                        ServerResponse.status(422).bodyValue(new ErrorResponse("422", e.getMessage())))
+                .onError(PointHistoryUnavailableException.class, (e, request) ->
+                        ServerResponse.status(503).bodyValue(new ErrorResponse("503", e.getMessage())))
+                .onError(Exception.class, (e, request) ->
+                        ServerResponse.status(500).bodyValue(new ErrorResponse("500", "에러가 발생했습니다.")))
+                .build();
+    }
+}
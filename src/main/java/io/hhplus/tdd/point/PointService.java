@@ -1,12 +1,24 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.ErrorResponse;
-import io.hhplus.tdd.database.UserPointTable;
-import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryUnavailableException;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.util.StripedLockManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
     /*
     - 필드 주입 방식의 단점:
@@ -27,128 +39,658 @@ import java.util.List;
 @Service
 public class PointService {
 
-    private static final long MAX_POINT_BALANCE = 10_000_000; // 최대 포인트 제한
+    private static final Logger log = LoggerFactory.getLogger(PointService.class);
 
-    private final UserPointTable userPointTable;         // 사용자 포인트 데이터 접근
-    private final PointHistoryTable pointHistoryTable;   // 포인트 이력 데이터 접근
+    static final long MAX_POINT_BALANCE = 10_000_000; // 최대 포인트 제한
+    public static final int MAX_BATCH_SIZE = 10_000; // 일괄 처리 요청 최대 건수
+
+    private final UserPointCache userPointCache;         // 사용자 포인트 데이터 접근 (UserPointStore write-behind 캐시)
+    private final PointHistoryWriter pointHistoryWriter; // 포인트 이력 저장 (PointHistoryStore 비동기 저장)
+    private final PointHistoryStore pointHistoryStore;   // 포인트 이력 저장소 (이력 조회용)
+    private final PointSummaryAggregator pointSummaryAggregator; // 사용자별 이력 집계 (요약 조회용)
+    private final StripedLockManager lockManager;        // 사용자별 포인트 변경 직렬화
+    private final HotAccountManager hotAccountManager;   // 요청이 몰리는 사용자의 분산 잔액
+    private final PointMetrics pointMetrics;             // 메서드별 처리 시간/결과 지표
+    private final HistoryDurability defaultDurability;   // 요청에 지정이 없을 때의 이력 저장 보장 수준
 
     // 생성자
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public PointService(UserPointCache userPointCache, PointHistoryWriter pointHistoryWriter,
+                        PointHistoryStore pointHistoryStore, PointSummaryAggregator pointSummaryAggregator,
+                        StripedLockManager lockManager, HotAccountManager hotAccountManager, PointMetrics pointMetrics,
+                        @Value("${point.history.durability:ASYNC}") HistoryDurability defaultDurability) {
+        this.userPointCache = userPointCache;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointSummaryAggregator = pointSummaryAggregator;
+        this.lockManager = lockManager;
+        this.hotAccountManager = hotAccountManager;
+        this.pointMetrics = pointMetrics;
+        this.defaultDurability = defaultDurability;
     }
 
     /**
      * 포인트 조회 기능
      */
     public UserPoint getUserPoint(long userId) {
-        // if (userId <= 0) { // 포인트_0으로_조회_실패케이스 + 포인트_조회_ID가_음수인_실패케이스 = 이게 리펙토링?
-        //     return null;
-        //     throw new CustomException("유효하지 않은 사용자 ID입니다.");
-        // }
-        if (userId <= 0) { // 유효하지 않은 ID
-            throw new IllegalArgumentException(
-                    new ErrorResponse("INVALID_ID", "유효하지 않은 사용자 ID입니다.").toString());
-        }
+        return pointMetrics.recordService("getUserPoint", () -> {
+            // if (userId <= 0) { // 포인트_0으로_조회_실패케이스 + 포인트_조회_ID가_음수인_실패케이스 = 이게 리펙토링?
+            //     return null;
+            //     throw new CustomException("유효하지 않은 사용자 ID입니다.");
+            // }
+            if (userId <= 0) { // 유효하지 않은 ID
+                throw new PointException(PointErrorCode.INVALID_ID);
+            }
 
 
-        UserPoint userPoint = userPointTable.selectById(userId);
+            UserPoint userPoint = userPointCache.get(userId);
 
-        // if(userPoint == null || userId == 999L || userId == -1L) { // 특정된 값이 들어간 잘못된 서비스 로직 -> 반환 값에 집중해야함
-        // if(userPoint == null){
-        //     return null;
-        //     throw new CustomException("해당 사용자의 포인트 정보가 없습니다.");
-        // }
-        if (userPoint == null) { // 포인트 정보 없음
-            throw new IllegalArgumentException(
-                    new ErrorResponse("USER_POINT_NOT_FOUND", "해당 사용자의 포인트 정보가 없습니다.").toString());
-        }
+            ShardedBalance sharded = hotAccountManager.get(userId);
+            UserPoint merged = sharded == null ? null : sharded.balance();
+            if (merged != null && userPoint != null) { // 분산 잔액 -> 칸 합계 (캐시는 뒤따라 반영됨)
+                userPoint = merged;
+            }
+
+            // if(userPoint == null || userId == 999L || userId == -1L) { // 특정된 값이 들어간 잘못된 서비스 로직 -> 반환 값에 집중해야함
+            // if(userPoint == null){
+            //     return null;
+            //     throw new CustomException("해당 사용자의 포인트 정보가 없습니다.");
+            // }
+            if (userPoint == null) { // 포인트 정보 없음
+                throw new PointException(PointErrorCode.USER_POINT_NOT_FOUND);
+            }
 
-        return userPoint;
+            return userPoint;
+        });
     }
 
     /**
      * 포인트 충전/사용 내역 조회 기능
      */
     public List<PointHistory> getUserHistories(long userId) {
+        return pointMetrics.recordService("getUserHistories", () -> {
+            // 특정 ID에 의존한 임시 로직
+            // if (userId == 999 || userId <= 0) {
+            //     return Collections.emptyList(); // 빈 리스트 반환
+            // }
+            if (userId <= 0) { // 유효하지 않은 ID
+                throw new PointException(PointErrorCode.INVALID_ID);
+            }
 
-        // 특정 ID에 의존한 임시 로직
-        // if (userId == 999 || userId <= 0) {
-        //     return Collections.emptyList(); // 빈 리스트 반환
-        // }
-        if (userId <= 0) { // 유효하지 않은 ID
-            throw new IllegalArgumentException(
-                    new ErrorResponse("INVALID_ID", "유효하지 않은 사용자 ID입니다.").toString());
-        }
+            // 전체 이력을 훑는 PointHistoryTable.selectAllByUserId 대신 저장소의 사용자별 인덱스에서 조회
+            List<PointHistory> pointHistory = pointHistoryStore.selectAllByUserId(userId);
+
+            // null인 경우 처리
+            // if (pointHistory == null) {
+            //     return Collections.emptyList(); // 빈 리스트 반환
+            // }
+            if (pointHistory == null || pointHistory.isEmpty()) { // 사용 내역 없음
+                throw new PointException(PointErrorCode.HISTORY_NOT_FOUND);
+            }
+
+            return pointHistory;
+        });
+    }
+
+    /**
+     * 포인트 충전/사용 내역 페이지 조회 기능
+     * - cursor(이력 ID) 이후의 이력을 limit 건씩 조회
+     * - 이력이 없으면 예외 대신 빈 페이지를 반환
+     */
+    public PointHistoryPage getUserHistoryPage(long userId, PointHistoryQuery query) {
+        return pointMetrics.recordService("getUserHistoryPage", () -> {
+            if (userId <= 0) { // 유효하지 않은 ID
+                throw new PointException(PointErrorCode.INVALID_ID);
+            }
+            if (query.limit() <= 0 || query.limit() > PointHistoryQuery.MAX_LIMIT) { // 페이지 크기 제한
+                throw new PointException(PointErrorCode.INVALID_LIMIT);
+            }
+
+            return pointHistoryStore.selectPage(userId, query);
+        });
+    }
+
+    /**
+     * 포인트 충전/사용 내역 스트리밍 조회 기능
+     * - 전체 목록을 만들지 않고 조건에 맞는 이력을 하나씩 consumer 로 전달
+     */
+    public void streamUserHistories(long userId, PointHistoryQuery query, Consumer<PointHistory> consumer) {
+        pointMetrics.runService("streamUserHistories", () -> {
+            checkUserId(userId);
 
-        List<PointHistory> pointHistory = pointHistoryTable.selectAllByUserId(userId);
+            pointHistoryStore.forEach(userId, query, consumer);
+        });
+    }
 
-        // null인 경우 처리
-        // if (pointHistory == null) {
-        //     return Collections.emptyList(); // 빈 리스트 반환
-        // }
-        if (pointHistory == null || pointHistory.isEmpty()) { // 사용 내역 없음
-            throw new IllegalArgumentException(
-                    new ErrorResponse("HISTORY_NOT_FOUND", "해당 사용자의 포인트 이력 정보가 없습니다.").toString());
+    /**
+     * 사용자 ID 확인
+     * - 스트리밍 응답은 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로, 본문을 만들기 전에 먼저 호출
+     */
+    static void checkUserId(long userId) {
+        if (userId <= 0) { // 유효하지 않은 ID
+            throw new PointException(PointErrorCode.INVALID_ID);
         }
+    }
 
-        return pointHistory;
+    /**
+     * 포인트 이력 요약 조회 기능
+     * - 이력이 저장될 때마다 갱신된 집계를 반환 (이력 수와 관계없이 일정한 비용)
+     * - 이력이 없으면 예외 대신 0으로 채운 요약을 반환
+     * @param days 일별 집계를 포함할 최근 일수 (0 이면 전체 합계만)
+     */
+    public PointSummary getUserSummary(long userId, int days) {
+        return pointMetrics.recordService("getUserSummary", () -> {
+            if (userId <= 0) { // 유효하지 않은 ID
+                throw new PointException(PointErrorCode.INVALID_ID);
+            }
+            if (days < 0 || days > pointSummaryAggregator.getRetentionDays()) { // 일별 집계 보관 기간 초과
+                throw new PointException(PointErrorCode.INVALID_DAYS,
+                        "조회 기간은 0 ~ " + pointSummaryAggregator.getRetentionDays() + "일 사이여야 합니다.");
+            }
+
+            return pointSummaryAggregator.summarize(userId, days);
+        });
     }
 
     /**
      * 포인트 충전 기능
+     * - 조회 → 검증 → 저장이 같은 사용자의 다른 요청과 섞이지 않도록 스트라이프 락 안에서 실행
      */
     public UserPoint chargePoint(long userId, long amount) {
-        if (amount <= 0) { // 충전 금액이 음수나 0이 될 수 없다
-            throw new IllegalArgumentException("충전 요청 포인트는 0원 이하일 수 없습니다.");
-        }
+        return chargePoint(userId, amount, defaultDurability);
+    }
 
-        UserPoint userPoint = userPointTable.selectById(userId); // 특정 사용자 포인트 조회 (*****중복 코드)
+    /**
+     * 포인트 충전 기능 (이력 저장 보장 수준 지정)
+     * - SYNC 이면 이력 저장 완료까지 대기 (락을 놓은 뒤 대기하므로 다른 요청을 막지 않음)
+     * - 요청이 몰리는 사용자는 스트라이프 락 없이 분산 잔액의 한 칸에 더함 (이력은 칸을 바꾼 락 안에서 예약하므로 잔액 반영 순서대로 저장)
+     */
+    public UserPoint chargePoint(long userId, long amount, HistoryDurability durability) {
+        return chargePoint(userId, amount, durability, null);
+    }
 
-        if (userPoint == null) { // 새 사용자
-            userPoint = userPointTable.insertOrUpdate(userId, amount); // 새로운 포인트 정보 저장
-        } else { // 해당 사용자의 포인트가 존재
-            long updatedBalance = userPoint.point() + amount; // 현재 포인트(가짜 객체에 9_000_000L) + 충전 포인트
-            if (updatedBalance > MAX_POINT_BALANCE) { // 최대 잔고 초과
-                throw new IllegalArgumentException("보유 포인트는 1000만원 이상일 수 없습니다.");
+    /**
+     * 포인트 충전 기능 (기대 버전 지정)
+     * - 현재 버전이 expectedVersion 과 다르면 잔액을 바꾸지 않고 PointVersionMismatchException (If-Match 불일치)
+     * - 분산 잔액도 기대 버전이 있으면 모든 칸을 멈추고 버전을 확인한 뒤 충전
+     * @param durability 이력 저장 보장 수준 (null 이면 point.history.durability 설정값)
+     * @param expectedVersion 기대 버전 (null 이면 확인하지 않음)
+     */
+    // 예) pointService.chargePoint(1L, 1_000L, null, 17L) -> 사용자 1의 버전이 17일 때만 충전, 결과 버전은 18 이상
+    public UserPoint chargePoint(long userId, long amount, HistoryDurability durability, Long expectedVersion) {
+        HistoryDurability resolved = durability == null ? defaultDurability : durability;
+        return pointMetrics.recordService("chargePoint", () -> {
+            if (amount <= 0) { // 충전 금액이 음수나 0이 될 수 없다
+                throw new PointException(PointErrorCode.INVALID_AMOUNT, "충전 요청 포인트는 0원 이하일 수 없습니다.");
             }
-            userPoint = userPointTable.insertOrUpdate(userId, updatedBalance);
-        }
 
-        pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
-        return userPoint;
+            ShardedBalance sharded = shardedBalance(userId);
+            if (sharded != null) {
+                PointMutation charged = shardedMutation(userId, sharded, amount, TransactionType.CHARGE,
+                        committed -> chargeSharded(sharded, amount, expectedVersion, committed));
+                if (charged != null) { // 그사이 일반 잔액으로 복귀했으면 아래 일반 경로로 처리
+                    return charged.await(resolved);
+                }
+            }
+
+            PointMutation mutation = lockManager.executeWithLock(userId, () -> {
+                ShardedBalance current = hotAccountManager.get(userId); // 락을 기다리는 사이 분산 잔액으로 전환됨
+                if (current != null) {
+                    return shardedMutation(userId, current, amount, TransactionType.CHARGE,
+                            committed -> chargeSharded(current, amount, expectedVersion, committed));
+                }
+
+                UserPoint userPoint = userPointCache.get(userId); // 특정 사용자 포인트 조회 (*****중복 코드)
+                checkVersion(expectedVersion, userPoint);
+
+                if (userPoint == null) { // 새 사용자
+                    userPoint = userPointCache.put(userId, amount); // 새로운 포인트 정보 저장
+                } else { // 해당 사용자의 포인트가 존재
+                    long updatedBalance = userPoint.point() + amount; // 현재 포인트(가짜 객체에 9_000_000L) + 충전 포인트
+                    if (updatedBalance > MAX_POINT_BALANCE) { // 최대 잔고 초과
+                        throw new PointException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+                    }
+                    userPoint = userPointCache.put(userId, updatedBalance);
+                }
+
+                return new PointMutation(userPoint, recordHistory(userId, amount, TransactionType.CHARGE));
+            });
+            return mutation.await(resolved);
+        });
     }
 
     /**
      * 포인트 사용 기능
+     * - 잔액 확인과 차감 사이에 다른 요청이 끼어들지 않도록 스트라이프 락 안에서 실행
      */
     public UserPoint usePoint(long userId, long amount) {
+        return usePoint(userId, amount, defaultDurability);
+    }
+
+    /**
+     * 포인트 사용 기능 (이력 저장 보장 수준 지정)
+     */
+    public UserPoint usePoint(long userId, long amount, HistoryDurability durability) {
+        return usePoint(userId, amount, durability, null);
+    }
+
+    /**
+     * 포인트 사용 기능 (기대 버전 지정)
+     * - 현재 버전이 expectedVersion 과 다르면 잔액을 바꾸지 않고 PointVersionMismatchException (If-Match 불일치)
+     * @param durability 이력 저장 보장 수준 (null 이면 point.history.durability 설정값)
+     * @param expectedVersion 기대 버전 (null 이면 확인하지 않음)
+     */
+    public UserPoint usePoint(long userId, long amount, HistoryDurability durability, Long expectedVersion) {
+        HistoryDurability resolved = durability == null ? defaultDurability : durability;
+        return pointMetrics.recordService("usePoint", () -> {
+            if(amount <= 0) { // 사용 금액이 0이하
+                throw new PointException(PointErrorCode.INVALID_AMOUNT, "사용 요청 포인트는 0원 이하일 수 없습니다.");
+            }
+
+            ShardedBalance sharded = shardedBalance(userId);
+            if (sharded != null) { // 사용은 분산 잔액 전체를 멈추고 합계로 잔액 확인
+                PointMutation used = shardedMutation(userId, sharded, -amount, TransactionType.USE,
+                        committed -> useSharded(sharded, amount, expectedVersion, committed));
+                if (used != null) {
+                    return used.await(resolved);
+                }
+            }
+
+            PointMutation mutation = lockManager.executeWithLock(userId, () -> {
+                ShardedBalance current = hotAccountManager.get(userId);
+                if (current != null) {
+                    return shardedMutation(userId, current, -amount, TransactionType.USE,
+                            committed -> useSharded(current, amount, expectedVersion, committed));
+                }
+
+                UserPoint userPoint = userPointCache.get(userId); // 특정 사용자 포인트 조회 (*****중복 코드)
+                checkVersion(expectedVersion, userPoint);
+
+                // 현재 잔액이 이게 없거나 사용금액 보다 적으면 에러
+                if(userPoint == null || userPoint.point() < amount){
+                    throw new PointException(PointErrorCode.INSUFFICIENT_BALANCE);
+                }
+
+                // 잔액에서 사용 금액 차감
+                long updatedBalance = userPoint.point() - amount;
+
+                // 새로운 잔액으로 업데이트
+                userPoint = userPointCache.put(userId, updatedBalance);
+
+                // 사용 내역 기록
+                return new PointMutation(userPoint, recordHistory(userId, -amount, TransactionType.USE));
+            });
+            return mutation.await(resolved);
+        });
+    }
+
+    /**
+     * 포인트 이체 기능 (기본 이력 저장 보장 수준)
+     */
+    public PointTransferResult transferPoint(long fromUserId, long toUserId, long amount) {
+        return transferPoint(fromUserId, toUserId, amount, defaultDurability);
+    }
+
+    /**
+     * 포인트 이체 기능
+     * - 보내는 사용자 차감과 받는 사용자 증가를 두 사용자의 스트라이프 락 안에서 함께 적용 (둘 다 반영되거나 둘 다 반영되지 않음)
+     * - 락은 스트라이프 번호 순서로 잡으므로 서로에게 동시에 이체해도 교착 상태가 생기지 않음
+     * - 이력은 사용자마다 TRANSFER 한 건씩 (보낸 사용자 -amount, 받은 사용자 +amount)
+     * @param durability 이력 저장 보장 수준 (null 이면 point.history.durability 설정값)
+     */
+    // 예) pointService.transferPoint(1L, 2L, 1_000L, HistoryDurability.SYNC)
+    public PointTransferResult transferPoint(long fromUserId, long toUserId, long amount, HistoryDurability durability) {
+        HistoryDurability resolved = durability == null ? defaultDurability : durability;
+        return pointMetrics.recordService("transferPoint", () -> {
+            if (fromUserId <= 0 || toUserId <= 0) { // 유효하지 않은 ID
+                throw new PointException(PointErrorCode.INVALID_ID);
+            }
+            if (fromUserId == toUserId) { // 자기 자신에게 이체
+                throw new PointException(PointErrorCode.SELF_TRANSFER);
+            }
+            if (amount <= 0) { // 이체 금액이 0이하
+                throw new PointException(PointErrorCode.INVALID_AMOUNT, "이체 요청 포인트는 0원 이하일 수 없습니다.");
+            }
+            shardedBalance(fromUserId); // 요청 기록 (hot 여부가 바뀌었으면 분산 잔액 전환/복귀)
+            shardedBalance(toUserId);
+
+            TransferMutation mutation = lockManager.executeWithLocks(fromUserId, toUserId, () -> {
+                ShardedBalance fromSharded = hotAccountManager.get(fromUserId); // 락 안에서는 전환/복귀가 일어나지 않음
+                ShardedBalance toSharded = hotAccountManager.get(toUserId);
+                UserPoint to = userPointCache.get(toUserId);
+                long toOriginal = to == null ? 0 : to.point();
+                if (toSharded == null && amount > MAX_POINT_BALANCE - toOriginal) { // 받는 사용자 최대 잔고 초과
+                    throw new PointException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+                }
+
+                // 분산 잔액 쪽 이력은 잔액을 바꾼 락 안에서 예약 (받는 쪽이 분산 잔액이면 충전이 실패할 수 있으므로 보낸 이력도 충전 반영 뒤에 예약)
+                AtomicReference<CompletableFuture<PointHistory>> debit = new AtomicReference<>();
+                AtomicReference<CompletableFuture<PointHistory>> credit = new AtomicReference<>();
+                Runnable recordDebit = () -> debit.set(recordHistory(fromUserId, -amount, TransactionType.TRANSFER));
+                Runnable recordCredit = () -> credit.set(recordHistory(toUserId, amount, TransactionType.TRANSFER));
+
+                UserPoint from = null;
+                UserPoint debited = null; // 분산 잔액 차감 결과
+                if (fromSharded == null) {
+                    from = userPointCache.get(fromUserId);
+                    if (from == null || from.point() < amount) { // 보내는 사용자 잔액 부족
+                        throw new PointException(PointErrorCode.INSUFFICIENT_BALANCE);
+                    }
+                } else {
+                    debited = fromSharded.use(amount, toSharded == null ? recordDebit : () -> {
+                    }); // 잔액 부족이면 아무것도 바뀌지 않고 예외
+                }
+
+                UserPoint credited = null;
+                if (toSharded != null) {
+                    try {
+                        credited = toSharded.charge(amount, () -> {
+                            if (fromSharded != null) {
+                                recordDebit.run();
+                            }
+                            recordCredit.run();
+                        });
+                    } catch (PointException e) { // 받는 사용자 최대 잔고 초과 -> 이미 차감한 분산 잔액 되돌림
+                        if (fromSharded != null) {
+                            fromSharded.update(total -> total + amount);
+                        }
+                        throw e;
+                    }
+                }
+
+                UserPoint fromPoint = fromSharded == null
+                        ? userPointCache.put(fromUserId, from.point() - amount)
+                        : published(fromSharded, debited);
+                UserPoint toPoint = toSharded == null
+                        ? userPointCache.put(toUserId, toOriginal + amount)
+                        : published(toSharded, credited);
+                if (debit.get() == null) { // 일반 잔액 쪽 이력
+                    recordDebit.run();
+                }
+                if (credit.get() == null) {
+                    recordCredit.run();
+                }
+                return new TransferMutation(new PointTransferResult(fromPoint, toPoint), debit.get(), credit.get());
+            });
+            return mutation.await(resolved);
+        });
+    }
+
+    /**
+     * 포인트 일괄 충전/사용 기능 (사용자 한 명, 기본 이력 저장 보장 수준)
+     */
+    public List<PointOperationResult> applyBatch(long userId, List<PointBatchItem> items) {
+        return applyBatch(userId, items, defaultDurability);
+    }
+
+    /**
+     * 포인트 일괄 충전/사용 기능 (사용자 한 명)
+     * - 한 사용자의 요청 항목을 순서대로 적용하고, 항목마다 최대 잔고/잔액 부족을 검증
+     * - 실패한 항목은 건너뛰고 다음 항목을 계속 처리 (항목별 결과 반환)
+     * - 잔액 저장은 모든 항목을 적용한 뒤 사용자당 한 번만 수행
+     * - 성공한 항목마다 버전이 하나씩 올라가며, 저장되는 버전은 마지막 성공 항목의 버전
+     * @param userId 사용자 ID
+     * @param items 해당 사용자의 요청 항목 (요청 순서대로)
+     * @param durability 이력 저장 보장 수준
+     * @return 항목별 결과 (items 와 같은 순서)
+     */
+    public List<PointOperationResult> applyBatch(long userId, List<PointBatchItem> items, HistoryDurability durability) {
+        List<PointOperationResult> batchResults = pointMetrics.recordService("applyBatch", () -> {
+            if (userId <= 0) { // 유효하지 않은 ID
+                return items.stream()
+                        .map(item -> PointOperationResult.failure(item, PointErrorCode.INVALID_ID))
+                        .toList();
+            }
 
-        if(amount <= 0) { // 사용 금액이 0이하
-            throw new IllegalArgumentException("사용 요청 포인트는 0원 이하일 수 없습니다.");
+            BatchMutation mutation = lockManager.executeWithLock(userId, () -> {
+                List<PointOperationResult> results = new ArrayList<>(items.size());
+                List<CompletableFuture<PointHistory>> histories = new ArrayList<>();
+
+                ShardedBalance current = hotAccountManager.get(userId);
+                if (current != null) { // 분산 잔액 -> 모든 칸을 멈추고 합계에 적용
+                    current.update(total -> applyItems(userId, total, current.version(), items, results, histories),
+                            () -> succeeded(results));
+                    current.publish(userPointCache::put);
+                    return new BatchMutation(results, histories);
+                }
+
+                UserPoint userPoint = userPointCache.get(userId);
+                long original = userPoint == null ? 0 : userPoint.point();
+                long version = userPoint == null ? 0 : userPoint.version();
+                applyItems(userId, original, version, items, results, histories);
+
+                UserPoint committed = lastSucceeded(results);
+                if (committed != null) { // 사용자당 한 번만 저장 (마지막 성공 항목의 잔액/버전)
+                    userPointCache.put(committed);
+                }
+                return new BatchMutation(results, histories);
+            });
+            return mutation.await(durability);
+        });
+        pointMetrics.recordBatchResults(batchResults); // 항목별 성공/실패 사유 집계
+        return batchResults;
+    }
+
+    /**
+     * 일괄 처리 항목을 순서대로 적용 (락 안에서 호출)
+     * - 성공한 항목의 결과에는 적용 직후의 잔액과 버전(적용 전 버전 + 성공 순번)을 담음
+     * @param original 적용 전 잔액
+     * @param originalVersion 적용 전 버전
+     * @return 적용 후 잔액
+     */
+    private long applyItems(long userId, long original, long originalVersion, List<PointBatchItem> items,
+                            List<PointOperationResult> results, List<CompletableFuture<PointHistory>> histories) {
+        long balance = original;
+        long version = originalVersion;
+        long now = System.currentTimeMillis();
+        for (PointBatchItem item : items) {
+            long amount = item.operation().amount();
+            TransactionType type = item.operation().type();
+            if (amount <= 0) { // 요청 금액이 0이하
+                results.add(PointOperationResult.failure(item, PointErrorCode.INVALID_AMOUNT));
+            } else if (type == TransactionType.CHARGE) {
+                if (amount > MAX_POINT_BALANCE - balance) { // 최대 잔고 초과
+                    results.add(PointOperationResult.failure(item, PointErrorCode.MAX_BALANCE_EXCEEDED));
+                    continue;
+                }
+                balance += amount;
+                histories.add(recordHistory(userId, amount, TransactionType.CHARGE));
+                results.add(PointOperationResult.success(item, new UserPoint(userId, balance, now, ++version)));
+            } else if (type == TransactionType.USE) {
+                if (balance < amount) { // 잔액 부족
+                    results.add(PointOperationResult.failure(item, PointErrorCode.INSUFFICIENT_BALANCE));
+                    continue;
+                }
+                balance -= amount;
+                histories.add(recordHistory(userId, -amount, TransactionType.USE));
+                results.add(PointOperationResult.success(item, new UserPoint(userId, balance, now, ++version)));
+            } else { // 충전/사용 외의 요청
+                results.add(PointOperationResult.failure(item, PointErrorCode.INVALID_TYPE));
+            }
         }
+        return balance;
+    }
+
+    // 성공한 항목 수 (분산 잔액의 버전 증가분)
+    private static long succeeded(List<PointOperationResult> results) {
+        return results.stream().filter(PointOperationResult::success).count();
+    }
+
+    // 마지막 성공 항목의 잔액/버전 (성공한 항목이 없으면 null)
+    private static UserPoint lastSucceeded(List<PointOperationResult> results) {
+        for (int i = results.size() - 1; i >= 0; i--) {
+            if (results.get(i).success()) {
+                return results.get(i).userPoint();
+            }
+        }
+        return null;
+    }
 
-        UserPoint userPoint = userPointTable.selectById(userId); // 특정 사용자 포인트 조회 (*****중복 코드)
+    /**
+     * 분산 잔액 확인
+     * - 요청을 기록하고, hot 여부가 바뀌었으면 스트라이프 락 안에서 분산 잔액으로 전환하거나 일반 잔액으로 복귀
+     * @return 분산 잔액 (일반 경로로 처리할 사용자면 null)
+     */
+    private ShardedBalance shardedBalance(long userId) {
+        boolean hot = hotAccountManager.record(userId);
+        ShardedBalance sharded = hotAccountManager.get(userId);
+        if (hot == (sharded != null)) {
+            return sharded;
+        }
+        return lockManager.executeWithLock(userId, () -> {
+            ShardedBalance current = hotAccountManager.get(userId);
+            if (hot) {
+                UserPoint userPoint = userPointCache.get(userId);
+                if (current != null || userPoint == null) { // 이미 전환됨 / 새 사용자는 일반 경로로 먼저 생성
+                    return current;
+                }
+                return hotAccountManager.open(userId, userPoint);
+            }
+            if (current != null) { // 칸 합계와 버전을 캐시에 돌려놓고 일반 경로로 복귀
+                hotAccountManager.close(userId);
+                userPointCache.put(current.close());
+            }
+            return null;
+        });
+    }
 
-        // 현재 잔액이 이게 없거나 사용금액 보다 적으면 에러
-        if(userPoint == null || userPoint.point() < amount){
-            throw new IllegalArgumentException("보유 포인트는 0원 이하일 수 없습니다.");
+    /**
+     * 분산 잔액 충전 (기대 버전이 있으면 모든 칸을 멈추고 버전 확인)
+     * @param committed 충전을 반영한 락 안에서 실행할 작업 (이력 예약)
+     * @return 충전 후 잔액 (닫혔으면 null)
+     */
+    private static UserPoint chargeSharded(ShardedBalance sharded, long amount, Long expectedVersion, Runnable committed) {
+        if (expectedVersion == null) {
+            return sharded.charge(amount, committed);
         }
+        return sharded.update(total -> {
+            checkVersion(expectedVersion, sharded.version());
+            if (amount > MAX_POINT_BALANCE - total) { // 최대 잔고 초과
+                throw new PointException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+            }
+            return total + amount;
+        }, committed);
+    }
 
-        // 잔액에서 사용 금액 차감
-        long updatedBalance = userPoint.point() - amount;
+    /**
+     * 분산 잔액 사용 (기대 버전이 있으면 차감 전에 버전 확인)
+     * @param committed 사용을 반영한 락 안에서 실행할 작업 (이력 예약)
+     * @return 사용 후 잔액 (닫혔으면 null)
+     */
+    private static UserPoint useSharded(ShardedBalance sharded, long amount, Long expectedVersion, Runnable committed) {
+        if (expectedVersion == null) {
+            return sharded.use(amount, committed);
+        }
+        return sharded.update(total -> {
+            checkVersion(expectedVersion, sharded.version());
+            if (total < amount) { // 잔액 부족
+                throw new PointException(PointErrorCode.INSUFFICIENT_BALANCE);
+            }
+            return total - amount;
+        }, committed);
+    }
 
-        // 포인트 사용 로직과 이력 저장
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, -amount);
+    // 포인트 정보가 없는 사용자는 어떤 기대 버전과도 맞지 않음
+    private static void checkVersion(Long expectedVersion, UserPoint userPoint) {
+        if (expectedVersion != null && (userPoint == null || userPoint.version() != expectedVersion)) {
+            throw new PointVersionMismatchException();
+        }
+    }
 
-        // 새로운 잔액으로 업데이트
-        userPoint = userPointTable.insertOrUpdate(userId, updatedBalance);
+    private static void checkVersion(Long expectedVersion, long version) {
+        if (expectedVersion != null && version != expectedVersion) {
+            throw new PointVersionMismatchException();
+        }
+    }
 
-        // 사용 내역 기록
-        pointHistoryTable.insert(userId, -amount, TransactionType.USE, System.currentTimeMillis());
-        return userPoint;
+    /**
+     * 분산 잔액 변경 반영 (합산 잔액을 캐시에 반영하고 변경 결과 반환)
+     */
+    private UserPoint published(ShardedBalance sharded, UserPoint changed) {
+        sharded.publish(userPointCache::put);
+        return changed;
+    }
+
+    /**
+     * 분산 잔액 변경 결과
+     * - 이력은 잔액을 바꾼 분산 잔액 락 안에서 예약 (순서 없이 동시에 실행되는 충전과 사용도 이력은 잔액 반영 순서대로 저장)
+     * - 합산 잔액을 캐시에 반영 (캐시에는 변경 순서대로 반영되어 마지막 값이 최신 잔액)
+     * @param change 이력 예약 작업을 받아 잔액을 바꾸는 함수 (닫혔으면 null)
+     * @return 변경 결과 (닫혔으면 null)
+     */
+    private PointMutation shardedMutation(long userId, ShardedBalance sharded, long amount, TransactionType type,
+                                          Function<Runnable, UserPoint> change) {
+        AtomicReference<CompletableFuture<PointHistory>> history = new AtomicReference<>();
+        UserPoint changed = change.apply(() -> history.set(recordHistory(userId, amount, type)));
+        if (changed == null) {
+            return null;
+        }
+        sharded.publish(userPointCache::put);
+        return new PointMutation(changed, history.get());
+    }
+
+    /**
+     * 포인트 이력 저장 예약
+     * - 락 안에서 호출되므로 같은 사용자의 이력은 변경 순서대로 저장됨
+     */
+    private CompletableFuture<PointHistory> recordHistory(long userId, long amount, TransactionType type) {
+        return pointHistoryWriter.write(userId, amount, type, System.currentTimeMillis());
+    }
+
+    /**
+     * 포인트 변경 결과와 이력 저장 future
+     */
+    private record PointMutation(UserPoint userPoint, CompletableFuture<PointHistory> history) {
+
+        UserPoint await(HistoryDurability durability) {
+            if (durability == HistoryDurability.SYNC) {
+                awaitHistories(history);
+            }
+            return userPoint;
+        }
+    }
+
+    /**
+     * 이체 결과와 두 사용자의 이력 저장 future
+     */
+    private record TransferMutation(PointTransferResult result,
+                                    CompletableFuture<PointHistory> debit,
+                                    CompletableFuture<PointHistory> credit) {
+
+        PointTransferResult await(HistoryDurability durability) {
+            if (durability == HistoryDurability.SYNC) {
+                awaitHistories(debit, credit);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 일괄 처리 결과와 이력 저장 future 목록
+     */
+    private record BatchMutation(List<PointOperationResult> results, List<CompletableFuture<PointHistory>> histories) {
+
+        List<PointOperationResult> await(HistoryDurability durability) {
+            if (durability == HistoryDurability.SYNC) {
+                awaitHistories(histories.toArray(CompletableFuture[]::new));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 이력 저장 대기 (SYNC)
+     * - 저장이 실패하면 PointHistoryWriter 가 재시도하므로 저장될 때까지 대기
+     * - 이력을 버렸으면(버퍼 가득 참, 종료 중) 잔액은 바뀌었지만 이력이 없으므로 성공으로 응답하지 않고 PointHistoryUnavailableException (503)
+     */
+    private static void awaitHistories(CompletableFuture<?>... histories) {
+        try {
+            CompletableFuture.allOf(histories).join();
+        } catch (CompletionException e) {
+            log.error("포인트 이력을 저장하지 못했습니다. 잔액 변경은 반영되었습니다.", e.getCause());
+            throw e.getCause() instanceof PointHistoryUnavailableException unavailable ? unavailable : new PointHistoryUnavailableException();
+        }
     }
 
-    // -> UserPointTable & PointHistoryTable: 데이터 저장 및 조회를 담당
+    // -> UserPointCache(UserPointStore) & PointHistoryWriter/PointHistoryStore: 데이터 저장 및 조회를 담당
 
 }
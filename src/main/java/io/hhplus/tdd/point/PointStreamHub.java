@@ -0,0 +1,347 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.UserPointListener;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 포인트 변경 스트림 허브 (GET /point/{id}/stream 구독자에게 잔액 변경 전달)
+ * - UserPointCache 에 잔액이 반영될 때마다(UserPointListener) 해당 사용자의 구독자에게 새 UserPoint 를 전달
+ * - 변경한 쓰레드(사용자 락 안)는 사용자별 대기열에 넣기만 하고, 구독자마다 나눠 주는 일은 전달 쓰레드가 처리
+ * - 구독자마다 buffer-size 칸의 버퍼를 두고, 가득 차면 가장 오래된 값을 버림 (느린 구독자가 메모리와 다른 구독자에 영향을 주지 않음)
+ * - 구독자가 요청한 만큼(request)만 전달하고, 한 구독자에게는 한 번에 한 쓰레드만 전달 (버전 순서 유지)
+ * - 전송(consumer 호출)은 별도 전송 쓰레드에서 실행하고 전달 쓰레드는 send-timeout 까지만 기다림
+ *   -> 응답을 읽지 않는 클라이언트는 구독을 끊고 연결을 닫으므로, 느린 구독자 몇 명이 전달 쓰레드를 모두 붙잡지 않음
+ * - 전송 쓰레드 수 = 전달 쓰레드 수 + 아직 연결이 닫히지 않은 끊긴 구독자 수 (끊긴 구독자마다 최대 1개)
+ * - 구독자가 없는 사용자의 변경은 맵 조회 한 번으로 끝남
+ */
+// 예) GET /point/1/stream -> 현재 잔액을 먼저 보내고, 이후 충전/사용/이체마다 새 잔액 전달 (1초 폴링 대체)
+@Component
+public class PointStreamHub implements UserPointListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStreamHub.class);
+    private static final long DEFAULT_SEND_TIMEOUT_MS = 1_000;
+
+    private final int bufferSize;
+    private final long sendTimeoutMillis;
+    private final ExecutorService deliveryExecutor;
+    private final ExecutorService sendExecutor;
+    private final ConcurrentHashMap<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final LongAdder subscribers = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    /**
+     * @param bufferSize 구독자별 버퍼 칸 수 (전달하지 못한 변경이 이보다 많으면 오래된 것부터 버림)
+     * @param deliveryThreads 구독자에게 전달하는 쓰레드 수
+     * @param sendTimeoutMillis 한 번의 전송을 기다리는 최대 시간 (넘으면 구독을 끊음)
+     */
+    @Autowired
+    public PointStreamHub(@Value("${point.stream.buffer-size:16}") int bufferSize,
+                          @Value("${point.stream.delivery-threads:4}") int deliveryThreads,
+                          @Value("${point.stream.send-timeout-ms:1000}") long sendTimeoutMillis) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("버퍼 크기는 0 이하일 수 없습니다.");
+        }
+        if (sendTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("전송 대기 시간은 0 이하일 수 없습니다.");
+        }
+        this.bufferSize = bufferSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "point-stream-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger sendThreadIndex = new AtomicInteger();
+        this.sendExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "point-stream-send-" + sendThreadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public PointStreamHub(int bufferSize, int deliveryThreads) {
+        this(bufferSize, deliveryThreads, DEFAULT_SEND_TIMEOUT_MS);
+    }
+
+    @Override
+    public void onUpdated(UserPoint userPoint) {
+        Topic topic = topics.get(userPoint.id());
+        if (topic != null) {
+            topic.offer(userPoint);
+        }
+    }
+
+    /**
+     * 구독
+     * - 현재 값을 먼저 버퍼에 넣고, 이후 변경을 이어서 전달 (현재 값보다 오래된 변경은 건너뜀)
+     * - consumer 는 전송 쓰레드에서 호출되고, 예외를 던지거나 send-timeout 안에 끝나지 않으면 구독이 취소됨
+     * - 반환된 구독에 request 를 호출해야 전달이 시작됨
+     * @param current 구독 시점의 포인트
+     * @param consumer 변경을 받을 곳
+     */
+    // 예) hub.subscribe(1L, pointService.getUserPoint(1L), emitter::send).request(Long.MAX_VALUE);
+    public Subscription subscribe(long userId, UserPoint current, Consumer<UserPoint> consumer) {
+        return subscribe(userId, current, consumer, () -> {
+        });
+    }
+
+    /**
+     * 구독 (전송 실패/시간 초과로 허브가 구독을 끊을 때 closer 실행)
+     * @param closer 연결 종료 (멈춘 전송이 빠져나오도록 응답을 닫음)
+     */
+    // 예) hub.subscribe(1L, current, emitter::send, emitter::complete)
+    public Subscription subscribe(long userId, UserPoint current, Consumer<UserPoint> consumer, Runnable closer) {
+        Subscription subscription = new Subscription(userId, consumer, closer);
+        topics.compute(userId, (key, topic) -> {
+            Topic subscribed = topic == null ? new Topic() : topic;
+            subscribed.subscriptions.add(subscription);
+            return subscribed;
+        });
+        subscribers.increment();
+        subscription.offer(current);
+        return subscription;
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public long getSubscriberCount() {
+        return subscribers.sum();
+    }
+
+    /**
+     * 구독자에게 전달한 변경 수
+     */
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    /**
+     * 버퍼가 가득 차 버린 변경 수
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * 전송이 send-timeout 안에 끝나지 않아 끊은 구독 수
+     */
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+        sendExecutor.shutdownNow();
+    }
+
+    private void execute(Runnable task) {
+        try {
+            deliveryExecutor.execute(task);
+        } catch (RejectedExecutionException e) { // 종료 중
+            log.debug("포인트 스트림 전달 생략 - 종료 중");
+        }
+    }
+
+    /**
+     * 사용자 한 명의 구독자 목록과 나눠 줄 변경 대기열
+     */
+    private final class Topic {
+        private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private final Buffer pending = new Buffer(bufferSize);
+        private final AtomicInteger fanOutRequests = new AtomicInteger();
+
+        void offer(UserPoint userPoint) {
+            pending.offer(userPoint);
+            if (fanOutRequests.getAndIncrement() == 0) { // 나눠 주는 중이면 그 쓰레드가 이어서 처리
+                execute(this::fanOut);
+            }
+        }
+
+        private void fanOut() {
+            int missed = 1;
+            do {
+                UserPoint userPoint;
+                while ((userPoint = pending.poll()) != null) {
+                    for (Subscription subscription : subscriptions) {
+                        subscription.offer(userPoint);
+                    }
+                }
+                missed = fanOutRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    /**
+     * 구독 (구독자 한 명)
+     */
+    public final class Subscription {
+        private final long userId;
+        private final Consumer<UserPoint> consumer;
+        private final Runnable closer;
+        private final Buffer buffer = new Buffer(bufferSize);
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger deliverRequests = new AtomicInteger();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private long lastVersion = -1; // 전달 쓰레드에서만 변경 (deliverRequests 로 한 번에 한 쓰레드)
+
+        private Subscription(long userId, Consumer<UserPoint> consumer, Runnable closer) {
+            this.userId = userId;
+            this.consumer = consumer;
+            this.closer = closer;
+        }
+
+        /**
+         * 전달 요청 (n 건을 더 받을 수 있음, Long.MAX_VALUE 이면 제한 없음)
+         */
+        public void request(long n) {
+            if (n <= 0) {
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            drain();
+        }
+
+        /**
+         * 구독 취소 (여러 번 호출해도 한 번만 처리)
+         */
+        public void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            topics.computeIfPresent(userId, (key, topic) -> {
+                topic.subscriptions.remove(this);
+                return topic.subscriptions.isEmpty() ? null : topic;
+            });
+            subscribers.decrement();
+        }
+
+        private void offer(UserPoint userPoint) {
+            buffer.offer(userPoint);
+            drain();
+        }
+
+        private void drain() {
+            if (deliverRequests.getAndIncrement() == 0) {
+                execute(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            int missed = 1;
+            do {
+                while (!cancelled.get() && demand.get() > 0) {
+                    UserPoint userPoint = buffer.poll();
+                    if (userPoint == null) {
+                        break;
+                    }
+                    if (userPoint.version() < lastVersion) { // 구독 시점의 현재 값보다 먼저 일어난 변경
+                        continue;
+                    }
+                    lastVersion = userPoint.version();
+                    if (!send(userPoint)) {
+                        break;
+                    }
+                    delivered.increment();
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                }
+                missed = deliverRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        // 전송 쓰레드에서 consumer 호출 후 send-timeout 까지 대기 (실패하면 구독을 끊고 연결을 닫음)
+        private boolean send(UserPoint userPoint) {
+            Future<?> send;
+            try {
+                send = sendExecutor.submit(() -> consumer.accept(userPoint));
+            } catch (RejectedExecutionException e) { // 종료 중
+                cancel();
+                return false;
+            }
+            try {
+                send.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                log.warn("포인트 스트림 전송 시간 초과로 구독 종료 - 사용자: {}, 대기: {}ms", userId, sendTimeoutMillis);
+                timedOut.increment();
+                send.cancel(true);
+            } catch (ExecutionException e) {
+                log.debug("포인트 스트림 구독 종료 - 사용자: {}, 원인: {}", userId, e.getCause().toString());
+            } catch (InterruptedException e) { // 종료 중
+                Thread.currentThread().interrupt();
+            }
+            close();
+            return false;
+        }
+
+        private void close() {
+            cancel();
+            try {
+                closer.run();
+            } catch (RuntimeException e) {
+                log.debug("포인트 스트림 연결 종료 실패 - 사용자: {}, 원인: {}", userId, e.toString());
+            }
+        }
+    }
+
+    /**
+     * 크기가 정해진 변경 버퍼 (가득 차면 가장 오래된 값을 버림)
+     */
+    private final class Buffer {
+        private final UserPoint[] items;
+        private int head;
+        private int size;
+
+        Buffer(int capacity) {
+            this.items = new UserPoint[capacity];
+        }
+
+        synchronized void offer(UserPoint userPoint) {
+            if (size == items.length) {
+                items[head] = null;
+                head = (head + 1) % items.length;
+                size--;
+                dropped.increment();
+            }
+            items[(head + size) % items.length] = userPoint;
+            size++;
+        }
+
+        synchronized UserPoint poll() {
+            if (size == 0) {
+                return null;
+            }
+            UserPoint userPoint = items[head];
+            items[head] = null;
+            head = (head + 1) % items.length;
+            size--;
+            return userPoint;
+        }
+    }
+}
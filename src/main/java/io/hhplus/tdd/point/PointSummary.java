@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 포인트 이력 요약
+ * - totals : 전체 기간의 종류별 건수/금액 합계 (이력이 없는 종류도 0으로 포함)
+ * - transactionCount : 전체 이력 건수
+ * - lastActivityMillis : 마지막 이력 시각 (이력이 없으면 null)
+ * - daily : 최근 N일의 일별 집계 (날짜 오름차순, 이력이 있는 날만 / 요청하지 않으면 빈 리스트)
+ */
+public record PointSummary(
+        long userId,
+        Map<TransactionType, PointTypeSummary> totals,
+        long transactionCount,
+        Long lastActivityMillis,
+        List<DailyPointSummary> daily
+) {
+}
@@ -0,0 +1,220 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryListener;
+import io.hhplus.tdd.database.PointHistoryStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 포인트 이력 집계
+ * - 이력이 저장될 때마다(PointHistoryListener) 사용자별 종류별 건수/금액 합계와 마지막 이력 시각을 갱신
+ * - 요약 조회는 이력 수와 관계없이 집계 값만 복사 (전체 이력을 다시 읽지 않음)
+ * - 일별 집계는 이력이 있는 날만 최근 retention-days 일까지 보관
+ * - 집계는 메모리에만 있으므로 사용자를 처음 조회할 때 그 사용자의 기존 이력만 저장소에서 읽어 다시 만듦
+ *   (시작할 때 전체 이력을 읽지 않음 -> 재시작 시간이 이력 수와 관계없음, mapped 저장소는 재시작 후에도 이력이 유지됨)
+ * - 처음 조회 전에 받은 이력(onInserted)은 바로 집계하고, 저장소에서는 그보다 앞선 ID 만 읽음 (같은 이력을 두 번 더하지 않음)
+ */
+// 예) summarize(1L, 7) -> 전체 충전/사용 합계 + 최근 7일 일별 충전/사용 합계
+@Component
+public class PointSummaryAggregator implements PointHistoryListener {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final ConcurrentHashMap<Long, UserSummary> users = new ConcurrentHashMap<>();
+    private final PointHistoryStore pointHistoryStore;
+    private final ZoneId zone;
+    private final int retentionDays;
+    private final Clock clock;
+
+    /**
+     * @param pointHistoryStore 사용자를 처음 조회할 때 집계를 복구할 이력 저장소
+     * @param zone 일별 집계의 날짜 기준 시간대
+     * @param retentionDays 일별 집계 보관 일수
+     */
+    @Autowired
+    public PointSummaryAggregator(PointHistoryStore pointHistoryStore,
+                                  @Value("${point.summary.zone:Asia/Seoul}") String zone,
+                                  @Value("${point.summary.retention-days:90}") int retentionDays) {
+        this(pointHistoryStore, ZoneId.of(zone), retentionDays, Clock.systemUTC());
+    }
+
+    PointSummaryAggregator(PointHistoryStore pointHistoryStore, ZoneId zone, int retentionDays, Clock clock) {
+        if (retentionDays <= 0) {
+            throw new IllegalArgumentException("일별 집계 보관 일수는 1일 이상이어야 합니다.");
+        }
+        this.pointHistoryStore = pointHistoryStore;
+        this.zone = zone;
+        this.retentionDays = retentionDays;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onInserted(PointHistory pointHistory) {
+        users.computeIfAbsent(pointHistory.userId(), id -> new UserSummary())
+                .add(pointHistory, epochDay(pointHistory.updateMillis()), retentionDays);
+    }
+
+    /**
+     * 사용자별 요약
+     * @param userId 사용자 ID
+     * @param days 일별 집계를 포함할 최근 일수 (오늘 포함, 0 이면 일별 집계 없음)
+     * @return 이력이 없으면 모든 값이 0인 요약
+     */
+    // 예) 오늘이 10/16 이고 days=3 -> 10/14 ~ 10/16 중 이력이 있는 날의 집계
+    public PointSummary summarize(long userId, int days) {
+        if (days < 0 || days > retentionDays) {
+            throw new IllegalArgumentException("조회 기간은 0 ~ " + retentionDays + "일 사이여야 합니다.");
+        }
+        UserSummary summary = load(userId);
+        if (summary == null) {
+            return new PointSummary(userId, toMap(new long[TYPES.length], new long[TYPES.length]), 0, null, List.of());
+        }
+        long today = epochDay(clock.millis());
+        return summary.snapshot(userId, today - days, today);
+    }
+
+    /**
+     * 사용자 집계 (처음이면 저장소의 기존 이력으로 복구)
+     * - 복구하는 동안 들어온 이력은 같은 락에서 기다렸다가 복구가 끝난 뒤 더함
+     * @return 이력이 없는 사용자는 null (없는 사용자 조회로 집계가 쌓이지 않도록 보관하지 않음)
+     */
+    private UserSummary load(long userId) {
+        UserSummary summary = users.computeIfAbsent(userId, id -> new UserSummary());
+        synchronized (summary) {
+            if (!summary.loaded) {
+                long before = summary.firstLiveId == 0 ? Long.MAX_VALUE : summary.firstLiveId;
+                pointHistoryStore.forEach(userId, PointHistoryQuery.all(), pointHistory -> {
+                    if (pointHistory.id() < before) {
+                        summary.apply(pointHistory, epochDay(pointHistory.updateMillis()), retentionDays);
+                    }
+                });
+                summary.loaded = true;
+            }
+            if (summary.isEmpty()) {
+                users.remove(userId, summary); // 그사이 들어온 이력은 저장소에 있으므로 다음 조회에서 다시 복구
+                return null;
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * 일별 집계 보관 일수 (조회 가능한 최대 days)
+     */
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    private long epochDay(long millis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(millis), zone).toEpochDay();
+    }
+
+    private static Map<TransactionType, PointTypeSummary> toMap(long[] counts, long[] amounts) {
+        Map<TransactionType, PointTypeSummary> types = new EnumMap<>(TransactionType.class);
+        for (TransactionType type : TYPES) {
+            types.put(type, new PointTypeSummary(counts[type.ordinal()], amounts[type.ordinal()]));
+        }
+        return types;
+    }
+
+    /**
+     * 사용자 한 명의 집계
+     * - 같은 사용자의 갱신/조회만 서로 동기화되므로 다른 사용자와는 경합하지 않음
+     * - 같은 사용자의 이력 ID 는 저장 순서대로 커지므로, 마지막으로 더한 ID 이하의 이력은 이미 더한 이력
+     */
+    private static final class UserSummary {
+        private final long[] counts = new long[TYPES.length];
+        private final long[] amounts = new long[TYPES.length];
+        private final List<DayBucket> days = new ArrayList<>(); // 날짜 오름차순
+        private long lastActivityMillis;
+        private boolean loaded;   // 저장소의 기존 이력을 읽었는지
+        private long firstLiveId; // 복구 전에 onInserted 로 받은 첫 이력 ID (0 이면 없음)
+        private long lastHistoryId;
+
+        synchronized void add(PointHistory pointHistory, long epochDay, int retentionDays) {
+            if (pointHistory.id() <= lastHistoryId) { // 복구할 때 저장소에서 이미 읽은 이력
+                return;
+            }
+            if (!loaded && firstLiveId == 0) {
+                firstLiveId = pointHistory.id();
+            }
+            apply(pointHistory, epochDay, retentionDays);
+        }
+
+        // 호출하는 쪽에서 이 객체의 락을 잡고 호출
+        void apply(PointHistory pointHistory, long epochDay, int retentionDays) {
+            lastHistoryId = Math.max(lastHistoryId, pointHistory.id());
+            int type = pointHistory.type().ordinal();
+            // 이체는 보낸 금액(음수)과 받은 금액(양수)을 상쇄한 순 이체 금액, 나머지는 절댓값
+            long amount = pointHistory.type() == TransactionType.TRANSFER ? pointHistory.amount() : Math.abs(pointHistory.amount());
+            counts[type]++;
+            amounts[type] += amount;
+            lastActivityMillis = Math.max(lastActivityMillis, pointHistory.updateMillis());
+
+            DayBucket bucket = bucket(epochDay);
+            bucket.counts[type]++;
+            bucket.amounts[type] += amount;
+
+            long oldest = days.get(days.size() - 1).epochDay - retentionDays; // 보관 기간이 지난 날은 삭제
+            int expired = 0;
+            while (expired < days.size() && days.get(expired).epochDay <= oldest) {
+                expired++;
+            }
+            days.subList(0, expired).clear();
+        }
+
+        boolean isEmpty() {
+            return lastHistoryId == 0;
+        }
+
+        // 이력은 대부분 시간 순으로 들어오므로 마지막 날부터 찾음
+        private DayBucket bucket(long epochDay) {
+            int index = days.size();
+            while (index > 0 && days.get(index - 1).epochDay > epochDay) {
+                index--;
+            }
+            if (index > 0 && days.get(index - 1).epochDay == epochDay) {
+                return days.get(index - 1);
+            }
+            DayBucket bucket = new DayBucket(epochDay);
+            days.add(index, bucket);
+            return bucket;
+        }
+
+        // from 초과 ~ to 이하 날짜의 일별 집계
+        synchronized PointSummary snapshot(long userId, long from, long to) {
+            List<DailyPointSummary> daily = new ArrayList<>();
+            for (DayBucket bucket : days) {
+                if (bucket.epochDay > from && bucket.epochDay <= to) {
+                    daily.add(new DailyPointSummary(LocalDate.ofEpochDay(bucket.epochDay), toMap(bucket.counts, bucket.amounts)));
+                }
+            }
+            long transactionCount = 0;
+            for (long count : counts) {
+                transactionCount += count;
+            }
+            return new PointSummary(userId, toMap(counts, amounts), transactionCount, lastActivityMillis, daily);
+        }
+    }
+
+    private static final class DayBucket {
+        private final long epochDay;
+        private final long[] counts = new long[TYPES.length];
+        private final long[] amounts = new long[TYPES.length];
+
+        DayBucket(long epochDay) {
+            this.epochDay = epochDay;
+        }
+    }
+}
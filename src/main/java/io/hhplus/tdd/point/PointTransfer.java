@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 요청
+ * - fromUserId : 보내는 사용자 (amount 만큼 차감)
+ * - toUserId : 받는 사용자 (amount 만큼 증가)
+ * - amount : 이체 포인트 (양수)
+ */
+// 예) POST /point/transfer {"fromUserId":1,"toUserId":2,"amount":1000}
+public record PointTransfer(
+        long fromUserId,
+        long toUserId,
+        long amount
+) {
+}
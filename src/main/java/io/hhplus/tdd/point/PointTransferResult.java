@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 결과
+ * - from : 이체 직후 보낸 사용자의 포인트
+ * - to : 이체 직후 받은 사용자의 포인트
+ */
+public record PointTransferResult(
+        UserPoint from,
+        UserPoint to
+) {
+}
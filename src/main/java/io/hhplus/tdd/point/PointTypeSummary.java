@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이력 종류별 집계
+ * - count : 건수
+ * - amount : 금액 합계 (사용 이력은 음수로 저장되지만 합계는 절댓값으로 누적)
+ * - 이체(TRANSFER)는 부호를 유지한 순 금액 (받은 금액 - 보낸 금액, 보낸 금액이 더 크면 음수)
+ */
+public record PointTypeSummary(
+        long count,
+        long amount
+) {
+}
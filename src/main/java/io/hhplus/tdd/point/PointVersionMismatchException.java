@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 요청의 기대 버전(If-Match)과 현재 포인트 버전이 다름
+ * - 응답은 412 (Precondition Failed), 클라이언트는 다시 조회한 뒤 새 ETag 로 재시도
+ */
+public class PointVersionMismatchException extends PointException {
+
+    public PointVersionMismatchException() {
+        super(PointErrorCode.VERSION_MISMATCH);
+    }
+}
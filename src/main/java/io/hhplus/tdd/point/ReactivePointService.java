@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 논블로킹 포인트 서비스 (reactive 프로필)
+ * - PointService 결과를 Mono/Flux 로 반환하고, 이벤트 루프 쓰레드에서는 테이블/저장소를 직접 호출하지 않음
+ * - 조회는 크기가 제한된 전용 스케줄러(bounded elastic)에서 실행 (쓰레드 수와 대기 작업 수 상한이 있어 느린 테이블에 쓰레드가 무한히 늘지 않음)
+ * - 충전/사용/일괄 처리는 PointRequestDispatcher 가 사용자별 워커에서 실행하므로 future 를 그대로 Mono 로 변환 (스케줄러 쓰레드를 쓰지 않음)
+ * - 이력 스트리밍은 페이지 단위로 요청한 만큼만 읽음 (느린 클라이언트가 있어도 전체 이력을 메모리에 쌓지 않음)
+ */
+// 예) 연결 수만 개가 테이블 응답(200~300ms)을 기다려도 이벤트 루프 쓰레드는 몇 개면 충분
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointService {
+
+    private final PointService pointService;
+    private final PointRequestDispatcher pointRequestDispatcher;
+    private final PointStreamHub pointStreamHub;
+    private final Scheduler blockingScheduler; // 블로킹 조회 전용 스케줄러
+
+    /**
+     * @param blockingThreads 블로킹 조회 쓰레드 상한 (0 이하이면 CPU 코어 수 x 10)
+     * @param blockingQueueCapacity 쓰레드가 모두 사용 중일 때 대기할 수 있는 작업 수 (넘으면 요청 실패)
+     */
+    public ReactivePointService(PointService pointService, PointRequestDispatcher pointRequestDispatcher,
+                                PointStreamHub pointStreamHub,
+                                @Value("${point.reactive.blocking-threads:0}") int blockingThreads,
+                                @Value("${point.reactive.blocking-queue-capacity:100000}") int blockingQueueCapacity) {
+        this.pointService = pointService;
+        this.pointRequestDispatcher = pointRequestDispatcher;
+        this.pointStreamHub = pointStreamHub;
+        this.blockingScheduler = Schedulers.newBoundedElastic(
+                blockingThreads > 0 ? blockingThreads : Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                blockingQueueCapacity, "point-blocking");
+    }
+
+    /**
+     * 포인트 조회 (캐시에 없으면 테이블 조회)
+     */
+    public Mono<UserPoint> getUserPoint(long userId) {
+        return blocking(() -> pointService.getUserPoint(userId));
+    }
+
+    /**
+     * 포인트 변경 스트림
+     * - 현재 포인트를 먼저 내보내고 이후 변경을 이어서 내보냄 (구독자가 요청한 만큼만, 밀리면 오래된 변경부터 버림)
+     * - 구독이 취소되면(연결 종료) 허브에서도 구독 해제
+     * @param current 구독 시점의 포인트 (getUserPoint 결과)
+     */
+    public Flux<UserPoint> streamUserPoint(long userId, UserPoint current) {
+        return Flux.create(sink -> {
+            PointStreamHub.Subscription subscription = pointStreamHub.subscribe(userId, current, sink::next);
+            sink.onRequest(subscription::request);
+            sink.onDispose(subscription::cancel);
+        });
+    }
+
+    /**
+     * 포인트 충전/사용 내역 조회
+     */
+    public Flux<PointHistory> getUserHistories(long userId) {
+        return blocking(() -> pointService.getUserHistories(userId)).flatMapIterable(histories -> histories);
+    }
+
+    /**
+     * 포인트 충전/사용 내역 페이지 조회
+     */
+    public Mono<PointHistoryPage> getUserHistoryPage(long userId, PointHistoryQuery query) {
+        return blocking(() -> pointService.getUserHistoryPage(userId, query));
+    }
+
+    /**
+     * 포인트 충전/사용 내역 스트리밍 조회
+     * - 최대 페이지 크기씩 나눠 읽고, 구독자가 다음 이력을 요청할 때 다음 페이지를 읽음 (limit 무시)
+     */
+    public Flux<PointHistory> streamUserHistories(long userId, PointHistoryQuery query) {
+        return page(userId, query, query.cursor())
+                .expand(page -> page.nextCursor() == null ? Mono.empty() : page(userId, query, page.nextCursor()))
+                .flatMapIterable(PointHistoryPage::histories);
+    }
+
+    /**
+     * 포인트 충전/사용 요약 조회 (메모리 집계만 읽으므로 호출한 쓰레드에서 실행)
+     */
+    public Mono<PointSummary> getUserSummary(long userId, int days) {
+        return Mono.fromCallable(() -> pointService.getUserSummary(userId, days));
+    }
+
+    /**
+     * 포인트 충전/사용
+     * @param expectedVersion If-Match 의 기대 버전 (null 이면 확인하지 않음)
+     */
+    public Mono<UserPoint> chargePoint(long userId, long amount, HistoryDurability durability, String idempotencyKey,
+                                       Long expectedVersion) {
+        return Mono.fromFuture(() -> pointRequestDispatcher.charge(userId, amount, durability, idempotencyKey, expectedVersion));
+    }
+
+    public Mono<UserPoint> usePoint(long userId, long amount, HistoryDurability durability, String idempotencyKey,
+                                    Long expectedVersion) {
+        return Mono.fromFuture(() -> pointRequestDispatcher.use(userId, amount, durability, idempotencyKey, expectedVersion));
+    }
+
+    public Mono<PointTransferResult> transferPoint(PointTransfer transfer, HistoryDurability durability, String idempotencyKey) {
+        return Mono.fromFuture(() -> pointRequestDispatcher.transfer(transfer, durability, idempotencyKey));
+    }
+
+    public Mono<List<PointOperationResult>> applyBatch(List<PointOperation> operations, HistoryDurability durability) {
+        return Mono.fromFuture(() -> pointRequestDispatcher.batch(operations, durability));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        blockingScheduler.dispose();
+    }
+
+    private Mono<PointHistoryPage> page(long userId, PointHistoryQuery query, long cursor) {
+        return getUserHistoryPage(userId,
+                new PointHistoryQuery(cursor, PointHistoryQuery.MAX_LIMIT, query.from(), query.to(), query.type()));
+    }
+
+    private <T> Mono<T> blocking(Callable<T> action) {
+        return Mono.fromCallable(action).subscribeOn(blockingScheduler);
+    }
+}
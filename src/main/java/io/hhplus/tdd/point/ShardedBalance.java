@@ -0,0 +1,272 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 요청이 몰리는 사용자 한 명의 잔액을 여러 칸(shard)에 나눠 보관
+ * - 잔액 = 모든 칸의 합 (조회 시 합산)
+ * - 충전은 임의의 칸 하나에 CAS 로 더함 (읽기 락 공유 -> 충전끼리는 서로 기다리지 않음)
+ * - 칸마다 한도(limit)를 두고 한도 합이 최대 잔고를 넘지 않게 나눠주므로, 충전이 동시에 몰려도 잔액 합은 최대 잔고 이하
+ * - 칸 한도에 걸린 충전, 사용, 일괄 처리는 쓰기 락으로 모든 칸을 멈춘 뒤 합계로 검증하고 한도를 다시 나눔
+ * - 사용은 칸을 앞에서부터 0까지만 차감하므로 어느 칸도 음수가 되지 않음
+ * - 버전 = 전환 시점 버전 + 칸별 변경 횟수의 합 (변경 횟수는 잔액과 같은 캐시 라인에 두어 칸끼리 공유하는 카운터 없음)
+ * - close 이후의 요청은 null 을 반환 (호출자가 일반 경로로 다시 처리)
+ * - committed 는 잔액을 바꾼 락 안에서 호출 (이력 예약 순서 = 잔액 반영 순서, 사용이 먼저 반영된 충전보다 앞에 기록되지 않음)
+ */
+// 예) 최대 10,000,000 / 잔액 1,000,000 / 칸 4개 -> 남은 9,000,000 을 칸마다 2,250,000 씩 한도로 나눔
+final class ShardedBalance {
+
+    private static final int STRIDE = 8;  // 칸 사이 간격 (long 8개 = 64바이트, 다른 칸과 캐시 라인 공유 방지)
+    private static final int BALANCE = 0; // 칸 안의 위치: 잔액
+    private static final int CHANGES = 1; //              변경 횟수 (잔액 반영 뒤 증가)
+    private static final int MILLIS = 2;  //              마지막 변경 시각
+
+    private final long userId;
+    private final int shards;
+    private final long maxBalance;
+    private final long baseVersion;
+    private final AtomicLongArray cells;
+    private final AtomicLongArray limits;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicInteger publishRequests = new AtomicInteger();
+    private boolean closed; // 쓰기 락 안에서 변경, 읽기 락 안에서 확인
+
+    /**
+     * @param userPoint 전환 시점의 잔액/버전
+     */
+    ShardedBalance(int shards, long maxBalance, UserPoint userPoint) {
+        this.userId = userPoint.id();
+        this.shards = shards;
+        this.maxBalance = maxBalance;
+        this.baseVersion = userPoint.version();
+        this.cells = new AtomicLongArray(shards * STRIDE);
+        this.limits = new AtomicLongArray(shards * STRIDE);
+        cells.set(BALANCE, userPoint.point());
+        cells.set(MILLIS, userPoint.updateMillis());
+        redistribute(userPoint.point());
+    }
+
+    /**
+     * 충전
+     * - 한도가 남은 칸에 바로 더하고, 모든 칸의 한도가 부족하면 쓰기 락으로 합계 기준 검증
+     * @return 충전 후 잔액 (닫혔으면 null)
+     * @throws PointException 최대 잔고 초과
+     */
+    UserPoint charge(long amount) {
+        return charge(amount, () -> {
+        });
+    }
+
+    /**
+     * 충전 (반영 직후 committed 실행)
+     */
+    UserPoint charge(long amount, Runnable committed) {
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            int start = ThreadLocalRandom.current().nextInt(shards);
+            for (int i = 0; i < shards; i++) {
+                int slot = ((start + i) % shards) * STRIDE;
+                long current = cells.get(slot + BALANCE);
+                while (amount <= limits.get(slot) - current) {
+                    if (cells.compareAndSet(slot + BALANCE, current, current + amount)) {
+                        changed(slot, 1);
+                        committed.run();
+                        return snapshot();
+                    }
+                    current = cells.get(slot + BALANCE);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return update(total -> {
+            if (amount > maxBalance - total) { // 최대 잔고 초과
+                throw new PointException(PointErrorCode.MAX_BALANCE_EXCEEDED);
+            }
+            return total + amount;
+        }, committed);
+    }
+
+    /**
+     * 사용
+     * @return 사용 후 잔액 (닫혔으면 null)
+     * @throws PointException 잔액 부족
+     */
+    UserPoint use(long amount) {
+        return use(amount, () -> {
+        });
+    }
+
+    /**
+     * 사용 (반영 직후 committed 실행)
+     */
+    UserPoint use(long amount, Runnable committed) {
+        return update(total -> {
+            if (total < amount) { // 잔액 부족
+                throw new PointException(PointErrorCode.INSUFFICIENT_BALANCE);
+            }
+            return total - amount;
+        }, committed);
+    }
+
+    /**
+     * 합계 기준 변경 (모든 칸을 멈춘 상태에서 실행)
+     * - operation 안에서 version() 을 호출하면 변경 직전 버전
+     * @param operation 현재 잔액 -> 새 잔액 (0 ~ 최대 잔고, 예외를 던지면 잔액 유지)
+     * @return 새 잔액 (닫혔으면 null)
+     */
+    UserPoint update(LongUnaryOperator operation) {
+        return update(operation, () -> {
+        });
+    }
+
+    /**
+     * 합계 기준 변경 (반영 직후 committed 실행)
+     */
+    UserPoint update(LongUnaryOperator operation, Runnable committed) {
+        return update(operation, committed, () -> 1);
+    }
+
+    /**
+     * 합계 기준 변경 (여러 건을 한 번에 반영)
+     * - 버전은 changes 만큼 증가 (0이면 버전/시각 유지)
+     * @param changes 반영한 변경 건수 (operation 이 끝난 뒤 호출)
+     */
+    UserPoint update(LongUnaryOperator operation, LongSupplier changes) {
+        return update(operation, () -> {
+        }, changes);
+    }
+
+    private UserPoint update(LongUnaryOperator operation, Runnable committed, LongSupplier changes) {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            long total = sum(BALANCE);
+            long updated = operation.applyAsLong(total);
+            long remaining = total - updated; // 차감할 금액 (음수면 충전)
+            if (remaining < 0) {
+                cells.addAndGet(BALANCE, -remaining);
+            }
+            for (int i = 0; i < shards && remaining > 0; i++) { // 앞 칸부터 0까지만 차감
+                int slot = i * STRIDE;
+                long taken = Math.min(cells.get(slot + BALANCE), remaining);
+                cells.addAndGet(slot + BALANCE, -taken);
+                remaining -= taken;
+            }
+            redistribute(updated);
+            changed(0, changes.getAsLong());
+            committed.run();
+            return snapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 버전 (update 의 operation 안에서 호출)
+     */
+    long version() {
+        return baseVersion + sum(CHANGES);
+    }
+
+    /**
+     * 잔액 조회 (모든 칸의 합)
+     * - 사용/재분배 도중의 값은 보이지 않음 (동시에 진행 중인 충전만 포함 여부가 갈림)
+     * @return 잔액 (닫혔으면 null)
+     */
+    UserPoint balance() {
+        lock.readLock().lock();
+        try {
+            return closed ? null : snapshot();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 닫기
+     * - 이후 요청은 null 을 반환하고, 닫기 전에 끝난 충전/사용은 모두 반환값에 포함
+     * @return 최종 잔액
+     */
+    UserPoint close() {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            return snapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 합산 잔액 전달
+     * - 여러 스레드가 동시에 호출해도 한 스레드만 sink 를 호출하고, 그동안 들어온 요청은 마지막에 한 번 더 반영
+     * - 따라서 sink 에는 잔액이 변경 순서대로 전달되고 마지막 값은 항상 최신 잔액
+     */
+    void publish(Consumer<UserPoint> sink) {
+        if (publishRequests.getAndIncrement() != 0) { // 다른 스레드가 전달 중 -> 그 스레드가 다시 반영
+            return;
+        }
+        int missed = 1;
+        do {
+            lock.readLock().lock();
+            try {
+                if (!closed) {
+                    sink.accept(snapshot());
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            missed = publishRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    // 잔액 반영이 끝난 칸의 변경 횟수/시각 갱신
+    private void changed(int slot, long count) {
+        if (count == 0) {
+            return;
+        }
+        cells.set(slot + MILLIS, System.currentTimeMillis());
+        cells.addAndGet(slot + CHANGES, count);
+    }
+
+    // 합산 잔액과 버전 (변경 횟수를 잔액보다 먼저 읽으므로 버전에 포함된 변경은 반드시 잔액에도 포함됨)
+    // 진행 중인 충전은 잔액에만 먼저 보일 수 있지만, 충전이 끝나면 버전이 올라가므로 그 잔액이 이전 버전에 머무르지 않음
+    private UserPoint snapshot() {
+        long version = version();
+        long millis = 0;
+        for (int i = 0; i < shards; i++) {
+            millis = Math.max(millis, cells.get(i * STRIDE + MILLIS));
+        }
+        return new UserPoint(userId, sum(BALANCE), millis, version);
+    }
+
+    // 남은 한도(최대 잔고 - 잔액)를 칸마다 나눔 (쓰기 락 또는 생성자 안에서 호출)
+    private void redistribute(long total) {
+        long remaining = maxBalance - total;
+        long share = remaining / shards;
+        for (int i = 0; i < shards; i++) {
+            int slot = i * STRIDE;
+            limits.set(slot, cells.get(slot + BALANCE) + share + (i == 0 ? remaining % shards : 0));
+        }
+    }
+
+    private long sum(int field) {
+        long sum = 0;
+        for (int i = 0; i < shards; i++) {
+            sum += cells.get(i * STRIDE + field);
+        }
+        return sum;
+    }
+}
@@ -5,7 +5,9 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER : 이체 (보낸 사용자는 음수, 받은 사용자는 양수 금액으로 한 건씩 기록)
+ * - 저장소가 ordinal 을 저장하므로 새 종류는 뒤에 추가
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, TRANSFER
 }
\ No newline at end of file
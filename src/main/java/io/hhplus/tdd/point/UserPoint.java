@@ -1,6 +1,16 @@
 package io.hhplus.tdd.point;
 
-public record UserPoint(long id, long point, long updateMillis) {
+/**
+ * 사용자 포인트
+ * - version 은 잔액이 바뀔 때마다 커지는 사용자별 번호 (UserPointCache 가 부여, 테이블에서 처음 읽은 값은 0)
+ * - 조회 응답의 ETag 로 쓰여 변경 여부 확인(If-None-Match)과 낙관적 동시성 제어(If-Match)에 사용
+ */
+public record UserPoint(long id, long point, long updateMillis, long version) {
+
+    // 버전을 모르는 값 (테이블 조회, 저널 복구)
+    public UserPoint(long id, long point, long updateMillis) {
+        this(id, point, updateMillis, 0);
+    }
 
     public static UserPoint empty(long id) {
         return new UserPoint(id, 0, System.currentTimeMillis());
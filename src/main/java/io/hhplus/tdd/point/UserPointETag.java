@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 사용자 포인트 ETag
+ * - ETag = "서버 시작 시각-버전" (재시작하면 버전이 0부터 다시 시작하므로 이전 실행의 ETag 와 겹치지 않게 시작 시각을 붙임)
+ * - If-None-Match 가 현재 ETag 와 같으면 304 (본문 없음), If-Match 가 다르면 412
+ * - ETag 는 이 서버가 캐시에 올린 사용자에게만 발급되고 캐시는 사용자를 내보내지 않으므로, 같은 ETag 의 재조회는 테이블을 읽지 않음
+ */
+// 예) GET /point/1 -> ETag: "m1x2y3z4-17", 다음 조회에 If-None-Match: "m1x2y3z4-17" -> 잔액이 그대로면 304
+final class UserPointETag {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36) + "-";
+
+    private UserPointETag() {
+    }
+
+    /**
+     * 사용자 포인트의 ETag (따옴표 포함)
+     */
+    static String of(UserPoint userPoint) {
+        return "\"" + EPOCH + userPoint.version() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더가 현재 ETag 와 같은지 (목록, 약한 ETag(W/), * 허용)
+     */
+    static boolean matches(String ifNoneMatch, UserPoint userPoint) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = of(userPoint);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || (tag.startsWith("W/") && tag.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Match 헤더가 가리키는 버전
+     * @return 기대 버전 (헤더가 없거나 * 이면 null -> 버전 확인 없음)
+     * @throws PointVersionMismatchException 이 서버가 발급하지 않은 ETag (이전 실행의 ETag 포함)
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < EPOCH.length() + 3 || !tag.startsWith("\"" + EPOCH) || !tag.endsWith("\"")) {
+            throw new PointVersionMismatchException();
+        }
+        try {
+            return Long.parseLong(tag.substring(EPOCH.length() + 1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PointVersionMismatchException();
+        }
+    }
+}
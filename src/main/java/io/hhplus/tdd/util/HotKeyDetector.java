@@ -0,0 +1,121 @@
+package io.hhplus.tdd.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 요청이 몰리는 키(사용자 ID) 탐지기
+ * - 최근 window-ms 동안의 키별 요청 수를 count-min sketch 로 추정 (키 수와 관계없이 메모리 고정)
+ * - 윈도우를 BUCKETS 개 구간으로 나눠 구간마다 sketch 를 두고, 오래된 구간은 다시 쓸 때 비움 (sliding window)
+ * - 추정값은 실제보다 작지 않음 (해시 충돌로 커질 수만 있음) -> threshold 는 실제 요청 수보다 넉넉하게 설정
+ * - 구간을 비우는 순간 같은 구간에 더해진 요청 몇 건은 빠질 수 있음 (근사치)
+ */
+// 예) threshold=1000, window-ms=1000 -> 최근 1초 동안 1,000번 이상 요청된 사용자를 hot 으로 판단
+@Component
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;   // 해시 함수 수 (행 수)
+    private static final int BUCKETS = 4; // 윈도우 구간 수
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final long threshold;
+    private final long bucketMillis;
+    private final int mask;
+    private final AtomicIntegerArray[] counts = new AtomicIntegerArray[BUCKETS]; // 구간별 sketch (DEPTH x width)
+    private final AtomicLongArray epochs = new AtomicLongArray(BUCKETS);        // 구간별 시작 시각 / bucketMillis
+    private final LongSupplier clock;
+
+    /**
+     * @param threshold 윈도우 동안 이 횟수 이상 요청된 키를 hot 으로 판단
+     * @param windowMillis 윈도우 길이
+     * @param width sketch 행 하나의 칸 수 (2의 거듭제곱으로 올림, 클수록 충돌이 적음)
+     */
+    @Autowired
+    public HotKeyDetector(@Value("${point.hotkey.threshold:1000}") long threshold,
+                          @Value("${point.hotkey.window-ms:1000}") long windowMillis,
+                          @Value("${point.hotkey.width:4096}") int width) {
+        this(threshold, windowMillis, width, System::currentTimeMillis);
+    }
+
+    HotKeyDetector(long threshold, long windowMillis, int width, LongSupplier clock) {
+        if (threshold <= 0 || windowMillis < BUCKETS || width <= 0) {
+            throw new IllegalArgumentException("hot key 기준값/윈도우/크기는 0 이하일 수 없습니다.");
+        }
+        int size = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.threshold = threshold;
+        this.bucketMillis = windowMillis / BUCKETS;
+        this.mask = size - 1;
+        this.clock = clock;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new AtomicIntegerArray(DEPTH * size);
+            epochs.set(i, -BUCKETS); // 아직 쓰지 않은 구간 (윈도우 밖)
+        }
+    }
+
+    /**
+     * 요청 기록
+     * @param key 키 (사용자 ID)
+     * @return 기록 후 hot 이면 true
+     */
+    public boolean record(long key) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        AtomicIntegerArray bucket = current(epoch);
+        for (int row = 0; row < DEPTH; row++) {
+            bucket.incrementAndGet(index(row, key));
+        }
+        return estimate(key, epoch) >= threshold;
+    }
+
+    /**
+     * hot 여부 (기록하지 않음)
+     */
+    public boolean isHot(long key) {
+        return estimate(key) >= threshold;
+    }
+
+    /**
+     * 윈도우 동안의 요청 수 추정값
+     */
+    public long estimate(long key) {
+        return estimate(key, clock.getAsLong() / bucketMillis);
+    }
+
+    private long estimate(long key, long epoch) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            long sum = 0;
+            int index = index(row, key);
+            for (int i = 0; i < BUCKETS; i++) {
+                if (epoch - epochs.get(i) < BUCKETS) { // 윈도우 안의 구간만 합산
+                    sum += counts[i].get(index);
+                }
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    // 현재 구간 sketch (지난 윈도우에 쓰던 구간이면 비우고 재사용)
+    private AtomicIntegerArray current(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) BUCKETS);
+        long seen = epochs.get(slot);
+        if (seen != epoch && epochs.compareAndSet(slot, seen, epoch)) {
+            AtomicIntegerArray bucket = counts[slot];
+            for (int i = 0; i < bucket.length(); i++) {
+                bucket.set(i, 0);
+            }
+        }
+        return counts[slot];
+    }
+
+    private int index(int row, long key) {
+        long hash = (key ^ SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return row * (mask + 1) + ((int) hash & mask);
+    }
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 멱등성 키(Idempotency-Key) 결과 캐시
+ * - 같은 키로 다시 들어온 요청은 작업을 다시 실행하지 않고 처음 요청의 결과(future)를 그대로 반환
+ * - 처음 요청이 아직 실행 중이면 같은 future 를 공유하므로 동시에 들어온 재시도도 한 번만 실행됨
+ * - 잔액을 바꾸기 전에 거절된 실패(입력/규칙 위반, 대기열 과부하)만 키를 지워 재시도가 다시 실행되도록 함
+ * - 그 밖의 실패(이력/저널 기록 실패 등)는 잔액이 이미 바뀌었을 수 있으므로 키와 실패 결과를 그대로 보관 (재시도해도 다시 실행하지 않음)
+ * - 같은 키로 내용이 다른 요청이 오면 IdempotencyKeyMismatchException (422)
+ * - 키는 ttl 동안만 보관하고, 최대 max-entries 개를 넘으면 오래된 키부터 삭제
+ * - 실행 중인 키는 만료되었거나 최대 개수를 넘어도 삭제하지 않음 (삭제하면 동시에 들어온 재시도가 한 번 더 실행됨)
+ */
+// 예) 클라이언트가 타임아웃 후 같은 Idempotency-Key 로 충전을 재시도 -> 두 번째 요청은 첫 번째 충전 결과를 반환
+@Component
+public class IdempotencyCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>(); // 등록 순서 (ttl 이 같으므로 앞쪽이 먼저 만료)
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * @param maxEntries 보관할 최대 키 수
+     * @param ttlSeconds 키 보관 시간 (초)
+     */
+    @Autowired
+    public IdempotencyCache(@Value("${point.idempotency.max-entries:100000}") int maxEntries,
+                            @Value("${point.idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this(maxEntries, ttlSeconds, System::currentTimeMillis);
+    }
+
+    IdempotencyCache(int maxEntries, long ttlSeconds, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.clock = clock;
+    }
+
+    /**
+     * 멱등 실행
+     * @param key 멱등성 키 (사용자 ID 등 범위를 포함해서 전달)
+     * @param fingerprint 요청 내용 (같은 키로 다른 요청이 오면 거절)
+     * @param action 처음 요청일 때만 실행할 작업
+     * @return 처음 요청의 결과
+     */
+    // 예) cache.execute("1:abc", "charge:1000", () -> executor.submit(1L, () -> pointService.chargePoint(1L, 1_000L)));
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> execute(String key, Object fingerprint, Supplier<CompletableFuture<T>> action) {
+        long now = clock.getAsLong();
+        Entry created = new Entry(key, fingerprint, new CompletableFuture<>(), now + ttlMillis);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                break;
+            }
+            if (existing.expiresAt() > now || !existing.result().isDone()) { // 실행 중인 키는 만료되어도 공유
+                if (!Objects.equals(existing.fingerprint(), fingerprint)) {
+                    throw new IdempotencyKeyMismatchException();
+                }
+                hits.increment();
+                return (CompletableFuture<T>) existing.result();
+            }
+            if (entries.replace(key, existing, created)) { // 만료된 키는 새 요청으로 교체
+                break;
+            }
+        }
+        order.add(created);
+        evict(now);
+
+        CompletableFuture<Object> result = created.result();
+        try {
+            action.get().whenComplete((value, error) -> {
+                if (error != null) {
+                    if (isRejected(error)) {
+                        entries.remove(key, created);
+                    }
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (isRejected(e)) {
+                entries.remove(key, created);
+            }
+            result.completeExceptionally(e);
+        }
+        return (CompletableFuture<T>) result;
+    }
+
+    /**
+     * 보관 중인 키 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 결과를 반환한 횟수 (재시도로 아낀 실행 수)
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    // 잔액을 바꾸기 전에 거절된 실패인지 (PointException 등 IllegalArgumentException, 대기열 과부하)
+    private static boolean isRejected(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IllegalArgumentException || cause instanceof QueueOverflowException;
+    }
+
+    // 만료되었거나 최대 개수를 넘은 오래된 키 삭제 (실행 중인 키는 건너뛰므로 실행 중인 키가 많으면 잠시 max-entries 를 넘을 수 있음)
+    private void evict(long now) {
+        Iterator<Entry> iterator = order.iterator();
+        while (iterator.hasNext()) {
+            Entry oldest = iterator.next();
+            if (oldest.expiresAt() > now && entries.size() <= maxEntries) {
+                return;
+            }
+            if (!oldest.result().isDone()) { // 실행 중 -> 끝난 뒤 다음 정리에서 삭제
+                continue;
+            }
+            iterator.remove();
+            entries.remove(oldest.key(), oldest);
+        }
+    }
+
+    private record Entry(String key, Object fingerprint, CompletableFuture<Object> result, long expiresAt) {
+    }
+}
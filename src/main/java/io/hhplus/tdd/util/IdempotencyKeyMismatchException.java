@@ -0,0 +1,13 @@
+package io.hhplus.tdd.util;
+
+/**
+ * 이미 사용한 Idempotency-Key 로 내용이 다른 요청을 보냄
+ * - HTTP 422 (Unprocessable Content) 로 응답 (ApiControllerAdvice, PointRouter)
+ * - 클라이언트는 새 요청에 새 키를 사용해야 함
+ */
+public class IdempotencyKeyMismatchException extends IllegalArgumentException {
+
+    public IdempotencyKeyMismatchException() {
+        super("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 히스토그램
+ * - 나노초 단위 값을 2의 거듭제곱 구간(bucket)에 누적
+ * - 여러 쓰레드에서 락 없이 기록 가능
+ */
+// 예) bucket 10 = 512ns 이상 1024ns 미만
+public class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    /**
+     * 값 기록
+     * @param nanos 지연 시간 (나노초)
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * 기록 건수 (스냅샷 없이 조회)
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * 기록 합계 (나노초, 스냅샷 없이 조회)
+     */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * 현재 값 스냅샷
+     * @return 건수, 합계, 최대값, 구간별 건수
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = buckets.get(i);
+        }
+        return new Snapshot(count.sum(), totalNanos.sum(), maxNanos.get(), copy);
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos == 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos) - 1;
+    }
+
+    /**
+     * 히스토그램 스냅샷
+     * - buckets[i] : 2^i 이상 2^(i+1) 미만 구간의 건수
+     */
+    public record Snapshot(long count, long totalNanos, long maxNanos, long[] buckets) {
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * 백분위 값 (구간 상한으로 근사)
+         * @param percentile 0.0 ~ 1.0
+         * @return 해당 백분위가 속한 구간의 상한 (나노초)
+         */
+        public long percentileNanos(double percentile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
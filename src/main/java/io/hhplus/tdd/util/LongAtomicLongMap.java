@@ -0,0 +1,130 @@
+package io.hhplus.tdd.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * long 키 -> AtomicLong 값 맵 (open addressing)
+ * - 키를 long 배열에 그대로 저장하므로 Map<Long, ...> 처럼 키를 박싱하지 않음
+ * - 조회는 락 없이 수행, 새 키 추가와 테이블 확장만 맵 단위로 동기화
+ * - 값(AtomicLong)은 키당 한 번만 만들어지고 테이블이 커져도 같은 객체가 유지되므로, 조회한 값에 대한 CAS 가 확장 중에도 유실되지 않음
+ * - 키 0 은 빈 칸 표시로 사용하므로 저장할 수 없음
+ */
+// 예) map.getOrCreate(1L).addAndGet(1_000L); // 사용자 1의 잔액에 1,000 추가
+public class LongAtomicLongMap {
+
+    private static final long EMPTY = 0L;
+
+    private volatile Table table;
+    private int size; // 동기화 블록 안에서만 접근
+
+    /**
+     * @param initialCapacity 예상 키 개수
+     */
+    public LongAtomicLongMap(int initialCapacity) {
+        this.table = new Table(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * 값 조회 (락 없음)
+     * @param key 키 (0 제외)
+     * @return 값, 없으면 null
+     */
+    public AtomicLong get(long key) {
+        return table.find(key);
+    }
+
+    /**
+     * 값 조회, 없으면 0 으로 생성
+     * @param key 키 (0 제외)
+     * @return 키의 값 (같은 키는 항상 같은 객체)
+     */
+    public AtomicLong getOrCreate(long key) {
+        AtomicLong value = table.find(key);
+        return value != null ? value : insert(key);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized AtomicLong insert(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("키 0 은 사용할 수 없습니다.");
+        }
+        AtomicLong existing = table.find(key); // 락을 기다리는 사이에 다른 쓰레드가 추가했을 수 있음
+        if (existing != null) {
+            return existing;
+        }
+        if ((size + 1) * 2 > table.capacity()) { // 사용률 50% 를 넘기지 않도록 확장
+            table = table.resize();
+        }
+        AtomicLong value = new AtomicLong();
+        table.put(key, value);
+        size++;
+        return value;
+    }
+
+    private static int tableSizeFor(int expected) {
+        int capacity = Math.max(16, expected * 2);
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private static int indexOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * 키/값 배열 한 벌
+     * - put 은 값을 먼저 쓰고 키를 나중에 쓰므로, 키가 보이는 칸은 값도 보임
+     */
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<AtomicLong> values;
+        private final int mask;
+
+        Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.values = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        AtomicLong find(long key) {
+            for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return values.get(i);
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+            }
+        }
+
+        void put(long key, AtomicLong value) {
+            int i = indexOf(key, mask);
+            while (keys.get(i) != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            values.set(i, value);
+            keys.set(i, key);
+        }
+
+        Table resize() {
+            Table resized = new Table(capacity() * 2);
+            for (int i = 0; i < capacity(); i++) {
+                long key = keys.get(i);
+                if (key != EMPTY) {
+                    resized.put(key, values.get(i));
+                }
+            }
+            return resized;
+        }
+    }
+}
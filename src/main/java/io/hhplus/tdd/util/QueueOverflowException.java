@@ -0,0 +1,39 @@
+package io.hhplus.tdd.util;
+
+/**
+ * 요청 대기열 과부하로 요청을 거절했을 때의 예외
+ * - HTTP 429 (Too Many Requests) 로 응답 (ApiControllerAdvice, PointRouter)
+ */
+public class QueueOverflowException extends RuntimeException {
+
+    /**
+     * 거절 사유
+     * - USER_QUEUE_FULL : 사용자 큐 용량 초과 (REJECT_NEW)
+     * - QUEUE_FULL : 전체 큐 용량 초과
+     * - SHED_OLDEST : 사용자 큐가 가득 차 새 요청에 자리를 내줌 (SHED_OLDEST)
+     * - EXPIRED : 큐에서 기다린 시간이 max-queue-age 를 넘음
+     */
+    public enum Reason {
+        USER_QUEUE_FULL("사용자 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+        QUEUE_FULL("요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+        SHED_OLDEST("새 요청이 들어와 대기 중이던 요청을 취소했습니다."),
+        EXPIRED("요청 대기 시간이 초과되었습니다.");
+
+        private final String message;
+
+        Reason(String message) {
+            this.message = message;
+        }
+    }
+
+    private final Reason reason;
+
+    public QueueOverflowException(Reason reason) {
+        super(reason.message);
+        this.reason = reason;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
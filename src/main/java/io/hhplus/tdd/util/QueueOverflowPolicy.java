@@ -0,0 +1,11 @@
+package io.hhplus.tdd.util;
+
+/**
+ * 사용자 큐가 가득 찼을 때의 처리 방식
+ * - REJECT_NEW : 새 요청을 바로 거절 (먼저 들어온 요청을 보호)
+ * - SHED_OLDEST : 가장 오래 기다린 요청을 거절하고 새 요청을 받음 (오래 기다린 클라이언트는 이미 타임아웃났을 가능성이 큼)
+ * - 전체 큐 용량 초과는 정책과 관계없이 새 요청을 거절
+ */
+public enum QueueOverflowPolicy {
+    REJECT_NEW, SHED_OLDEST
+}
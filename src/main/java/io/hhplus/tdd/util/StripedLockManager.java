@@ -0,0 +1,156 @@
+package io.hhplus.tdd.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 ID 기반 스트라이프 락 관리 클래스
+ * - 고정된 개수(N)의 락을 만들어 두고 사용자 ID 해시로 락을 선택
+ * - 사용자 수가 늘어나도 락 개수가 고정이므로 메모리 사용량이 일정
+ * - 스트라이프별 락 대기 시간/보유 시간 히스토그램을 기록 (같은 스트라이프에 몰리는 사용자 확인용)
+ */
+// 예) 스트라이프 64개 -> 사용자 1과 65는 같은 락을 공유할 수 있지만, 사용자 1과 2는 동시에 처리 가능
+@Component
+public class StripedLockManager {
+
+    private final ReentrantLock[] locks;
+    private final LatencyHistogram[] waitTimes;
+    private final LatencyHistogram[] holdTimes;
+    private final int mask;
+
+    /**
+     * @param stripes 스트라이프 수 (2의 거듭제곱으로 올림)
+     * @param fair 공정 락 사용 여부
+     */
+    public StripedLockManager(@Value("${point.lock.stripes:64}") int stripes,
+                              @Value("${point.lock.fair:false}") boolean fair) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("스트라이프 수는 0 이하일 수 없습니다.");
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        this.waitTimes = new LatencyHistogram[size];
+        this.holdTimes = new LatencyHistogram[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock(fair);
+            waitTimes[i] = new LatencyHistogram();
+            holdTimes[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * 락을 잡고 작업 실행
+     * - 사용자 ID에 해당하는 스트라이프 락을 획득한 뒤 작업을 실행하고 해제
+     * @param userId 사용자 ID
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    // 예) lockManager.executeWithLock(1L, () -> userPointTable.insertOrUpdate(1L, 100L));
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        int stripe = stripeOf(userId);
+        ReentrantLock lock = locks[stripe];
+
+        long requested = System.nanoTime();
+        lock.lock();
+        long acquired = System.nanoTime();
+        waitTimes[stripe].record(acquired - requested);
+        try {
+            return action.get();
+        } finally {
+            holdTimes[stripe].record(System.nanoTime() - acquired);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 두 사용자의 락을 잡고 작업 실행
+     * - 스트라이프 번호가 작은 락부터 잡으므로 A->B, B->A 요청이 동시에 들어와도 교착 상태가 생기지 않음
+     * - 두 사용자가 같은 스트라이프면 락 하나만 잡음
+     * @return 작업 결과
+     */
+    // 예) lockManager.executeWithLocks(1L, 2L, () -> transfer(1L, 2L, 1_000L));
+    public <T> T executeWithLocks(long userId, long otherUserId, Supplier<T> action) {
+        int stripe = stripeOf(userId);
+        int other = stripeOf(otherUserId);
+        if (stripe == other) {
+            return executeWithLock(userId, action);
+        }
+        int first = Math.min(stripe, other);
+        int second = Math.max(stripe, other);
+
+        long requested = System.nanoTime();
+        locks[first].lock();
+        long firstAcquired = System.nanoTime();
+        waitTimes[first].record(firstAcquired - requested);
+        try {
+            locks[second].lock();
+            long secondAcquired = System.nanoTime();
+            waitTimes[second].record(secondAcquired - firstAcquired);
+            try {
+                return action.get();
+            } finally {
+                holdTimes[second].record(System.nanoTime() - secondAcquired);
+                locks[second].unlock();
+            }
+        } finally {
+            holdTimes[first].record(System.nanoTime() - firstAcquired);
+            locks[first].unlock();
+        }
+    }
+
+    /**
+     * 사용자 ID의 스트라이프 번호
+     * @param userId 사용자 ID
+     * @return 0 ~ (스트라이프 수 - 1)
+     */
+    public int stripeOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L; // 연속된 ID가 인접 스트라이프에 몰리지 않도록 섞음
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    public int getStripeCount() {
+        return locks.length;
+    }
+
+    /**
+     * 스트라이프별 경합 지표
+     * @return 스트라이프별 대기 시간/보유 시간 히스토그램 스냅샷
+     */
+    public List<StripeStats> getStripeStats() {
+        List<StripeStats> stats = new ArrayList<>(locks.length);
+        for (int i = 0; i < locks.length; i++) {
+            stats.add(new StripeStats(i, locks[i].getQueueLength(), waitTimes[i].snapshot(), holdTimes[i].snapshot()));
+        }
+        return stats;
+    }
+
+    /**
+     * 스트라이프의 락 대기 시간 히스토그램 (지표 수집용, 복사 없음)
+     */
+    public LatencyHistogram getWaitTime(int stripe) {
+        return waitTimes[stripe];
+    }
+
+    /**
+     * 스트라이프의 락 보유 시간 히스토그램 (지표 수집용, 복사 없음)
+     */
+    public LatencyHistogram getHoldTime(int stripe) {
+        return holdTimes[stripe];
+    }
+
+    /**
+     * 스트라이프 경합 지표
+     * - queueLength : 현재 락을 기다리는 쓰레드 수 (추정치)
+     */
+    public record StripeStats(int stripe,
+                              int queueLength,
+                              LatencyHistogram.Snapshot waitTime,
+                              LatencyHistogram.Snapshot holdTime) {
+    }
+}
@@ -0,0 +1,289 @@
+package io.hhplus.tdd.util;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 요청 실행기
+ * - UserRequestQueue 에 쌓인 작업을 사용자 단위로 요청 순서대로 실행
+ * - 작업이 들어온 사용자만 준비 목록(ready list)에 올리고, 고정된 수의 워커가 준비된 사용자의 큐를 비움
+ * - 사용자마다 "예약됨" 표시를 두어, 한 사용자의 큐는 한 번에 하나의 워커만 실행 (같은 사용자의 작업은 하나씩 순서대로)
+ * - 워커는 work-stealing 풀(ForkJoinPool, FIFO 모드)이므로 한가한 워커가 바쁜 워커에 쌓인 사용자를 가져가서 실행
+ * - 한 사용자는 한 번에 최대 DRAIN_BUDGET 개까지만 실행하고 준비 목록 뒤로 이동 (요청이 몰린 사용자가 워커를 독점하지 않음)
+ * - 작업이 없는 사용자는 큐도 예약 표시도 남지 않으므로, 대부분 쉬고 있는 사용자가 수백만 명이어도 비용이 없음
+ * - 가상 쓰레드 모드(JDK 21 이상)에서는 사용자 큐를 비우는 작업마다 가상 쓰레드를 만들고, 동시에 실행하는 수를 worker-count 로 제한
+ * - 큐 용량 초과 / 대기 시간 초과로 거절된 요청은 QueueOverflowException 으로 future 를 완료 (HTTP 429)
+ */
+// 예) 워커 2개, 사용자 1의 요청이 테이블 호출로 오래 걸려도 다른 사용자의 요청은 남은 워커가 모두 가져가서 처리
+@Component
+public class UserRequestExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(UserRequestExecutor.class);
+
+    private static final int DRAIN_BUDGET = 32; // 사용자 하나를 연속으로 실행하는 최대 작업 수
+
+    private final UserRequestQueue queue;                              // 사용자별 작업 큐
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet(); // 준비 목록에 올라가 있거나 실행 중인 사용자
+    private final AtomicInteger scheduledCount = new AtomicInteger();  // scheduled 크기 (종료 대기용)
+    private final Executor workers;
+    private final ForkJoinPool pool;      // 플랫폼 쓰레드 모드 (가상 쓰레드 모드면 null)
+    private final Semaphore permits;      // 가상 쓰레드 모드의 동시 실행 제한 (플랫폼 쓰레드 모드면 null)
+    private volatile boolean running = true;
+
+    /**
+     * @param workerCount 워커 쓰레드 수 (0 이하이면 CPU 코어 수)
+     * @param virtualThreads 워커를 가상 쓰레드로 실행할지 여부 (JDK 21 이상)
+     * @param userQueueCapacity 사용자 한 명이 쌓을 수 있는 최대 요청 수
+     * @param queueCapacity 전체 사용자가 쌓을 수 있는 최대 요청 수
+     * @param overflowPolicy 사용자 큐가 가득 찼을 때의 처리 방식
+     * @param maxQueueAgeMillis 요청이 큐에서 기다릴 수 있는 최대 시간 (0 이하이면 제한 없음)
+     */
+    @Autowired
+    public UserRequestExecutor(@Value("${point.executor.worker-count:0}") int workerCount,
+                               @Value("${point.executor.virtual-threads:false}") boolean virtualThreads,
+                               @Value("${point.executor.user-queue-capacity:1000}") int userQueueCapacity,
+                               @Value("${point.executor.queue-capacity:100000}") int queueCapacity,
+                               @Value("${point.executor.overflow-policy:REJECT_NEW}") QueueOverflowPolicy overflowPolicy,
+                               @Value("${point.executor.max-queue-age-ms:10000}") long maxQueueAgeMillis) {
+        this(workerCount, virtualThreads, new UserRequestQueue(userQueueCapacity, queueCapacity, overflowPolicy, maxQueueAgeMillis));
+    }
+
+    /**
+     * 용량 제한 없는 큐로 생성
+     */
+    public UserRequestExecutor(int workerCount, boolean virtualThreads) {
+        this(workerCount, virtualThreads, new UserRequestQueue());
+    }
+
+    UserRequestExecutor(int workerCount, boolean virtualThreads, UserRequestQueue queue) {
+        this.queue = queue;
+        int count = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        if (virtualThreads) {
+            this.pool = null;
+            this.permits = new Semaphore(count);
+            this.workers = new VirtualThreadTaskExecutor("point-worker-");
+        } else {
+            this.pool = new ForkJoinPool(count, UserRequestExecutor::newWorker, null, true); // asyncMode : 워커별 큐를 FIFO 로 처리
+            this.permits = null;
+            this.workers = pool;
+        }
+    }
+
+    /**
+     * 작업 제출
+     * - 사용자 큐에 작업을 추가하고 사용자를 준비 목록에 올림
+     * - 작업 결과(또는 예외)는 반환된 CompletableFuture 로 전달
+     * - 큐가 가득 차 받을 수 없으면 QueueOverflowException 으로 완료된 future 를 반환
+     * @param userId 사용자 ID
+     * @param action 실행할 작업
+     * @return 작업 결과
+     */
+    // 예) executor.submit(1L, () -> pointService.chargePoint(1L, 1_000L)).join();
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> action) {
+        if (!running) {
+            throw new IllegalStateException("요청 실행기가 종료되었습니다.");
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            queue.addToQueue(userId, () -> {
+                try {
+                    future.complete(action.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }, future::completeExceptionally);
+        } catch (QueueOverflowException e) { // 큐가 가득 참 -> 준비 목록에 올리지 않고 바로 실패
+            future.completeExceptionally(e);
+            return future;
+        }
+        schedule(userId);
+        return future;
+    }
+
+    /**
+     * 순서 보장 없이 작업 제출
+     * - 사용자 큐를 거치지 않고 워커에 바로 넣음 (같은 사용자의 작업도 여러 워커에서 동시에 실행)
+     * - 순서가 결과에 영향을 주지 않고 작업 스스로 동시성을 처리하는 경우에만 사용 (예: 분산 잔액 충전)
+     * - 실행을 시작할 때까지 사용자 큐 / 전체 큐 용량에 포함 (용량을 넘으면 QueueOverflowException 으로 완료된 future 반환)
+     * @param userId 용량을 계산할 사용자 ID
+     */
+    // 예) executor.submitUnordered(1L, () -> pointService.chargePoint(1L, 1_000L)).join();
+    public <T> CompletableFuture<T> submitUnordered(long userId, Supplier<T> action) {
+        if (!running) {
+            throw new IllegalStateException("요청 실행기가 종료되었습니다.");
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            queue.reserve(userId);
+        } catch (QueueOverflowException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+        scheduledCount.incrementAndGet(); // 종료 시 이 작업까지 기다림
+        Runnable task = () -> {
+            queue.release(userId); // 워커가 꺼냄 -> 대기 작업 수에서 제외
+            if (permits != null) {
+                permits.acquireUninterruptibly();
+            }
+            try {
+                future.complete(action.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+                unscheduled();
+            }
+        };
+        try {
+            workers.execute(task);
+        } catch (RejectedExecutionException e) { // 종료 직전에 들어온 요청 -> 호출한 쓰레드에서 실행
+            task.run();
+        }
+        return future;
+    }
+
+    /**
+     * 대기 중인 작업 수
+     * @return 모든 사용자 큐에 남아 있는 작업 수
+     */
+    public int getPendingTaskCount() {
+        return queue.getTotalTaskCount();
+    }
+
+    /**
+     * 사용자별 최대 대기 작업 수
+     * @return 작업이 가장 많이 쌓인 사용자의 대기 작업 수
+     */
+    public int getMaxUserPendingTaskCount() {
+        return queue.getMaxTaskCount();
+    }
+
+    /**
+     * 대기 작업이 있는 사용자 수
+     */
+    public int getActiveUserCount() {
+        return queue.getActiveUserCount();
+    }
+
+    /**
+     * 사유별 거절된 요청 수
+     */
+    public long getRejectedCount(QueueOverflowException.Reason reason) {
+        return queue.getRejectedCount(reason);
+    }
+
+    /**
+     * 종료
+     * - 새 작업은 받지 않고, 이미 제출된 작업은 모두 실행한 뒤 워커를 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        synchronized (scheduledCount) {
+            while (scheduledCount.get() > 0) { // 준비 목록이 빌 때까지 대기 (drain 이 끝날 때 깨움)
+                try {
+                    scheduledCount.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 사용자를 준비 목록에 올림
+     * - 이미 올라가 있거나 실행 중이면 아무것도 하지 않음 (실행 중인 워커가 방금 추가된 작업까지 실행)
+     */
+    private void schedule(long userId) {
+        if (scheduled.add(userId)) {
+            scheduledCount.incrementAndGet();
+            dispatch(userId);
+        }
+    }
+
+    private void dispatch(long userId) {
+        try {
+            workers.execute(() -> drain(userId));
+        } catch (RejectedExecutionException e) { // 종료 직전에 들어온 요청 -> 호출한 쓰레드에서 실행
+            drain(userId);
+        }
+    }
+
+    /**
+     * 사용자 큐 비우기
+     * - 최대 DRAIN_BUDGET 개를 실행하고, 작업이 남으면 준비 목록 뒤로 다시 올림
+     * - 큐가 비면 예약 표시를 지운 뒤 한 번 더 확인 (표시를 지우는 사이에 들어온 작업을 놓치지 않음)
+     */
+    private void drain(long userId) {
+        if (permits != null) {
+            permits.acquireUninterruptibly();
+        }
+        try {
+            for (int executed = 0; executed < DRAIN_BUDGET; executed++) {
+                Runnable task = queue.pollNextTask(userId);
+                if (task == null) {
+                    scheduled.remove(userId);
+                    if (!queue.hasPendingTasks(userId) || !scheduled.add(userId)) {
+                        unscheduled();
+                        return;
+                    }
+                    continue; // 표시를 지우는 사이에 작업이 들어옴 -> 계속 실행
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) { // 작업은 future 로 예외를 전달하므로 여기까지 오지 않음
+                    log.error("사용자 요청 실행 실패 - 사용자: {}", userId, e);
+                }
+            }
+        } finally {
+            if (permits != null) {
+                permits.release();
+            }
+        }
+        dispatch(userId); // 예산 소진 -> 다른 사용자에게 차례를 넘김
+    }
+
+    // 예약 표시가 지워진 drain 종료 (종료 대기 중이면 깨움)
+    private void unscheduled() {
+        if (scheduledCount.decrementAndGet() == 0 && !running) {
+            synchronized (scheduledCount) {
+                scheduledCount.notifyAll();
+            }
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        worker.setName("point-worker-" + worker.getPoolIndex());
+        worker.setDaemon(true);
+        return worker;
+    }
+}
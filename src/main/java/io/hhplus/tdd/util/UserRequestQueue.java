@@ -1,19 +1,70 @@
 package io.hhplus.tdd.util;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 /**
  * 사용자별 작업을 관리하는 클래스
  * - 사용자 ID(Long)를 키로 사용
  * - 각 사용자에 대해 작업 큐(BlockingQueue<Runnable>)를 생성
  * - 여러 쓰레드 환경에서 안전하게 작업 관리 가능
+ * - 사용자 큐 / 전체 큐 용량을 넘으면 QueueOverflowPolicy 에 따라 요청을 거절 (QueueOverflowException)
+ * - 큐를 거치지 않고 워커에 바로 넘기는 작업(reserve)도 실행을 시작할 때까지 같은 용량에 포함
+ * - 큐에서 max-queue-age 보다 오래 기다린 작업은 실행하지 않고 거절 (과부하 시 이미 늦은 요청에 시간을 쓰지 않음)
+ * - 작업을 모두 꺼낸 사용자 큐는 바로 삭제 (요청이 끊긴 사용자의 큐가 남지 않음)
  */
 // 예) 사용자 A는 작업 1, 2를 요청, 사용자 B는 작업 3, 4를 요청하면 작업은 각각 A와 B의 작업 큐에 따로 저장
 public class UserRequestQueue {
-    private final ConcurrentHashMap<Long, BlockingQueue<Runnable>> userQueueMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, BlockingQueue<QueuedTask>> userQueueMap = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> reservedTaskMap = new ConcurrentHashMap<>(); // 사용자별 예약(워커 대기) 작업 수
+    private final AtomicInteger totalTaskCount = new AtomicInteger();
+    private final Map<QueueOverflowException.Reason, LongAdder> rejected = new EnumMap<>(QueueOverflowException.Reason.class);
+    private final int userCapacity;
+    private final int totalCapacity;
+    private final QueueOverflowPolicy policy;
+    private final long maxQueueAgeNanos;
+    private final LongSupplier clock;
+
+    /**
+     * 용량 제한 없는 큐
+     */
+    public UserRequestQueue() {
+        this(Integer.MAX_VALUE, Integer.MAX_VALUE, QueueOverflowPolicy.REJECT_NEW, 0);
+    }
+
+    /**
+     * @param userCapacity 사용자 한 명이 쌓을 수 있는 최대 작업 수
+     * @param totalCapacity 모든 사용자 큐에 쌓을 수 있는 최대 작업 수
+     * @param policy 사용자 큐가 가득 찼을 때의 처리 방식
+     * @param maxQueueAgeMillis 작업이 큐에서 기다릴 수 있는 최대 시간 (0 이하이면 제한 없음)
+     */
+    public UserRequestQueue(int userCapacity, int totalCapacity, QueueOverflowPolicy policy, long maxQueueAgeMillis) {
+        this(userCapacity, totalCapacity, policy, maxQueueAgeMillis, System::nanoTime);
+    }
+
+    UserRequestQueue(int userCapacity, int totalCapacity, QueueOverflowPolicy policy, long maxQueueAgeMillis,
+                     LongSupplier clock) {
+        if (userCapacity <= 0 || totalCapacity <= 0) {
+            throw new IllegalArgumentException("큐 용량은 0 이하일 수 없습니다.");
+        }
+        this.userCapacity = userCapacity;
+        this.totalCapacity = totalCapacity;
+        this.policy = policy;
+        this.maxQueueAgeNanos = maxQueueAgeMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(maxQueueAgeMillis) : 0;
+        this.clock = clock;
+        for (QueueOverflowException.Reason reason : QueueOverflowException.Reason.values()) {
+            rejected.put(reason, new LongAdder());
+        }
+    }
 
     /**
      * 작업 추가
@@ -21,16 +72,95 @@ public class UserRequestQueue {
      * - 사용자 ID에 해당하는 큐가 없으면 새로 생성 후 추가
      * @param userId 사용자 ID
      * @param task 추가할 작업(Runnable)
+     * @throws QueueOverflowException 큐 용량을 넘어 작업을 받을 수 없을 때
      */
     // 예) queue.addToQueue(101L, () -> System.out.println("사용자 101의 첫 번째 작업 실행"));
     public void addToQueue(Long userId, Runnable task) {
-        userQueueMap.computeIfAbsent(userId, id -> new LinkedBlockingQueue<>()).add(task);
+        addToQueue(userId, task, rejection -> {
+        });
+    }
+
+    /**
+     * 작업 추가 (거절 알림 포함)
+     * - 큐에 들어간 뒤 거절된 작업(SHED_OLDEST, EXPIRED)은 실행하지 않고 onRejected 를 호출
+     * @param onRejected 큐에 들어간 뒤 거절되었을 때 호출할 함수 (예: future 를 예외로 완료)
+     * @throws QueueOverflowException 큐 용량을 넘어 작업을 받을 수 없을 때
+     */
+    public void addToQueue(Long userId, Runnable task, Consumer<QueueOverflowException> onRejected) {
+        QueuedTask queued = new QueuedTask(task, onRejected, clock.getAsLong());
+        if (totalTaskCount.incrementAndGet() > totalCapacity) { // 전체 용량 초과 -> 정책과 관계없이 거절
+            totalTaskCount.decrementAndGet();
+            throw reject(QueueOverflowException.Reason.QUEUE_FULL);
+        }
+        QueuedTask[] shed = new QueuedTask[1];
+        boolean[] full = new boolean[1];
+        // 큐 생성/추가와 빈 큐 삭제(evictIfEmpty)를 같은 compute 로 처리해, 삭제된 큐에 작업이 들어가지 않게 함
+        userQueueMap.compute(userId, (id, queue) -> {
+            if (queue == null) {
+                queue = new LinkedBlockingQueue<>();
+            }
+            if (queue.size() + reservedTaskMap.getOrDefault(id, 0) >= userCapacity) {
+                if (policy == QueueOverflowPolicy.REJECT_NEW) {
+                    full[0] = true;
+                    return queue;
+                }
+                shed[0] = queue.poll(); // 가장 오래 기다린 작업에 자리를 내줌
+            }
+            queue.add(queued);
+            return queue;
+        });
+        if (full[0]) {
+            totalTaskCount.decrementAndGet();
+            throw reject(QueueOverflowException.Reason.USER_QUEUE_FULL);
+        }
+        if (shed[0] != null) {
+            totalTaskCount.decrementAndGet();
+            shed[0].onRejected().accept(reject(QueueOverflowException.Reason.SHED_OLDEST));
+        }
+    }
+
+    /**
+     * 큐를 거치지 않는 작업의 자리 예약
+     * - 순서 없이 워커에 바로 넘기는 작업도 사용자 큐 작업 수와 합쳐 사용자 용량, 전체 용량을 넘지 않게 함
+     * - 이미 워커에 넘긴 작업은 뺄 수 없으므로 정책과 관계없이 새 작업을 거절
+     * - 작업이 실행을 시작하면 release 로 자리를 돌려줌
+     * @throws QueueOverflowException 용량을 넘어 작업을 받을 수 없을 때
+     */
+    // 예) queue.reserve(1L); pool.execute(() -> { queue.release(1L); task.run(); });
+    public void reserve(Long userId) {
+        if (totalTaskCount.incrementAndGet() > totalCapacity) {
+            totalTaskCount.decrementAndGet();
+            throw reject(QueueOverflowException.Reason.QUEUE_FULL);
+        }
+        boolean[] full = new boolean[1];
+        reservedTaskMap.compute(userId, (id, reserved) -> {
+            int current = reserved == null ? 0 : reserved;
+            BlockingQueue<QueuedTask> queue = userQueueMap.get(id);
+            if (current + (queue == null ? 0 : queue.size()) >= userCapacity) {
+                full[0] = true;
+                return reserved;
+            }
+            return current + 1;
+        });
+        if (full[0]) {
+            totalTaskCount.decrementAndGet();
+            throw reject(QueueOverflowException.Reason.USER_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 예약한 자리 반환 (예약한 작업이 실행을 시작할 때)
+     */
+    public void release(Long userId) {
+        reservedTaskMap.computeIfPresent(userId, (id, reserved) -> reserved == 1 ? null : reserved - 1);
+        totalTaskCount.decrementAndGet();
     }
 
     /**
      * 다음 작업 가져오기
      * - 주어진 사용자 ID의 작업 큐에서 맨 앞의 작업을 가져옴
      * - 작업이 없으면 대기 상태
+     * - 너무 오래 기다린 작업이면 원래 작업 대신 거절 알림을 실행하는 작업을 반환
      * @param userId 사용자 ID
      * @return 작업(Runnable) 또는 null (사용자 큐가 없을 경우)
      * @throws InterruptedException 작업 대기 중 인터럽트 발생 시
@@ -40,8 +170,27 @@ public class UserRequestQueue {
     //     task.run(); // 작업 실행 -> "사용자 101의 첫 번째 작업 실행"
     // }
     public Runnable getNextTask(Long userId) throws InterruptedException {
-        BlockingQueue<Runnable> queue = userQueueMap.get(userId);
-        return (queue != null) ? queue.take() : null;
+        BlockingQueue<QueuedTask> queue = userQueueMap.get(userId);
+        return (queue != null) ? dequeued(userId, queue.take()) : null;
+    }
+
+    /**
+     * 다음 작업 가져오기 (대기하지 않음)
+     * - 작업이 없으면 바로 null 반환 (SHED_OLDEST 로 먼저 빠진 작업의 신호 등)
+     * @param userId 사용자 ID
+     * @return 작업(Runnable) 또는 null
+     */
+    public Runnable pollNextTask(Long userId) {
+        BlockingQueue<QueuedTask> queue = userQueueMap.get(userId);
+        if (queue == null) {
+            return null;
+        }
+        QueuedTask queued = queue.poll();
+        if (queued == null) {
+            evictIfEmpty(userId);
+            return null;
+        }
+        return dequeued(userId, queued);
     }
 
     /**
@@ -52,13 +201,13 @@ public class UserRequestQueue {
      */
     // 예) boolean hasTasks = queue.hasPendingTasks(101L); // 사용자 101의 대기 작업 확인
     public boolean hasPendingTasks(Long userId) {
-        BlockingQueue<Runnable> queue = userQueueMap.get(userId);
+        BlockingQueue<QueuedTask> queue = userQueueMap.get(userId);
         return queue != null && !queue.isEmpty();
     }
 
     /**
      * 모든 사용자 ID 가져오기
-     * - 현재 작업 큐에 등록된 사용자 ID를 반환
+     * - 현재 작업 큐에 등록된 사용자 ID를 반환 (작업을 모두 꺼낸 사용자는 제외)
      * @return 사용자 ID의 Set
      */
     public Set<Long> getUserIds() {
@@ -67,12 +216,61 @@ public class UserRequestQueue {
 
     /**
      * 모든 작업 수 가져오기
-     * - 모든 사용자 큐의 작업 수를 합산하여 반환
+     * - 모든 사용자 큐의 작업 수 (추가/제거 시 함께 갱신하는 카운터)
      * @return 전체 작업 수
      */
     public int getTotalTaskCount() {
+        return totalTaskCount.get();
+    }
+
+    /**
+     * 사용자별 최대 작업 수 가져오기
+     * - 작업이 가장 많이 쌓인 사용자 큐의 작업 수를 반환 (특정 사용자에게 요청이 몰리는지 확인용)
+     * @return 사용자 큐 작업 수의 최대값 (사용자가 없으면 0)
+     */
+    public int getMaxTaskCount() {
         return userQueueMap.values().stream()
-                .mapToInt(BlockingQueue::size) // 각 큐의 작업 수를 합산
-                .sum();
+                .mapToInt(BlockingQueue::size)
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * 작업이 남아 있는 사용자 수 가져오기
+     * @return 대기 작업이 1개 이상인 사용자 수
+     */
+    public int getActiveUserCount() {
+        return (int) userQueueMap.values().stream()
+                .filter(queue -> !queue.isEmpty())
+                .count();
+    }
+
+    /**
+     * 사유별 거절 수
+     */
+    public long getRejectedCount(QueueOverflowException.Reason reason) {
+        return rejected.get(reason).sum();
+    }
+
+    private Runnable dequeued(Long userId, QueuedTask queued) {
+        totalTaskCount.decrementAndGet();
+        evictIfEmpty(userId);
+        if (maxQueueAgeNanos > 0 && clock.getAsLong() - queued.enqueuedNanos() > maxQueueAgeNanos) {
+            QueueOverflowException expired = reject(QueueOverflowException.Reason.EXPIRED);
+            return () -> queued.onRejected().accept(expired);
+        }
+        return queued.task();
+    }
+
+    private void evictIfEmpty(Long userId) {
+        userQueueMap.computeIfPresent(userId, (id, queue) -> queue.isEmpty() ? null : queue);
+    }
+
+    private QueueOverflowException reject(QueueOverflowException.Reason reason) {
+        rejected.get(reason).increment();
+        return new QueueOverflowException(reason);
+    }
+
+    private record QueuedTask(Runnable task, Consumer<QueueOverflowException> onRejected, long enqueuedNanos) {
     }
 }
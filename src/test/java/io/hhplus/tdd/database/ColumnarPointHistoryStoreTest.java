@@ -0,0 +1,78 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarPointHistoryStoreTest {
+
+    private final ColumnarPointHistoryStore store = new ColumnarPointHistoryStore(4_096);
+
+    @Test
+    void 블록으로_봉인된_이력과_마지막_블록의_이력을_저장_순서대로_조회한다() {
+        // given: 사용자 1, 2의 이력을 섞어서 블록 몇 개 분량 저장 (시각이 거꾸로 가거나 금액이 음수인 이력 포함)
+        List<PointHistory> expected = new ArrayList<>();
+        for (long i = 1; i <= ColumnarPointHistoryStore.BLOCK_ROWS * 3 + 5; i++) {
+            long userId = i % 3 == 0 ? 2L : 1L;
+            long amount = i % 4 == 0 ? -i * 1_000 : i * 1_000;
+            long updateMillis = 1_700_000_000_000L + (i % 7 == 0 ? -i : i * 10);
+            PointHistory inserted = store.insert(userId, amount, amount < 0 ? TransactionType.USE : TransactionType.CHARGE, updateMillis);
+            if (userId == 1L) {
+                expected.add(inserted);
+            }
+        }
+
+        // when
+        List<PointHistory> histories = store.selectAllByUserId(1L);
+
+        // then: 원래 값 그대로 복원되고 힙 밖 메모리에 블록이 기록됨
+        assertThat(histories).containsExactlyElementsOf(expected);
+        assertThat(store.selectAllByUserId(3L)).isEmpty();
+        assertThat(store.getEncodedBytes()).isPositive();
+    }
+
+    @Test
+    void 페이지_조회는_cursor_이후_조건에_맞는_이력만_반환한다() {
+        // given: 블록 경계를 넘는 이력
+        for (long i = 1; i <= 100; i++) {
+            store.insert(1L, i % 2 == 0 ? -i : i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        // when
+        PointHistoryPage first = store.selectPage(1L, new PointHistoryQuery(30, 20, null, null, TransactionType.USE));
+        PointHistoryPage last = store.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 20, null, 91L, TransactionType.USE));
+
+        // then
+        assertThat(first.histories()).extracting(PointHistory::id).first().isEqualTo(32L);
+        assertThat(first.histories()).hasSize(20).extracting(PointHistory::id).last().isEqualTo(70L);
+        assertThat(last.histories()).extracting(PointHistory::id).containsExactly(72L, 74L, 76L, 78L, 80L, 82L, 84L, 86L, 88L, 90L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void 전체_순회는_사용자별로_저장_순서를_지킨다() {
+        // given
+        for (long i = 1; i <= 80; i++) {
+            store.insert(i % 4, i, TransactionType.CHARGE, i);
+        }
+
+        // when
+        List<PointHistory> all = new ArrayList<>();
+        store.forEachAll(all::add);
+
+        // then
+        assertThat(all).hasSize(80);
+        for (long userId = 0; userId < 4; userId++) {
+            long user = userId;
+            assertThat(all.stream().filter(pointHistory -> pointHistory.userId() == user).map(PointHistory::id).toList())
+                    .isSorted().hasSize(20);
+        }
+    }
+}
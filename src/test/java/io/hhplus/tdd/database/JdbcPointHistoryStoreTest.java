@@ -0,0 +1,106 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcPointHistoryStoreTest {
+
+    private final String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    private PointDatabase database = new PointDatabase(url, "sa", "", 2, 16, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void 일괄_저장한_이력은_ID가_순서대로_부여되고_재시작_후에도_이어서_부여된다() {
+        // given: 사용자 1, 2의 이력 10건을 한 번에 저장
+        JdbcPointHistoryStore store = new JdbcPointHistoryStore(database);
+        List<PointHistory> inserted = store.insertAll(LongStream.rangeClosed(1, 10)
+                .mapToObj(i -> new PointHistoryStore.NewHistory(i % 2 + 1, i * 100, TransactionType.CHARGE, i))
+                .toList());
+        database.close();
+
+        // when: 같은 데이터베이스로 다시 연결
+        database = new PointDatabase(url, "sa", "", 2, 16, 1_000);
+        JdbcPointHistoryStore reopened = new JdbcPointHistoryStore(database);
+        PointHistory next = reopened.insert(1L, -300L, TransactionType.USE, 11L);
+
+        // then
+        assertThat(inserted).extracting(PointHistory::id).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(next.id()).isEqualTo(11L);
+        assertThat(reopened.selectAllByUserId(2L)).extracting(PointHistory::id).containsExactly(1L, 3L, 5L, 7L, 9L);
+        assertThat(reopened.selectAllByUserId(1L)).extracting(PointHistory::amount)
+                .containsExactly(200L, 400L, 600L, 800L, 1_000L, -300L);
+        assertThat(reopened.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 여러_쓰레드가_동시에_저장해도_ID가_겹치지_않고_사용자별로는_저장_순서대로_부여된다() throws Exception {
+        // given: 사용자 4명을 쓰레드 4개가 하나씩 맡아 10건씩 50번 저장
+        JdbcPointHistoryStore store = new JdbcPointHistoryStore(database);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (long userId = 1; userId <= 4; userId++) {
+            long user = userId;
+            futures.add(executorService.submit(() -> {
+                for (int batch = 0; batch < 50; batch++) {
+                    store.insertAll(LongStream.rangeClosed(1, 10)
+                            .mapToObj(i -> new PointHistoryStore.NewHistory(user, 100, TransactionType.CHARGE, i))
+                            .toList());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then
+        List<Long> ids = new ArrayList<>();
+        for (long userId = 1; userId <= 4; userId++) {
+            List<Long> userIds = store.selectAllByUserId(userId).stream().map(PointHistory::id).toList();
+            assertThat(userIds).hasSize(500).isSorted();
+            ids.addAll(userIds);
+        }
+        assertThat(ids).doesNotHaveDuplicates().allMatch(id -> id >= 1 && id <= 2_000);
+    }
+
+    @Test
+    void 페이지_조회는_cursor_이후_조건에_맞는_이력만_반환한다() {
+        // given
+        JdbcPointHistoryStore store = new JdbcPointHistoryStore(database);
+        for (long i = 1; i <= 6; i++) {
+            store.insert(1L, i % 2 == 0 ? -i : i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        // when
+        PointHistoryPage first = store.selectPage(1L, new PointHistoryQuery(0, 2, null, null, TransactionType.USE));
+        PointHistoryPage last = store.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, null, null, TransactionType.USE));
+        PointHistoryPage ranged = store.selectPage(1L, new PointHistoryQuery(0, 10, 2L, 5L, null));
+
+        // then
+        assertThat(first.histories()).extracting(PointHistory::id).containsExactly(2L, 4L);
+        assertThat(last.histories()).extracting(PointHistory::id).containsExactly(6L);
+        assertThat(last.nextCursor()).isNull();
+        assertThat(ranged.histories()).extracting(PointHistory::id).containsExactly(2L, 3L, 4L);
+    }
+}
@@ -0,0 +1,38 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcUserPointStoreTest {
+
+    private final PointDatabase database = new PointDatabase("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+            "sa", "", 2, 16, 1_000);
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void 일괄_저장은_없는_사용자는_추가하고_있는_사용자는_잔액을_바꾼다() {
+        // given
+        JdbcUserPointStore store = new JdbcUserPointStore(database, 16);
+        store.insertOrUpdateAll(List.of(new UserPoint(1L, 100L, 10L), new UserPoint(2L, 200L, 20L)));
+
+        // when
+        store.insertOrUpdateAll(List.of(new UserPoint(1L, 150L, 30L), new UserPoint(3L, 300L, 40L)));
+
+        // then: 저장된 적 없는 사용자는 잔액 0
+        assertThat(store.selectById(1L)).isEqualTo(new UserPoint(1L, 150L, 30L));
+        assertThat(store.selectById(2L)).isEqualTo(new UserPoint(2L, 200L, 20L));
+        assertThat(store.selectById(3L)).isEqualTo(new UserPoint(3L, 300L, 40L));
+        assertThat(store.selectById(4L).point()).isZero();
+        assertThat(store.maxBatchSize()).isEqualTo(16);
+    }
+}
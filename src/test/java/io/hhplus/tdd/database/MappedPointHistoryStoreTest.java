@@ -0,0 +1,123 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedPointHistoryStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 세그먼트가_가득_차면_다음_파일로_넘어간다() throws Exception {
+        // given: 세그먼트당 레코드 4건
+        MappedPointHistoryStore store = new MappedPointHistoryStore(directory.toString(), 4);
+
+        // when: 사용자 1, 2의 이력 10건
+        for (long i = 1; i <= 10; i++) {
+            store.insert(i % 2 + 1, i * 100, i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        // then: 세그먼트 3개, 사용자별 ID 순서 유지
+        try (var files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(3);
+        }
+        assertThat(store.selectAllByUserId(2L)).extracting(PointHistory::id).containsExactly(1L, 3L, 5L, 7L, 9L);
+        assertThat(store.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(200L, 400L, 600L, 800L, 1_000L);
+        assertThat(store.selectAllByUserId(3L)).isEmpty();
+    }
+
+    @Test
+    void 재시작하면_기존_세그먼트에서_이력을_복구한다() {
+        // given
+        MappedPointHistoryStore store = new MappedPointHistoryStore(directory.toString(), 4);
+        store.insert(1L, 1_000L, TransactionType.CHARGE, 10L);
+        store.insert(1L, -300L, TransactionType.USE, 20L);
+        store.insert(2L, 500L, TransactionType.CHARGE, 30L);
+        store.close();
+
+        // when
+        MappedPointHistoryStore reopened = new MappedPointHistoryStore(directory.toString(), 4);
+        PointHistory next = reopened.insert(1L, 200L, TransactionType.CHARGE, 40L);
+
+        // then: 기존 이력이 그대로 조회되고 ID는 이어서 부여됨
+        assertThat(reopened.selectAllByUserId(1L)).containsExactly(
+                new PointHistory(1L, 1L, 1_000L, TransactionType.CHARGE, 10L),
+                new PointHistory(2L, 1L, -300L, TransactionType.USE, 20L),
+                new PointHistory(4L, 1L, 200L, TransactionType.CHARGE, 40L));
+        assertThat(next.id()).isEqualTo(4L);
+        assertThat(reopened.size()).isEqualTo(4L);
+    }
+
+    @Test
+    void 페이지_조회는_cursor_이후_조건에_맞는_이력만_반환한다() {
+        // given
+        MappedPointHistoryStore store = new MappedPointHistoryStore(directory.toString(), 16);
+        for (long i = 1; i <= 6; i++) {
+            store.insert(1L, i % 2 == 0 ? -i : i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+
+        // when
+        PointHistoryPage first = store.selectPage(1L, new PointHistoryQuery(0, 2, null, null, TransactionType.USE));
+        PointHistoryPage last = store.selectPage(1L, new PointHistoryQuery(first.nextCursor(), 2, null, null, TransactionType.USE));
+
+        // then
+        assertThat(first.histories()).extracting(PointHistory::id).containsExactly(2L, 4L);
+        assertThat(last.histories()).extracting(PointHistory::id).containsExactly(6L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void 재시작하면_봉인된_세그먼트는_색인으로_복구하고_마지막_세그먼트만_읽는다() {
+        // given: 세그먼트당 레코드 4건, 이력 10건 (봉인된 세그먼트 2개 + 마지막 세그먼트 2건)
+        MappedPointHistoryStore store = new MappedPointHistoryStore(directory.toString(), 4);
+        for (long i = 1; i <= 10; i++) {
+            store.insert(i % 2 + 1, i * 100, TransactionType.CHARGE, i);
+        }
+        store.close();
+
+        // when
+        MappedPointHistoryStore reopened = new MappedPointHistoryStore(directory.toString(), 4);
+        PointHistoryPage page = reopened.selectPage(2L, new PointHistoryQuery(3L, 2, null, null, null));
+
+        // then: 레코드는 마지막 세그먼트의 2건만 읽고, 세그먼트를 넘는 조회도 ID 순서가 유지됨
+        assertThat(reopened.getRecoveredRecordCount()).isEqualTo(2L);
+        assertThat(reopened.size()).isEqualTo(10L);
+        assertThat(reopened.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(2L, 4L, 6L, 8L, 10L);
+        assertThat(page.histories()).extracting(PointHistory::id).containsExactly(5L, 7L);
+        assertThat(page.nextCursor()).isEqualTo(7L);
+    }
+
+    @Test
+    void 색인이_완성되지_않은_세그먼트는_레코드를_읽어_색인을_다시_만든다() throws Exception {
+        // given: 첫 세그먼트 색인의 끝부분이 기록되지 않음
+        MappedPointHistoryStore store = new MappedPointHistoryStore(directory.toString(), 4);
+        for (long i = 1; i <= 6; i++) {
+            store.insert(i % 2 + 1, i * 100, TransactionType.CHARGE, i);
+        }
+        store.close();
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-00000000.dat"), StandardOpenOption.WRITE)) {
+            channel.truncate(4L * MappedPointHistoryStore.RECORD_SIZE + 10);
+        }
+
+        // when
+        MappedPointHistoryStore reopened = new MappedPointHistoryStore(directory.toString(), 4);
+
+        // then: 첫 세그먼트(4건)와 마지막 세그먼트(2건)를 읽고, 다음 시작부터는 다시 만든 색인을 사용
+        assertThat(reopened.getRecoveredRecordCount()).isEqualTo(6L);
+        assertThat(reopened.selectAllByUserId(2L)).extracting(PointHistory::id).containsExactly(1L, 3L, 5L);
+        reopened.close();
+        assertThat(new MappedPointHistoryStore(directory.toString(), 4).getRecoveredRecordCount()).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PointHistoryWriterTest {
+
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void 예약한_순서대로_테이블과_인덱스에_저장된다() {
+        // given
+        AtomicLong historyId = new AtomicLong();
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex), pointMetrics, 100, 8);
+
+        // when: 사용자 1, 2의 이력을 번갈아 예약
+        List<CompletableFuture<PointHistory>> futures = new ArrayList<>();
+        for (long amount = 1; amount <= 50; amount++) {
+            futures.add(writer.write(1L, amount, TransactionType.CHARGE, amount));
+            futures.add(writer.write(2L, -amount, TransactionType.USE, amount));
+        }
+        writer.shutdown();
+
+        // then: 모든 예약이 완료되고 사용자별 순서가 유지됨
+        assertThat(futures).allMatch(CompletableFuture::isDone);
+        assertThat(pointHistoryIndex.selectAllByUserId(1L)).extracting(PointHistory::amount)
+                .isSorted()
+                .hasSize(50);
+        assertThat(pointHistoryIndex.selectAllByUserId(2L)).extracting(PointHistory::updateMillis)
+                .isSorted()
+                .hasSize(50);
+    }
+
+    @Test
+    void 저장에_실패한_이력은_재시도해서_순서대로_저장되고_요청은_저장될_때까지_기다린다() {
+        // given: 첫 저장만 실패
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong()))
+                .thenThrow(new IllegalStateException("저장 실패"))
+                .thenAnswer(invocation -> new PointHistory(0L, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex), pointMetrics, 100, 8);
+
+        // when
+        CompletableFuture<PointHistory> first = writer.write(1L, 100L, TransactionType.CHARGE, 1L);
+        CompletableFuture<PointHistory> second = writer.write(1L, 200L, TransactionType.CHARGE, 2L);
+
+        // then: 첫 요청은 실패를 받지 않고 재시도 저장이 끝난 뒤 완료되며, 이력은 순서대로 저장됨
+        assertThat(first.join().amount()).isEqualTo(100L);
+        assertThat(second.join().amount()).isEqualTo(200L);
+        writer.shutdown();
+        assertThat(pointHistoryIndex.selectAllByUserId(1L)).extracting(PointHistory::amount)
+                .containsExactly(100L, 200L);
+        assertThat(writer.getFailureCount()).isEqualTo(1);
+        assertThat(writer.getRetryingCount()).isZero();
+    }
+
+    @Test
+    void 버퍼가_가득_차면_기다리지_않고_이력을_버린_뒤_실패를_알린다() throws InterruptedException {
+        // given: 저장소가 멈춰 있고 버퍼(1건 + 종료 신호 자리)가 가득 찬 상태
+        CountDownLatch storing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong())).thenAnswer(invocation -> {
+            storing.countDown();
+            release.await();
+            return new PointHistory(0L, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+        });
+        PointHistoryWriter writer = new PointHistoryWriter(new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex), pointMetrics,
+                List.of(), 1, 1, 1, 10);
+        writer.write(1L, 100L, TransactionType.CHARGE, 1L);
+        storing.await();
+        writer.write(1L, 200L, TransactionType.CHARGE, 2L);
+        writer.write(1L, 300L, TransactionType.CHARGE, 3L);
+
+        // when
+        CompletableFuture<PointHistory> rejected = writer.write(1L, 400L, TransactionType.CHARGE, 4L);
+
+        // then: 요청 쓰레드는 offer-timeout 만 기다리고 PointHistoryUnavailableException 으로 실패
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(PointHistoryUnavailableException.class);
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        release.countDown();
+        writer.shutdown();
+    }
+}
@@ -0,0 +1,145 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserPointCacheTest {
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void 캐시에_있는_사용자는_테이블을_다시_조회하지_않는다() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000L, System.currentTimeMillis()));
+        UserPointCache cache = new UserPointCache(userPointTable, pointMetrics, 1, 100);
+
+        // when
+        cache.get(1L);
+        UserPoint result = cache.get(1L);
+
+        // then
+        assertThat(result.point()).isEqualTo(1_000L);
+        verify(userPointTable, times(1)).selectById(1L);
+        cache.shutdown();
+    }
+
+    @Test
+    void 잔액이_없는_사용자는_캐시에_보관하지_않는다() {
+        // given: 테이블에 없는 사용자는 빈 값으로 조회됨
+        when(userPointTable.selectById(7L)).thenReturn(UserPoint.empty(7L));
+        UserPointCache cache = new UserPointCache(userPointTable, pointMetrics, 1, 100);
+
+        // when
+        cache.get(7L);
+        UserPoint result = cache.get(7L);
+
+        // then
+        assertThat(result.point()).isZero();
+        assertThat(cache.getSize()).isZero();
+        verify(userPointTable, times(2)).selectById(7L);
+        cache.shutdown();
+    }
+
+    @Test
+    void 저장_전_연속_변경은_마지막_값으로_한번만_저장된다() {
+        // given: 저장 쓰레드가 사용자 2를 저장하는 동안 멈춰 있도록 설정
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.insertOrUpdate(eq(2L), anyLong())).thenAnswer(invocation -> {
+            release.await();
+            return null;
+        });
+        UserPointCache cache = new UserPointCache(userPointTable, pointMetrics, 1, 100);
+        cache.put(2L, 10L);
+
+        // when: 저장 쓰레드가 멈춰 있는 동안 사용자 1을 세 번 변경
+        cache.put(1L, 100L);
+        cache.put(1L, 200L);
+        UserPoint last = cache.put(1L, 300L);
+        release.countDown();
+        cache.shutdown();
+
+        // then
+        assertThat(cache.get(1L)).isEqualTo(last);
+        verify(userPointTable, times(1)).insertOrUpdate(1L, 300L);
+        verify(userPointTable, never()).insertOrUpdate(1L, 100L);
+        verify(userPointTable, never()).insertOrUpdate(1L, 200L);
+        verify(userPointTable, never()).selectById(1L);
+    }
+
+    @Test
+    void 같은_사용자를_동시에_조회하면_테이블은_한번만_조회한다() throws Exception {
+        // given: 첫 조회가 테이블에서 멈춰 있도록 설정
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.selectById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return new UserPoint(1L, 1_000L, System.currentTimeMillis());
+        });
+        UserPointCache cache = new UserPointCache(userPointTable, pointMetrics, 1, 100);
+        ExecutorService readers = Executors.newFixedThreadPool(10);
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> cache.get(1L), readers);
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 첫 조회가 끝나기 전에 9번 더 조회
+        List<CompletableFuture<UserPoint>> others = IntStream.range(0, 9)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.get(1L), readers))
+                .toList();
+        while (cache.getCoalescedCount() < others.size()) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).point()).isEqualTo(1_000L);
+        for (CompletableFuture<UserPoint> other : others) {
+            assertThat(other.get(5, TimeUnit.SECONDS).point()).isEqualTo(1_000L);
+        }
+        verify(userPointTable, times(1)).selectById(1L);
+        assertThat(cache.getLoadCount()).isEqualTo(1);
+        assertThat(cache.getCoalescedCount()).isEqualTo(9);
+        readers.shutdown();
+        cache.shutdown();
+    }
+
+    @Test
+    void 테이블_조회_중에_변경되면_기다리던_조회는_변경된_값을_받는다() throws Exception {
+        // given: 테이블 조회가 멈춰 있도록 설정
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.selectById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return new UserPoint(1L, 0L, System.currentTimeMillis());
+        });
+        UserPointCache cache = new UserPointCache(userPointTable, pointMetrics, 1, 100);
+        CompletableFuture<UserPoint> reader = CompletableFuture.supplyAsync(() -> cache.get(1L));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        UserPoint written = cache.put(1L, 500L);
+        release.countDown();
+
+        // then: 늦게 끝난 테이블 조회 값(0)이 변경된 값을 덮어쓰지 않음
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo(written);
+        assertThat(cache.get(1L)).isEqualTo(written);
+        assertThat(cache.getPiggybackedCount()).isEqualTo(1);
+        cache.shutdown();
+    }
+}
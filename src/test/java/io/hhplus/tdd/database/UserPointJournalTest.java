@@ -0,0 +1,95 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserPointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 스냅샷과_이후_로그로_잔액을_복구한다() {
+        // given: 스냅샷 전 2건, 스냅샷 후 2건 변경
+        Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+        UserPointJournal journal = open(balances);
+        put(balances, journal, new UserPoint(1L, 1_000L, 1L));
+        put(balances, journal, new UserPoint(2L, 2_000L, 2L));
+        journal.snapshot();
+        put(balances, journal, new UserPoint(1L, 700L, 3L));
+        put(balances, journal, new UserPoint(3L, 300L, 4L));
+
+        // when: 종료하지 않은 채로 다시 복구 (비정상 종료)
+        Map<Long, UserPoint> recovered = new ConcurrentHashMap<>();
+        open(recovered);
+
+        // then
+        assertThat(recovered).isEqualTo(balances);
+        assertThat(recovered.get(1L).point()).isEqualTo(700L);
+    }
+
+    @Test
+    void 끝이_잘린_로그는_유효한_기록까지만_적용한다() throws Exception {
+        // given
+        Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+        UserPointJournal journal = open(balances);
+        put(balances, journal, new UserPoint(1L, 1_000L, 1L));
+        put(balances, journal, new UserPoint(2L, 2_000L, 2L));
+        Path wal;
+        try (var files = Files.list(directory)) {
+            wal = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        Files.write(wal, new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND); // 기록 도중 종료
+
+        // when
+        Map<Long, UserPoint> recovered = new ConcurrentHashMap<>();
+        open(recovered);
+
+        // then
+        assertThat(recovered).isEqualTo(balances);
+        assertThat(Files.size(wal)).isEqualTo(2L * UserPointJournal.ENTRY_SIZE);
+    }
+
+    @Test
+    void 종료하면_스냅샷만으로_복구된다() throws Exception {
+        // given
+        Map<Long, UserPoint> balances = new ConcurrentHashMap<>();
+        UserPointJournal journal = open(balances);
+        for (long userId = 1; userId <= 100; userId++) {
+            put(balances, journal, new UserPoint(userId, userId * 10, userId));
+        }
+
+        // when
+        journal.close();
+        Map<Long, UserPoint> recovered = new ConcurrentHashMap<>();
+        open(recovered);
+
+        // then: 스냅샷 이후 로그는 비어 있음
+        assertThat(recovered).isEqualTo(balances);
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".log")))
+                    .allSatisfy(path -> assertThat(Files.size(path)).isZero());
+        }
+    }
+
+    private UserPointJournal open(Map<Long, UserPoint> balances) {
+        UserPointJournal journal = new UserPointJournal(true, directory.toString(), FsyncPolicy.ALWAYS, 10, 1_000_000);
+        journal.open(balances);
+        return journal;
+    }
+
+    // UserPointCache.put 과 같은 순서 (캐시 반영 후 기록)
+    private static void put(Map<Long, UserPoint> balances, UserPointJournal journal, UserPoint userPoint) {
+        balances.put(userPoint.id(), userPoint);
+        journal.append(userPoint);
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AtomicPointLedgerTest {
+
+    private final AtomicPointLedger ledger = new AtomicPointLedger(16);
+
+    @Test
+    void 충전과_사용이_잔액에_반영된다() {
+        assertThat(ledger.charge(1L, 1_000L)).isEqualTo(1_000L);
+        assertThat(ledger.use(1L, 300L)).isEqualTo(700L);
+        assertThat(ledger.balance(1L)).isEqualTo(700L);
+        assertThat(ledger.balance(2L)).isZero();
+    }
+
+    @Test
+    void 최대_잔고를_넘는_충전은_실패한다() {
+        ledger.charge(1L, 9_000_000L);
+
+        assertThatThrownBy(() -> ledger.charge(1L, 1_000_001L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("보유 포인트는 1000만원 이상일 수 없습니다.");
+        assertThat(ledger.balance(1L)).isEqualTo(9_000_000L);
+    }
+
+    @Test
+    void 잔액보다_많은_사용은_실패한다() {
+        assertThatThrownBy(() -> ledger.use(1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("보유 포인트는 0원 이하일 수 없습니다.");
+    }
+
+    @Test
+    void 동시에_충전과_사용을_해도_잔액은_음수가_되지_않고_합계가_맞는다() throws InterruptedException {
+        // given: 사용자 100명에게 8개 쓰레드가 충전/사용을 섞어서 요청
+        int threads = 8;
+        int iterations = 20_000;
+        AtomicLong charged = new AtomicLong();
+        AtomicLong used = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            executorService.submit(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    long userId = 1 + (i + seed) % 100;
+                    try {
+                        if (i % 3 == 0) {
+                            ledger.use(userId, 150L);
+                            used.addAndGet(150L);
+                        } else {
+                            ledger.charge(userId, 100L);
+                            charged.addAndGet(100L);
+                        }
+                    } catch (IllegalArgumentException ignored) {
+                        // 잔액 부족은 정상 실패
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then
+        long total = 0;
+        for (long userId = 1; userId <= 100; userId++) {
+            assertThat(ledger.balance(userId)).isNotNegative();
+            total += ledger.balance(userId);
+        }
+        assertThat(total).isEqualTo(charged.get() - used.get());
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.TablePointHistoryStore;
+import io.hhplus.tdd.database.UserPointCache;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.util.IdempotencyCache;
+import io.hhplus.tdd.util.QueueOverflowPolicy;
+import io.hhplus.tdd.util.StripedLockManager;
+import io.hhplus.tdd.util.UserRequestExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PointRequestDispatcherTest {
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final UserRequestExecutor userRequestExecutor = new UserRequestExecutor(2, false);
+    private PointHistoryWriter pointHistoryWriter;
+    private PointService pointService;
+    private PointRequestDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 0L, System.currentTimeMillis()));
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(pointHistoryTable, new PointHistoryIndex());
+        PointSummaryAggregator pointSummaryAggregator = new PointSummaryAggregator(pointHistoryStore, "Asia/Seoul", 30);
+        HotAccountManager hotAccountManager = HotAccountManager.disabled();
+        pointHistoryWriter = new PointHistoryWriter(pointHistoryStore, pointMetrics, List.of(pointSummaryAggregator), 1_000, 16);
+        pointService = new PointService(new UserPointCache(userPointTable, pointMetrics, 1, 1_000), pointHistoryWriter,
+                pointHistoryStore, pointSummaryAggregator, new StripedLockManager(16, false), hotAccountManager,
+                pointMetrics, HistoryDurability.SYNC);
+        dispatcher = new PointRequestDispatcher(pointService, userRequestExecutor, new IdempotencyCache(100, 60), hotAccountManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRequestExecutor.shutdown();
+        pointHistoryWriter.shutdown();
+    }
+
+    @Test
+    void SYNC_이력_저장이_실패하면_재시도로_저장된_뒤_응답하고_같은_Idempotency_Key_재시도는_다시_충전하지_않는다() {
+        // given: 첫 이력 저장만 실패 (잔액은 캐시에 먼저 반영됨)
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong()))
+                .thenThrow(new IllegalStateException("이력 저장 실패"))
+                .thenAnswer(invocation -> new PointHistory(1L, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+
+        // when: 응답을 받지 못한 클라이언트가 같은 키로 재시도
+        UserPoint first = dispatcher.charge(1L, 1_000L, HistoryDurability.SYNC, "charge-1").join();
+        UserPoint retry = dispatcher.charge(1L, 1_000L, HistoryDurability.SYNC, "charge-1").join();
+
+        // then: 첫 충전은 이력 재시도 저장이 끝난 뒤 응답하고, 재시도는 같은 결과를 반환하며 잔액과 이력은 한 번만 반영됨
+        assertThat(first.point()).isEqualTo(1_000L);
+        assertThat(pointService.getUserHistories(1L)).extracting(PointHistory::amount).containsExactly(1_000L);
+        assertThat(retry).isEqualTo(first);
+        assertThat(pointService.getUserPoint(1L).point()).isEqualTo(1_000L);
+        assertThat(pointHistoryWriter.getFailureCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 일괄_처리에서_한_사용자가_거절되어도_다른_사용자의_결과는_그대로_반환한다() throws InterruptedException {
+        // given: 사용자 큐 용량 1, 사용자 1은 앞선 작업이 실행 중이고 큐도 가득 찬 상태
+        UserRequestExecutor boundedExecutor = new UserRequestExecutor(2, false, 1, 100, QueueOverflowPolicy.REJECT_NEW, 0);
+        PointRequestDispatcher boundedDispatcher = new PointRequestDispatcher(pointService, boundedExecutor,
+                new IdempotencyCache(100, 60), HotAccountManager.disabled());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        boundedExecutor.submit(1L, () -> {
+            running.countDown();
+            return awaitQuietly(release);
+        });
+        running.await();
+        boundedExecutor.submit(1L, () -> null);
+        when(userPointTable.selectById(2L)).thenThrow(new IllegalStateException("조회 실패"));
+
+        // when
+        List<PointOperationResult> results = boundedDispatcher.batch(List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 1_000L),
+                new PointOperation(2L, TransactionType.CHARGE, 2_000L),
+                new PointOperation(3L, TransactionType.CHARGE, 3_000L)), HistoryDurability.SYNC).join();
+        release.countDown();
+        boundedExecutor.shutdown();
+
+        // then: 거절된 사용자 1은 OVERLOADED, 처리 중 실패한 사용자 2는 RESULT_UNKNOWN, 사용자 3은 반영됨
+        assertThat(results).extracting(PointOperationResult::success, PointOperationResult::errorCode)
+                .containsExactly(
+                        tuple(false, PointErrorCode.OVERLOADED.name()),
+                        tuple(false, PointErrorCode.RESULT_UNKNOWN.name()),
+                        tuple(true, null));
+        assertThat(results.get(2).userPoint().point()).isEqualTo(3_000L);
+    }
+
+    private static Object awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -1,23 +1,33 @@
 package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryStore;
+import io.hhplus.tdd.database.PointHistoryWriter;
+import io.hhplus.tdd.database.UserPointCache;
 import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TablePointHistoryStore;
+import io.hhplus.tdd.metrics.PointMetrics;
+import io.hhplus.tdd.util.HotKeyDetector;
+import io.hhplus.tdd.util.StripedLockManager;
 import io.hhplus.tdd.util.UserRequestQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,16 +53,37 @@ class PointServiceTest {
     private PointHistoryTable pointHistoryTable;
 
     // PointService를 테스트 대상으로 설정
-    @InjectMocks
     private PointService pointService;
+    // 지표 확인용 메모리 레지스트리
+    private SimpleMeterRegistry meterRegistry;
+    // 이력 조회가 읽는 사용자별 인덱스 (PointHistoryTable 은 저장만 함)
+    private PointHistoryIndex pointHistoryIndex;
 
     // Mock 객체 초기화
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // 이력 저장 시 Mock 이 null 대신 저장된 이력을 반환하도록 설정 (인덱스에 추가됨)
+        AtomicLong historyId = new AtomicLong();
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong())).thenAnswer(invocation ->
+                new PointHistory(historyId.incrementAndGet(), invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3)));
+        pointService = newPointService(HotAccountManager.disabled());
         System.out.println("Mock 객체 초기화 완료");
     }
 
+    // 이력 저장 완료 후 응답하도록 SYNC 로 설정 (이력 조회 테스트가 저장 시점에 의존하지 않도록)
+    private PointService newPointService(HotAccountManager hotAccountManager) {
+        pointHistoryIndex = new PointHistoryIndex();
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(pointHistoryTable, pointHistoryIndex);
+        meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        PointSummaryAggregator pointSummaryAggregator = new PointSummaryAggregator(pointHistoryStore, "Asia/Seoul", 30);
+        return new PointService(new UserPointCache(userPointTable, pointMetrics, 1, 1_000),
+                new PointHistoryWriter(pointHistoryStore, pointMetrics, List.of(pointSummaryAggregator), 1_000, 16),
+                pointHistoryStore, pointSummaryAggregator, new StripedLockManager(16, false), hotAccountManager,
+                pointMetrics, HistoryDurability.SYNC);
+    }
+
     // 1. 포인트 조회 기능 테스트
     @Test
     void 포인트_0으로_조회_실패케이스() {
@@ -126,8 +157,9 @@ class PointServiceTest {
         //         .thenReturn(List.of(
         //                 new PointHistory(1L, userId, 10000, TransactionType.CHARGE, System.currentTimeMillis())
         //         )); // 유저가 없는 경우인데 잘못된 데이터 반환
-        when(pointHistoryTable.selectAllByUserId(userId))
-                .thenReturn(null); // 유저가 없는 경우 null 반환 설정
+        // 이력 조회는 PointHistoryIndex 만 읽으므로, 다른 사용자 이력만 있고 999 의 이력은 없는 상태로 설정
+        pointHistoryIndex.append(new PointHistory(1L, 1L, 10000, TransactionType.CHARGE, System.currentTimeMillis()));
+        assertThat(pointHistoryIndex.selectAllByUserId(userId)).isEmpty();
 
         // when(pointHistoryTable.selectAllByUserId(userId))
         //        .thenReturn(Collections.emptyList()); // 유저가 없으므로 빈 리스트 반환
@@ -141,6 +173,7 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.getUserHistories(userId))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 사용자의 포인트 이력 정보가 없습니다.");
+        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
     }
 
     @ParameterizedTest // 하나의 테스트 케이스에 두가지 경우를 적용하려면? -> for문, @ParameterizedTest 사용
@@ -225,6 +258,147 @@ class PointServiceTest {
                 .hasMessageContaining("보유 포인트는 0원 이하일 수 없습니다."); // 예외 메시지 검증
     }
 
+    // 2-1. 포인트 충전/사용 내역 페이지 조회
+    @Test
+    void 포인트_내역_페이지_조회_cursor로_이어서_조회() {
+        // given: 충전 3번, 사용 2번 (이력 ID 1 ~ 5)
+        long userId = 1L;
+        when(userPointTable.selectById(userId))
+                .thenReturn(new UserPoint(userId, 0L, System.currentTimeMillis()));
+        pointService.chargePoint(userId, 1_000L);
+        pointService.chargePoint(userId, 1_000L);
+        pointService.usePoint(userId, 500L);
+        pointService.chargePoint(userId, 1_000L);
+        pointService.usePoint(userId, 500L);
+
+        // when
+        PointHistoryPage first = pointService.getUserHistoryPage(userId, new PointHistoryQuery(0, 2, null, null, null));
+        PointHistoryPage second = pointService.getUserHistoryPage(userId, new PointHistoryQuery(first.nextCursor(), 2, null, null, null));
+        PointHistoryPage last = pointService.getUserHistoryPage(userId, new PointHistoryQuery(second.nextCursor(), 2, null, null, null));
+
+        // then
+        assertThat(first.histories()).extracting(PointHistory::id).containsExactly(1L, 2L);
+        assertThat(second.histories()).extracting(PointHistory::id).containsExactly(3L, 4L);
+        assertThat(last.histories()).extracting(PointHistory::id).containsExactly(5L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void 포인트_내역_페이지_조회_트랜잭션_종류_필터() {
+        // given
+        long userId = 1L;
+        when(userPointTable.selectById(userId))
+                .thenReturn(new UserPoint(userId, 0L, System.currentTimeMillis()));
+        pointService.chargePoint(userId, 1_000L);
+        pointService.usePoint(userId, 300L);
+        pointService.chargePoint(userId, 1_000L);
+        pointService.usePoint(userId, 200L);
+
+        // when
+        PointHistoryPage page = pointService.getUserHistoryPage(userId, new PointHistoryQuery(0, 10, null, null, TransactionType.USE));
+
+        // then
+        assertThat(page.histories()).extracting(PointHistory::amount).containsExactly(-300L, -200L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, PointHistoryQuery.MAX_LIMIT + 1})
+    void 포인트_내역_페이지_크기가_범위를_벗어나면_예외(int limit) {
+        assertThatThrownBy(() -> pointService.getUserHistoryPage(1L, new PointHistoryQuery(0, limit, null, null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("조회 건수는");
+    }
+
+    // 2-2. 포인트 충전/사용 요약 조회
+    @Test
+    void 포인트_요약은_이력_저장마다_종류별로_누적된다() {
+        // given
+        long userId = 1L;
+        when(userPointTable.selectById(userId))
+                .thenReturn(new UserPoint(userId, 0L, System.currentTimeMillis()));
+        pointService.chargePoint(userId, 1_000L);
+        pointService.usePoint(userId, 300L);
+        pointService.chargePoint(userId, 2_000L);
+
+        // when
+        PointSummary summary = pointService.getUserSummary(userId, 1);
+
+        // then
+        assertThat(summary.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2, 3_000L));
+        assertThat(summary.totals().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(1, 300L));
+        assertThat(summary.transactionCount()).isEqualTo(3);
+        assertThat(summary.lastActivityMillis()).isNotNull();
+        assertThat(summary.daily()).hasSize(1);
+        assertThat(summary.daily().get(0).types().get(TransactionType.CHARGE).amount()).isEqualTo(3_000L);
+    }
+
+    @Test
+    void 포인트_요약_이력이_없으면_0으로_채워진다() {
+        // when
+        PointSummary summary = pointService.getUserSummary(1L, 0);
+
+        // then
+        assertThat(summary.totals()).containsOnlyKeys(TransactionType.values());
+        assertThat(summary.totals().values()).allMatch(type -> type.count() == 0 && type.amount() == 0);
+        assertThat(summary.lastActivityMillis()).isNull();
+        assertThat(summary.daily()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 31})
+    void 포인트_요약_조회_기간이_보관_기간을_벗어나면_예외(int days) {
+        assertThatThrownBy(() -> pointService.getUserSummary(1L, days))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining("INVALID_DAYS");
+    }
+
+    // 4-1. 포인트 일괄 충전/사용 기능
+    @Test
+    void 일괄_처리는_항목별로_검증하고_잔액은_한번만_저장한다() {
+        // given: 현재 포인트 1,000
+        long userId = 1L;
+        when(userPointTable.selectById(userId))
+                .thenReturn(new UserPoint(userId, 1_000L, System.currentTimeMillis()));
+        List<PointBatchItem> items = List.of(
+                new PointBatchItem(0, new PointOperation(userId, TransactionType.CHARGE, 500L)),
+                new PointBatchItem(1, new PointOperation(userId, TransactionType.USE, 5_000L)),    // 잔액 부족
+                new PointBatchItem(2, new PointOperation(userId, TransactionType.CHARGE, 10_000_000L)), // 최대 잔고 초과
+                new PointBatchItem(3, new PointOperation(userId, TransactionType.USE, 300L)));
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(userId, items, HistoryDurability.SYNC);
+
+        // then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(true, false, false, true);
+        assertThat(results).extracting(PointOperationResult::errorCode)
+                .containsExactly(null, "INSUFFICIENT_BALANCE", "MAX_BALANCE_EXCEEDED", null);
+        assertThat(results.get(3).userPoint().point()).isEqualTo(1_200L);
+        assertThat(pointService.getUserPoint(userId).point()).isEqualTo(1_200L);
+        assertThat(pointService.getUserHistories(userId)).extracting(PointHistory::amount).containsExactly(500L, -300L);
+        verify(userPointTable, atMost(1)).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    // 4-2. 지표
+    @Test
+    void 서비스_호출은_결과별로_지표에_기록된다() {
+        // given: 현재 포인트 1,000
+        long userId = 1L;
+        when(userPointTable.selectById(userId))
+                .thenReturn(new UserPoint(userId, 1_000L, System.currentTimeMillis()));
+
+        // when: 사용 성공 1번, 잔액 부족 1번, 유효하지 않은 ID 조회 1번
+        pointService.usePoint(userId, 500L);
+        assertThatThrownBy(() -> pointService.usePoint(userId, 5_000L)).isInstanceOf(PointException.class);
+        assertThatThrownBy(() -> pointService.getUserPoint(0L)).isInstanceOf(PointException.class);
+
+        // then
+        assertThat(meterRegistry.get("point.service").tag("method", "usePoint").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.service").tag("method", "usePoint").tag("outcome", "insufficient_balance").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.service").tag("method", "getUserPoint").tag("outcome", "invalid_id").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("point.table").tag("table", "user_point").tag("operation", "selectById").timer().count()).isEqualTo(1);
+    }
+
     // 5. 동시성 큐방식
     @Test
     void 동시성_요청_순서대로_처리_확인_로그만으로_확인() throws InterruptedException {
@@ -349,13 +523,251 @@ class PointServiceTest {
         verify(userPointTable, atLeastOnce()).selectById(3L);
     }
 
+    @Test
+    void 요청이_몰리는_사용자의_동시_충전은_합산되고_최대_잔고를_넘지_않는다() throws Exception {
+        // given : 첫 요청부터 hot 으로 판단해 잔액을 4칸으로 나눔
+        PointService hotPointService = newPointService(new HotAccountManager(new HotKeyDetector(1, 1_000, 1_024), 4));
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 0L, System.currentTimeMillis()));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        AtomicLong failures = new AtomicLong();
+
+        // when : 1,000 포인트씩 11,000번 충전 (최대 잔고 10,000,000 -> 1,000번은 실패해야 함)
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 11_000; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    hotPointService.chargePoint(1L, 1_000L);
+                } catch (PointException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(PointErrorCode.MAX_BALANCE_EXCEEDED);
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then : 성공한 충전만 합산되고 최대 잔고에서 멈춤
+        assertThat(hotPointService.getUserPoint(1L).point()).isEqualTo(PointService.MAX_POINT_BALANCE);
+        assertThat(failures.get()).isEqualTo(1_000);
+    }
+
+    @Test
+    void 요청이_몰리는_사용자의_동시_사용은_잔액을_음수로_만들지_않는다() throws Exception {
+        // given : 잔액 1,000,000 인 hot 사용자
+        PointService hotPointService = newPointService(new HotAccountManager(new HotKeyDetector(1, 1_000, 1_024), 4));
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000_000L, System.currentTimeMillis()));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        AtomicLong failures = new AtomicLong();
+
+        // when : 충전과 1,000 포인트 사용 1,500번을 섞어서 동시에 실행
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1_500; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    hotPointService.usePoint(1L, 1_000L);
+                } catch (PointException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(PointErrorCode.INSUFFICIENT_BALANCE);
+                    failures.incrementAndGet();
+                }
+            }));
+            if (i % 3 == 0) {
+                futures.add(executorService.submit(() -> hotPointService.chargePoint(1L, 10L)));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then : 전체 잔액(1,000,000 + 충전 5,000) 만큼만 사용되고 잔액은 0 이상
+        long balance = hotPointService.getUserPoint(1L).point();
+        assertThat(balance).isGreaterThanOrEqualTo(0L);
+        assertThat(1_000_000L + 500 * 10L - (1_500 - failures.get()) * 1_000L).isEqualTo(balance);
+    }
+
+    @Test
+    void 이체하면_두_사용자의_잔액과_이력이_함께_반영된다() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 10_000L, System.currentTimeMillis()));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, 5_000L, System.currentTimeMillis()));
+
+        // when
+        PointTransferResult result = pointService.transferPoint(1L, 2L, 3_000L);
+
+        // then
+        assertThat(result.from().point()).isEqualTo(7_000L);
+        assertThat(result.to().point()).isEqualTo(8_000L);
+        assertThat(pointService.getUserHistories(1L)).extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(tuple(TransactionType.TRANSFER, -3_000L));
+        assertThat(pointService.getUserHistories(2L)).extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(tuple(TransactionType.TRANSFER, 3_000L));
+    }
 
+    @Test
+    void 이체의_이력_저장_보장_수준이_없으면_기본값으로_처리한다() {
+        // given: 이력 저장이 느린 상태 (기본값 SYNC 이면 저장이 끝난 뒤 응답)
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 10_000L, System.currentTimeMillis()));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(TransactionType.class), anyLong())).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return null;
+        });
+
+        // when
+        pointService.transferPoint(1L, 2L, 3_000L, null);
+
+        // then: 응답 시점에 두 사용자의 이력이 이미 저장됨
+        assertThat(pointService.getUserHistories(1L)).extracting(PointHistory::amount).containsExactly(-3_000L);
+        assertThat(pointService.getUserHistories(2L)).extracting(PointHistory::amount).containsExactly(3_000L);
+    }
+
+    @Test
+    void 받는_사용자가_최대_잔고를_넘으면_이체하지_않는다() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 10_000L, System.currentTimeMillis()));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, PointService.MAX_POINT_BALANCE - 1_000L, System.currentTimeMillis()));
+
+        // when & then: 보내는 사용자 잔액도 그대로
+        assertThatThrownBy(() -> pointService.transferPoint(1L, 2L, 3_000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(PointErrorCode.MAX_BALANCE_EXCEEDED.getMessage());
+        assertThat(pointService.getUserPoint(1L).point()).isEqualTo(10_000L);
+        assertThatThrownBy(() -> pointService.transferPoint(1L, 1L, 1_000L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(PointErrorCode.SELF_TRANSFER.getMessage());
+    }
 
+    @Test
+    void 서로에게_동시에_이체해도_교착_상태_없이_합계가_유지된다() throws Exception {
+        // given
+        when(userPointTable.selectById(anyLong())).thenAnswer(invocation ->
+                new UserPoint(invocation.getArgument(0), 1_000_000L, System.currentTimeMillis()));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when: 사용자 1~4 사이에서 양방향 이체
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4_000; i++) {
+            long from = 1 + i % 4;
+            long to = 1 + (i / 4 + from) % 4;
+            if (from == to) {
+                continue;
+            }
+            futures.add(executorService.submit(() -> pointService.transferPoint(from, to, 100L, HistoryDurability.ASYNC)));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
 
+        // then
+        long total = 0;
+        for (long userId = 1; userId <= 4; userId++) {
+            total += pointService.getUserPoint(userId).point();
+        }
+        assertThat(total).isEqualTo(4_000_000L);
+    }
 
+    @Test
+    void 잔액이_바뀔_때마다_버전이_증가하고_조회하면_변경_결과와_같은_버전을_받는다() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000L, System.currentTimeMillis()));
+
+        // when
+        UserPoint loaded = pointService.getUserPoint(1L);
+        UserPoint charged = pointService.chargePoint(1L, 500L);
+        UserPoint used = pointService.usePoint(1L, 300L);
+
+        // then : 테이블에서 읽은 값은 0, 변경마다 1씩 증가
+        assertThat(loaded.version()).isZero();
+        assertThat(charged.version()).isEqualTo(1L);
+        assertThat(used.version()).isEqualTo(2L);
+        assertThat(pointService.getUserPoint(1L)).isEqualTo(used);
+    }
 
+    @Test
+    void 기대_버전이_현재_버전과_다르면_잔액을_바꾸지_않는다() {
+        // given
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000L, System.currentTimeMillis()));
+        UserPoint charged = pointService.chargePoint(1L, 500L);
+
+        // when & then : 이전 버전(0)으로 요청하면 실패, 현재 버전으로 요청하면 성공
+        assertThatThrownBy(() -> pointService.usePoint(1L, 300L, null, 0L))
+                .isInstanceOf(PointVersionMismatchException.class)
+                .hasMessageContaining(PointErrorCode.VERSION_MISMATCH.getMessage());
+        assertThat(pointService.getUserPoint(1L).point()).isEqualTo(1_500L);
+        UserPoint used = pointService.usePoint(1L, 300L, null, charged.version());
+        assertThat(used.point()).isEqualTo(1_200L);
+        assertThat(used.version()).isEqualTo(charged.version() + 1);
+    }
 
+    @Test
+    void 요청이_몰리는_사용자도_충전마다_버전이_증가하고_기대_버전을_확인한다() throws Exception {
+        // given : 첫 요청부터 hot 으로 판단해 잔액을 4칸으로 나눔
+        PointService hotPointService = newPointService(new HotAccountManager(new HotKeyDetector(1, 1_000, 1_024), 4));
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 0L, System.currentTimeMillis()));
+        long before = hotPointService.getUserPoint(1L).version();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when : 1,000번 동시 충전
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            futures.add(executorService.submit(() -> hotPointService.chargePoint(1L, 10L)));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
 
+        // then : 충전 수만큼 버전 증가, 이전 버전으로는 충전하지 않음
+        UserPoint current = hotPointService.getUserPoint(1L);
+        assertThat(current.point()).isEqualTo(10_000L);
+        assertThat(current.version()).isEqualTo(before + 1_000);
+        assertThatThrownBy(() -> hotPointService.chargePoint(1L, 10L, null, before))
+                .isInstanceOf(PointVersionMismatchException.class);
+        assertThat(hotPointService.chargePoint(1L, 10L, null, current.version()).version()).isEqualTo(current.version() + 1);
+    }
 
+    @Test
+    void 일괄_처리는_성공한_항목마다_버전이_증가하고_마지막_버전을_저장한다() {
+        // given : 충전 한 번으로 버전 1
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000L, System.currentTimeMillis()));
+        UserPoint charged = pointService.chargePoint(1L, 500L);
+        List<PointBatchItem> items = List.of(
+                new PointBatchItem(0, new PointOperation(1L, TransactionType.CHARGE, 100L)),
+                new PointBatchItem(1, new PointOperation(1L, TransactionType.USE, 5_000L)), // 잔액 부족
+                new PointBatchItem(2, new PointOperation(1L, TransactionType.USE, 200L)));
+
+        // when
+        List<PointOperationResult> results = pointService.applyBatch(1L, items, HistoryDurability.SYNC);
+
+        // then : 성공 항목은 적용 직후의 잔액/버전, 조회하면 마지막 항목과 같은 값
+        assertThat(results.get(0).userPoint().version()).isEqualTo(charged.version() + 1);
+        assertThat(results.get(2).userPoint().version()).isEqualTo(charged.version() + 2);
+        assertThat(pointService.getUserPoint(1L)).isEqualTo(results.get(2).userPoint());
+        assertThatThrownBy(() -> pointService.usePoint(1L, 100L, null, results.get(0).userPoint().version()))
+                .isInstanceOf(PointVersionMismatchException.class);
+    }
 
-}
\ No newline at end of file
+    @Test
+    void 요청이_몰리는_사용자의_일괄_처리도_성공한_항목마다_버전이_증가한다() {
+        // given : 첫 충전에서 hot 으로 판단해 잔액을 4칸으로 나눔
+        PointService hotPointService = newPointService(new HotAccountManager(new HotKeyDetector(1, 1_000, 1_024), 4));
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 1_000L, System.currentTimeMillis()));
+        hotPointService.getUserPoint(1L);
+        UserPoint charged = hotPointService.chargePoint(1L, 500L);
+        List<PointBatchItem> items = List.of(
+                new PointBatchItem(0, new PointOperation(1L, TransactionType.CHARGE, 100L)),
+                new PointBatchItem(1, new PointOperation(1L, TransactionType.USE, 200L)));
+
+        // when
+        List<PointOperationResult> results = hotPointService.applyBatch(1L, items, HistoryDurability.SYNC);
+
+        // then
+        assertThat(results).extracting(result -> result.userPoint().version())
+                .containsExactly(charged.version() + 1, charged.version() + 2);
+        UserPoint current = hotPointService.getUserPoint(1L);
+        assertThat(current.point()).isEqualTo(1_400L);
+        assertThat(current.version()).isEqualTo(charged.version() + 2);
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointStreamHubTest {
+
+    private final PointStreamHub hub = new PointStreamHub(4, 2);
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void 구독하면_현재_값을_먼저_받고_이후_변경을_버전_순서대로_받는다() throws Exception {
+        // given
+        BlockingQueue<UserPoint> received = new LinkedBlockingQueue<>();
+        hub.subscribe(1L, userPoint(1L, 1L), received::add).request(Long.MAX_VALUE);
+
+        // when : 다른 사용자의 변경과 구독 전에 일어난 변경(버전 0)이 섞여 들어옴
+        hub.onUpdated(userPoint(1L, 0L));
+        hub.onUpdated(userPoint(2L, 5L));
+        hub.onUpdated(userPoint(1L, 2L));
+        hub.onUpdated(userPoint(1L, 3L));
+
+        // then
+        assertThat(List.of(take(received), take(received), take(received)))
+                .extracting(UserPoint::version)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void 요청하지_않은_변경은_버퍼_크기만큼만_남기고_오래된_것부터_버린다() throws Exception {
+        // given : 아직 전달을 요청하지 않은 구독자 (버퍼 4칸)
+        BlockingQueue<UserPoint> received = new LinkedBlockingQueue<>();
+        PointStreamHub.Subscription subscription = hub.subscribe(1L, userPoint(1L, 0L), received::add);
+
+        // when : 변경 10번 후 전달 요청
+        LongStream.rangeClosed(1, 10).forEach(version -> hub.onUpdated(userPoint(1L, version)));
+        Thread.sleep(100); // 나눠 주기가 끝날 때까지 대기
+        subscription.request(Long.MAX_VALUE);
+
+        // then : 마지막 4개만 전달
+        assertThat(List.of(take(received), take(received), take(received), take(received)))
+                .extracting(UserPoint::version)
+                .containsExactly(7L, 8L, 9L, 10L);
+        assertThat(hub.getDroppedCount()).isEqualTo(7);
+    }
+
+    @Test
+    void 구독을_취소하면_더_이상_받지_않는다() throws Exception {
+        // given
+        BlockingQueue<UserPoint> received = new LinkedBlockingQueue<>();
+        PointStreamHub.Subscription subscription = hub.subscribe(1L, userPoint(1L, 1L), received::add);
+        subscription.request(Long.MAX_VALUE);
+        take(received);
+
+        // when
+        subscription.cancel();
+        subscription.cancel();
+        hub.onUpdated(userPoint(1L, 2L));
+
+        // then
+        assertThat(hub.getSubscriberCount()).isZero();
+        assertThat(received.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void 전송이_멈춘_구독자는_제한_시간이_지나면_끊고_다른_구독자에게는_계속_전달한다() throws Exception {
+        // given : 전달 쓰레드 2개보다 많은 3명이 응답을 읽지 않음 (전송 대기 100ms)
+        PointStreamHub slowHub = new PointStreamHub(4, 2, 100);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(3);
+        for (long userId = 1; userId <= 3; userId++) {
+            slowHub.subscribe(userId, userPoint(userId, 1L), userPoint -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, closed::countDown).request(Long.MAX_VALUE);
+        }
+        BlockingQueue<UserPoint> received = new LinkedBlockingQueue<>();
+
+        // when : 멈춘 구독자들 뒤에 정상 구독자가 구독
+        slowHub.subscribe(4L, userPoint(4L, 1L), received::add).request(Long.MAX_VALUE);
+        slowHub.onUpdated(userPoint(4L, 2L));
+
+        // then : 멈춘 구독자는 연결을 닫고 끊으며, 정상 구독자는 모든 변경을 받음
+        try {
+            assertThat(List.of(take(received), take(received))).extracting(UserPoint::version).containsExactly(1L, 2L);
+            assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(slowHub.getTimedOutCount()).isEqualTo(3);
+            assertThat(slowHub.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            blocked.countDown();
+            slowHub.shutdown();
+        }
+    }
+
+    private static UserPoint userPoint(long userId, long version) {
+        return new UserPoint(userId, version * 100, System.currentTimeMillis(), version);
+    }
+
+    private static UserPoint take(BlockingQueue<UserPoint> received) throws InterruptedException {
+        UserPoint userPoint = received.poll(5, TimeUnit.SECONDS);
+        assertThat(userPoint).isNotNull();
+        return userPoint;
+    }
+}
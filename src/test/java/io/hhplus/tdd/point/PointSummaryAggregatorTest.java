@@ -0,0 +1,134 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryIndex;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TablePointHistoryStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PointSummaryAggregatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2024, 10, 16);
+
+    private final PointHistoryIndex pointHistoryIndex = new PointHistoryIndex();
+    private final TablePointHistoryStore pointHistoryStore = new TablePointHistoryStore(mock(PointHistoryTable.class), pointHistoryIndex);
+    private final Clock clock = Clock.fixed(TODAY.atTime(12, 0).atZone(ZONE).toInstant(), ZONE);
+    private long historyId;
+
+    @Test
+    void 일별_집계는_최근_days_일의_이력이_있는_날만_반환한다() {
+        // given: 오늘, 1일 전, 5일 전 이력
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 30, clock);
+        aggregator.onInserted(history(1L, 1_000L, TransactionType.CHARGE, 5));
+        aggregator.onInserted(history(1L, -200L, TransactionType.USE, 1));
+        aggregator.onInserted(history(1L, 500L, TransactionType.CHARGE, 0));
+        aggregator.onInserted(history(1L, -100L, TransactionType.USE, 0));
+
+        // when
+        PointSummary summary = aggregator.summarize(1L, 3);
+
+        // then
+        assertThat(summary.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2, 1_500L));
+        assertThat(summary.totals().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(2, 300L));
+        assertThat(summary.daily()).extracting(DailyPointSummary::date).containsExactly(TODAY.minusDays(1), TODAY);
+        assertThat(summary.daily().get(1).types().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1, 500L));
+        assertThat(summary.daily().get(1).types().get(TransactionType.USE)).isEqualTo(new PointTypeSummary(1, 100L));
+    }
+
+    @Test
+    void 보관_기간이_지난_일별_집계는_삭제되지만_전체_합계는_유지된다() {
+        // given: 보관 기간 7일, 10일 전 이력 뒤에 오늘 이력
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 7, clock);
+        aggregator.onInserted(history(1L, 1_000L, TransactionType.CHARGE, 10));
+        aggregator.onInserted(history(1L, 500L, TransactionType.CHARGE, 0));
+
+        // when
+        PointSummary summary = aggregator.summarize(1L, 7);
+
+        // then
+        assertThat(summary.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2, 1_500L));
+        assertThat(summary.daily()).extracting(DailyPointSummary::date).containsExactly(TODAY);
+    }
+
+    @Test
+    void 시작_시_저장소의_기존_이력으로_집계를_복구한다() {
+        // given
+        pointHistoryIndex.append(history(1L, 1_000L, TransactionType.CHARGE, 0));
+        pointHistoryIndex.append(history(2L, 700L, TransactionType.CHARGE, 0));
+        pointHistoryIndex.append(history(1L, -400L, TransactionType.USE, 0));
+
+        // when
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 30, clock);
+
+        // then
+        assertThat(aggregator.summarize(1L, 0).transactionCount()).isEqualTo(2);
+        assertThat(aggregator.summarize(1L, 0).totals().get(TransactionType.USE).amount()).isEqualTo(400L);
+        assertThat(aggregator.summarize(2L, 0).totals().get(TransactionType.CHARGE).amount()).isEqualTo(700L);
+    }
+
+    @Test
+    void 처음_조회_전에_받은_이력과_저장소의_이력을_두_번_더하지_않는다() {
+        // given: 시작 전 이력 1건, 시작 후 저장되고 알림도 받은 이력 1건
+        pointHistoryIndex.append(history(1L, 1_000L, TransactionType.CHARGE, 0));
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 30, clock);
+        PointHistory live = history(1L, 500L, TransactionType.CHARGE, 0);
+        pointHistoryIndex.append(live);
+        aggregator.onInserted(live);
+
+        // when: 처음 조회에서 복구한 뒤 새 이력 알림
+        PointSummary first = aggregator.summarize(1L, 0);
+        PointHistory next = history(1L, -300L, TransactionType.USE, 0);
+        pointHistoryIndex.append(next);
+        aggregator.onInserted(next);
+
+        // then
+        assertThat(first.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(2, 1_500L));
+        assertThat(aggregator.summarize(1L, 0).transactionCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 이력이_없는_사용자의_요약은_보관하지_않는다() {
+        // given
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 30, clock);
+
+        // when: 이력이 없는 사용자 조회 후 이력 저장
+        PointSummary empty = aggregator.summarize(9L, 0);
+        PointHistory charged = history(9L, 100L, TransactionType.CHARGE, 0);
+        pointHistoryIndex.append(charged);
+        aggregator.onInserted(charged);
+
+        // then: 빈 요약을 반환하고, 이후 이력은 다시 복구되어 한 번만 집계됨
+        assertThat(empty.transactionCount()).isZero();
+        assertThat(aggregator.summarize(9L, 0).totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1, 100L));
+    }
+
+    @Test
+    void 이체_합계는_보낸_금액과_받은_금액을_상쇄한_순_금액이다() {
+        // given: 오늘 700 보내고 200 받음
+        PointSummaryAggregator aggregator = new PointSummaryAggregator(pointHistoryStore, ZONE, 30, clock);
+        aggregator.onInserted(history(1L, 1_000L, TransactionType.CHARGE, 0));
+        aggregator.onInserted(history(1L, -700L, TransactionType.TRANSFER, 0));
+        aggregator.onInserted(history(1L, 200L, TransactionType.TRANSFER, 0));
+
+        // when
+        PointSummary summary = aggregator.summarize(1L, 1);
+
+        // then: 이체는 2건, 순 이체 금액 -500 (충전은 그대로)
+        assertThat(summary.totals().get(TransactionType.TRANSFER)).isEqualTo(new PointTypeSummary(2, -500L));
+        assertThat(summary.totals().get(TransactionType.CHARGE)).isEqualTo(new PointTypeSummary(1, 1_000L));
+        assertThat(summary.daily().get(0).types().get(TransactionType.TRANSFER)).isEqualTo(new PointTypeSummary(2, -500L));
+    }
+
+    private PointHistory history(long userId, long amount, TransactionType type, int daysAgo) {
+        long millis = ZonedDateTime.of(TODAY.minusDays(daysAgo).atTime(9, 0), ZONE).toInstant().toEpochMilli();
+        return new PointHistory(++historyId, userId, amount, type, millis);
+    }
+}
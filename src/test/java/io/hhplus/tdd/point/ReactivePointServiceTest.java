@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ReactivePointServiceTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private final ReactivePointService reactivePointService =
+            new ReactivePointService(pointService, mock(PointRequestDispatcher.class), new PointStreamHub(16, 1), 4, 100);
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.shutdown();
+    }
+
+    @Test
+    void 이력_스트리밍은_다음_cursor가_없을_때까지_페이지를_이어서_읽는다() {
+        // given: 첫 페이지(이력 1, 2) -> 두 번째 페이지(이력 3)
+        PointHistory first = new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 0L);
+        PointHistory second = new PointHistory(2L, 1L, -50L, TransactionType.USE, 0L);
+        PointHistory third = new PointHistory(3L, 1L, 100L, TransactionType.CHARGE, 0L);
+        when(pointService.getUserHistoryPage(eq(1L), argThat(query -> query != null && query.cursor() == 0)))
+                .thenReturn(new PointHistoryPage(List.of(first, second), 2L));
+        when(pointService.getUserHistoryPage(eq(1L), argThat(query -> query != null && query.cursor() == 2)))
+                .thenReturn(new PointHistoryPage(List.of(third), null));
+
+        // when
+        List<PointHistory> histories = reactivePointService.streamUserHistories(1L, PointHistoryQuery.all())
+                .collectList()
+                .block();
+
+        // then
+        assertThat(histories).containsExactly(first, second, third);
+        verify(pointService, times(2)).getUserHistoryPage(eq(1L), argThat(query -> query != null && query.limit() == PointHistoryQuery.MAX_LIMIT));
+    }
+
+    @Test
+    void 블로킹_조회는_전용_스케줄러에서_실행되고_예외는_그대로_전달된다() {
+        // given
+        when(pointService.getUserPoint(1L)).thenAnswer(invocation ->
+                new UserPoint(1L, Thread.currentThread().getName().startsWith("point-blocking") ? 1L : 0L, 0L));
+        when(pointService.getUserPoint(-1L)).thenThrow(new PointException(PointErrorCode.INVALID_ID));
+
+        // when
+        UserPoint userPoint = reactivePointService.getUserPoint(1L).block();
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(1L);
+        assertThatThrownBy(() -> reactivePointService.getUserPoint(-1L).block())
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining("INVALID_ID");
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserPointETagTest {
+
+    @Test
+    void 같은_버전의_ETag_는_If_None_Match_와_일치한다() {
+        // given
+        UserPoint userPoint = new UserPoint(1L, 1_000L, System.currentTimeMillis(), 3L);
+        String etag = UserPointETag.of(userPoint);
+
+        // when & then : 목록, 약한 ETag, * 도 허용
+        assertThat(UserPointETag.matches(etag, userPoint)).isTrue();
+        assertThat(UserPointETag.matches("\"other\", W/" + etag, userPoint)).isTrue();
+        assertThat(UserPointETag.matches("*", userPoint)).isTrue();
+        assertThat(UserPointETag.matches(null, userPoint)).isFalse();
+        assertThat(UserPointETag.matches(etag, new UserPoint(1L, 1_500L, System.currentTimeMillis(), 4L))).isFalse();
+    }
+
+    @Test
+    void If_Match_에서_기대_버전을_읽고_이_서버가_발급하지_않은_ETag_는_거절한다() {
+        // given
+        String etag = UserPointETag.of(new UserPoint(1L, 1_000L, System.currentTimeMillis(), 17L));
+
+        // when & then
+        assertThat(UserPointETag.expectedVersion(etag)).isEqualTo(17L);
+        assertThat(UserPointETag.expectedVersion(null)).isNull();
+        assertThat(UserPointETag.expectedVersion("*")).isNull();
+        assertThatThrownBy(() -> UserPointETag.expectedVersion("\"abc-17\"")) // 재시작 전 ETag
+                .isInstanceOf(PointVersionMismatchException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyDetectorTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final HotKeyDetector detector = new HotKeyDetector(100, 1_000, 1_024, now::get);
+
+    @Test
+    void 윈도우_안에서_기준_횟수를_넘으면_hot_으로_판단한다() {
+        // given
+        for (int i = 0; i < 99; i++) {
+            detector.record(1L);
+        }
+        detector.record(2L);
+
+        // when
+        boolean hot = detector.record(1L);
+
+        // then
+        assertThat(hot).isTrue();
+        assertThat(detector.isHot(2L)).isFalse();
+        assertThat(detector.estimate(1L)).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    void 추정값은_실제_요청_수보다_작지_않다() {
+        // given: 작은 sketch 에 많은 키를 기록 (충돌 발생)
+        HotKeyDetector small = new HotKeyDetector(1_000, 1_000, 16, now::get);
+        for (long key = 1; key <= 1_000; key++) {
+            for (int i = 0; i < key % 5; i++) {
+                small.record(key);
+            }
+        }
+
+        // then
+        for (long key = 1; key <= 1_000; key++) {
+            assertThat(small.estimate(key)).isGreaterThanOrEqualTo(key % 5);
+        }
+    }
+
+    @Test
+    void 윈도우가_지난_요청은_세지_않는다() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            detector.record(1L);
+        }
+        assertThat(detector.isHot(1L)).isTrue();
+
+        // when: 구간(250ms) 하나만 지나면 아직 윈도우 안, 윈도우(1초)가 지나면 제외
+        now.set(250);
+        boolean hotInWindow = detector.isHot(1L);
+        now.set(1_000);
+        detector.record(2L); // 같은 구간 자리를 재사용하며 비움
+
+        // then
+        assertThat(hotInWindow).isTrue();
+        assertThat(detector.isHot(1L)).isFalse();
+        assertThat(detector.estimate(1L)).isZero();
+    }
+}
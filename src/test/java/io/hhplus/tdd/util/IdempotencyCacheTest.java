@@ -0,0 +1,134 @@
+package io.hhplus.tdd.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final IdempotencyCache cache = new IdempotencyCache(3, 60, now::get);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void 실행_중인_요청과_같은_키는_결과를_공유한다() {
+        // given: 처음 요청이 아직 끝나지 않음
+        CompletableFuture<Long> inFlight = new CompletableFuture<>();
+        CompletableFuture<Long> first = cache.execute("1:a", "charge:100", () -> {
+            executions.incrementAndGet();
+            return inFlight;
+        });
+
+        // when
+        CompletableFuture<Long> retry = cache.execute("1:a", "charge:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(-1L);
+        });
+        inFlight.complete(100L);
+
+        // then
+        assertThat(executions).hasValue(1);
+        assertThat(retry.join()).isEqualTo(100L);
+        assertThat(first.join()).isEqualTo(100L);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_요청의_키는_다시_실행된다() {
+        // given
+        CompletableFuture<Long> failed = cache.execute("1:a", "use:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalArgumentException("보유 포인트는 0원 이하일 수 없습니다."));
+        });
+
+        // when
+        CompletableFuture<Long> retry = cache.execute("1:a", "use:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(0L);
+        });
+
+        // then
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retry.join()).isZero();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void 잔액을_바꾼_뒤_실패한_요청의_키는_보관되어_다시_실행되지_않는다() {
+        // given: 잔액 변경 후 저널 기록 실패
+        CompletableFuture<Long> failed = cache.execute("1:a", "charge:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("포인트 저널 기록에 실패했습니다."));
+        });
+
+        // when
+        CompletableFuture<Long> retry = cache.execute("1:a", "charge:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(100L);
+        });
+
+        // then: 재시도는 다시 충전하지 않고 처음 결과(실패)를 반환
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(retry).isSameAs(failed);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void 같은_키로_다른_요청을_보내면_예외() {
+        // given
+        cache.execute("1:a", "charge:100", () -> CompletableFuture.completedFuture(100L));
+
+        // when & then
+        assertThatThrownBy(() -> cache.execute("1:a", "charge:200", () -> CompletableFuture.completedFuture(200L)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .hasMessageContaining("Idempotency-Key");
+    }
+
+    @Test
+    void 만료되거나_최대_개수를_넘은_키는_삭제된다() {
+        // given: 최대 3개
+        for (int i = 0; i < 4; i++) {
+            cache.execute("1:" + i, "charge:100", () -> CompletableFuture.completedFuture(100L));
+        }
+        assertThat(cache.size()).isEqualTo(3);
+
+        // when: ttl(60초) 이후 새 요청
+        now.addAndGet(60_000);
+        CompletableFuture<Long> expired = cache.execute("1:3", "charge:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(200L);
+        });
+
+        // then: 만료된 키는 다시 실행
+        assertThat(expired.join()).isEqualTo(200L);
+        assertThat(executions).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 최대_개수를_넘어도_실행_중인_키는_삭제하지_않는다() {
+        // given: 가장 오래된 키가 아직 실행 중
+        CompletableFuture<Long> running = new CompletableFuture<>();
+        cache.execute("1:0", "charge:100", () -> running);
+        for (int i = 1; i < 4; i++) {
+            cache.execute("1:" + i, "charge:100", () -> CompletableFuture.completedFuture(100L));
+        }
+
+        // when: 실행 중인 키로 재시도
+        CompletableFuture<Long> retry = cache.execute("1:0", "charge:100", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(200L);
+        });
+        running.complete(100L);
+
+        // then: 실행 중인 키 대신 끝난 키가 삭제되고, 재시도는 다시 실행하지 않고 처음 결과를 공유
+        assertThat(retry.join()).isEqualTo(100L);
+        assertThat(executions).hasValue(0);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,83 @@
+package io.hhplus.tdd.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedLockManagerTest {
+
+    @Test
+    void 스트라이프_수는_2의_거듭제곱으로_올림된다() {
+        assertThat(new StripedLockManager(1, false).getStripeCount()).isEqualTo(1);
+        assertThat(new StripedLockManager(3, false).getStripeCount()).isEqualTo(4);
+        assertThat(new StripedLockManager(64, false).getStripeCount()).isEqualTo(64);
+    }
+
+    @Test
+    void 같은_사용자의_작업은_동시에_실행되지_않는다() throws InterruptedException {
+        // given
+        StripedLockManager lockManager = new StripedLockManager(8, false);
+        long[] counter = {0}; // 락 없이는 갱신 손실이 발생하는 값
+        int threads = 8;
+        int iterations = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < iterations; j++) {
+                    lockManager.executeWithLock(1L, () -> counter[0]++);
+                }
+                latch.countDown();
+            });
+        }
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+
+        // then: 갱신 손실 없음 + 해당 스트라이프에 대기/보유 시간이 기록됨
+        assertThat(counter[0]).isEqualTo((long) threads * iterations);
+        StripedLockManager.StripeStats stats = lockManager.getStripeStats().get(lockManager.stripeOf(1L));
+        assertThat(stats.waitTime().count()).isEqualTo((long) threads * iterations);
+        assertThat(stats.holdTime().count()).isEqualTo((long) threads * iterations);
+    }
+
+    @Test
+    void 두_사용자의_락을_반대_순서로_요청해도_교착_상태가_생기지_않는다() throws InterruptedException {
+        // given: 서로 다른 스트라이프의 두 사용자
+        StripedLockManager lockManager = new StripedLockManager(8, false);
+        long other = 2L;
+        while (lockManager.stripeOf(other) == lockManager.stripeOf(1L)) {
+            other++;
+        }
+        long userId = other;
+        long[] counter = {0};
+        int iterations = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        // when: 한 쓰레드는 (1, other), 다른 쓰레드는 (other, 1) 순서로 요청
+        executorService.submit(() -> {
+            for (int j = 0; j < iterations; j++) {
+                lockManager.executeWithLocks(1L, userId, () -> counter[0]++);
+            }
+            latch.countDown();
+        });
+        executorService.submit(() -> {
+            for (int j = 0; j < iterations; j++) {
+                lockManager.executeWithLocks(userId, 1L, () -> counter[0]++);
+            }
+            latch.countDown();
+        });
+
+        // then
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        executorService.shutdown();
+        assertThat(counter[0]).isEqualTo(2L * iterations);
+    }
+}
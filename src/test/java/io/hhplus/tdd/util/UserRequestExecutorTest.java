@@ -0,0 +1,185 @@
+package io.hhplus.tdd.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserRequestExecutorTest {
+
+    private final UserRequestExecutor executor = new UserRequestExecutor(4, false);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 같은_사용자의_요청은_제출_순서대로_실행된다() {
+        // given: 사용자 3명이 각각 100개의 요청을 섞어서 제출
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            for (long userId = 1; userId <= 3; userId++) {
+                int sequence = i;
+                long id = userId;
+                futures.add(executor.submit(id, () -> {
+                    executed.computeIfAbsent(id, k -> Collections.synchronizedList(new ArrayList<>())).add(sequence);
+                    return sequence;
+                }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        // then: 사용자별 실행 순서 = 제출 순서
+        List<Integer> expected = IntStream.range(0, 100).boxed().toList();
+        assertThat(executed).hasSize(3);
+        executed.values().forEach(sequences -> assertThat(sequences).containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    void 오래_걸리는_사용자가_있어도_다른_사용자의_요청은_남은_워커가_처리한다() throws Exception {
+        // given: 워커 2개 중 하나가 사용자 1의 요청으로 멈춰 있음
+        UserRequestExecutor twoWorkers = new UserRequestExecutor(2, false);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocked = twoWorkers.submit(1L, () -> {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+
+        // when: 다른 사용자 100명이 요청
+        List<CompletableFuture<Long>> others = LongStream.rangeClosed(2, 101)
+                .mapToObj(userId -> twoWorkers.submit(userId, () -> userId))
+                .toList();
+
+        // then: 사용자 1이 끝나기 전에 모두 처리됨 (사용자별 전담 워커가 아님)
+        CompletableFuture.allOf(others.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isTrue();
+        twoWorkers.shutdown();
+    }
+
+    @Test
+    void 같은_사용자의_요청은_동시에_두_워커에서_실행되지_않는다() {
+        // given
+        Map<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger maxConcurrency = new AtomicInteger();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        // when: 사용자 10명에게 10,000개 요청
+        for (int i = 0; i < 10_000; i++) {
+            long userId = i % 10;
+            futures.add(executor.submit(userId, () -> {
+                AtomicInteger counter = running.computeIfAbsent(userId, id -> new AtomicInteger());
+                maxConcurrency.accumulateAndGet(counter.incrementAndGet(), Math::max);
+                counter.decrementAndGet();
+                return 1;
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(10, TimeUnit.SECONDS).join();
+
+        // then
+        assertThat(maxConcurrency.get()).isEqualTo(1);
+        assertThat(executor.getActiveUserCount()).isZero();
+    }
+
+    @Test
+    void 작업_예외는_future로_전달된다() {
+        // when
+        CompletableFuture<Object> future = executor.submit(1L, () -> {
+            throw new IllegalArgumentException("충전 요청 포인트는 0원 이하일 수 없습니다.");
+        });
+
+        // then
+        assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("충전 요청 포인트는 0원 이하일 수 없습니다.");
+    }
+
+    @Test
+    void 종료_후에는_요청을_받지_않는다() {
+        // given
+        executor.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> executor.submit(1L, () -> 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 사용자_큐가_가득_차면_QueueOverflowException으로_완료된다() throws Exception {
+        // given: 사용자 큐 용량 1, 첫 요청이 실행 중에 멈춰 있도록 설정
+        UserRequestExecutor limited = new UserRequestExecutor(1, false,
+                new UserRequestQueue(1, 100, QueueOverflowPolicy.REJECT_NEW, 0));
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        CompletableFuture<Void> running = limited.submit(1L, release::join);
+        while (limited.getPendingTaskCount() > 0) { // 첫 요청이 워커에서 실행될 때까지 대기
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Object> queued = limited.submit(1L, () -> 2);
+
+        // when
+        CompletableFuture<Object> rejected = limited.submit(1L, () -> 3);
+        release.complete(null);
+
+        // then
+        assertThatThrownBy(rejected::join).hasCauseInstanceOf(QueueOverflowException.class);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(2);
+        assertThat(limited.getRejectedCount(QueueOverflowException.Reason.USER_QUEUE_FULL)).isEqualTo(1);
+        running.join();
+        limited.shutdown();
+    }
+
+    @Test
+    void 순서_없이_제출한_작업도_사용자_큐_용량에_포함된다() throws Exception {
+        // given: 사용자 큐 용량 1, 워커 하나가 멈춰 있어 순서 없이 제출한 작업이 워커를 기다리는 상태
+        UserRequestExecutor limited = new UserRequestExecutor(1, false,
+                new UserRequestQueue(1, 100, QueueOverflowPolicy.REJECT_NEW, 0));
+        CountDownLatch release = new CountDownLatch(1); // ForkJoinPool 이 보충 워커를 만들지 않도록 latch 로 멈춤
+        CompletableFuture<Object> running = limited.submit(2L, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        while (limited.getPendingTaskCount() > 0) { // 첫 요청이 워커에서 실행될 때까지 대기
+            Thread.onSpinWait();
+        }
+        CompletableFuture<Object> waiting = limited.submitUnordered(1L, () -> 1);
+
+        // when: 같은 사용자의 순서 없는 작업과 일반 작업을 더 제출
+        CompletableFuture<Object> rejectedUnordered = limited.submitUnordered(1L, () -> 2);
+        CompletableFuture<Object> rejectedOrdered = limited.submit(1L, () -> 3);
+        release.countDown();
+
+        // then: 대기 중인 작업이 용량을 차지하므로 둘 다 거절되고, 실행이 끝나면 자리가 돌아옴
+        assertThatThrownBy(rejectedUnordered::join).hasCauseInstanceOf(QueueOverflowException.class);
+        assertThatThrownBy(rejectedOrdered::join).hasCauseInstanceOf(QueueOverflowException.class);
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        running.join();
+        assertThat(limited.getPendingTaskCount()).isZero();
+        assertThat(limited.submitUnordered(1L, () -> 4).get(5, TimeUnit.SECONDS)).isEqualTo(4);
+        limited.shutdown();
+    }
+}
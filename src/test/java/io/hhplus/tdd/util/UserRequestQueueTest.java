@@ -0,0 +1,101 @@
+package io.hhplus.tdd.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserRequestQueueTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<QueueOverflowException> rejections = new ArrayList<>();
+
+    @Test
+    void 사용자_큐가_가득_차면_새_요청을_거절한다() {
+        // given
+        UserRequestQueue queue = new UserRequestQueue(2, 100, QueueOverflowPolicy.REJECT_NEW, 0, clock::get);
+        queue.addToQueue(1L, () -> { }, rejections::add);
+        queue.addToQueue(1L, () -> { }, rejections::add);
+
+        // when & then
+        assertThatThrownBy(() -> queue.addToQueue(1L, () -> { }, rejections::add))
+                .isInstanceOf(QueueOverflowException.class)
+                .extracting(e -> ((QueueOverflowException) e).getReason())
+                .isEqualTo(QueueOverflowException.Reason.USER_QUEUE_FULL);
+        queue.addToQueue(2L, () -> { }, rejections::add); // 다른 사용자는 영향 없음
+        assertThat(queue.getTotalTaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 전체_큐가_가득_차면_정책과_관계없이_거절한다() {
+        // given
+        UserRequestQueue queue = new UserRequestQueue(10, 2, QueueOverflowPolicy.SHED_OLDEST, 0, clock::get);
+        queue.addToQueue(1L, () -> { }, rejections::add);
+        queue.addToQueue(2L, () -> { }, rejections::add);
+
+        // when & then
+        assertThatThrownBy(() -> queue.addToQueue(3L, () -> { }, rejections::add))
+                .isInstanceOf(QueueOverflowException.class);
+        assertThat(queue.getRejectedCount(QueueOverflowException.Reason.QUEUE_FULL)).isEqualTo(1);
+        assertThat(queue.getTotalTaskCount()).isEqualTo(2);
+    }
+
+    @Test
+    void SHED_OLDEST_정책은_가장_오래_기다린_요청을_거절하고_새_요청을_받는다() {
+        // given
+        List<String> executed = new ArrayList<>();
+        UserRequestQueue queue = new UserRequestQueue(2, 100, QueueOverflowPolicy.SHED_OLDEST, 0, clock::get);
+        queue.addToQueue(1L, () -> executed.add("first"), rejections::add);
+        queue.addToQueue(1L, () -> executed.add("second"), rejections::add);
+
+        // when
+        queue.addToQueue(1L, () -> executed.add("third"), rejections::add);
+        queue.pollNextTask(1L).run();
+        queue.pollNextTask(1L).run();
+
+        // then
+        assertThat(executed).containsExactly("second", "third");
+        assertThat(rejections).extracting(QueueOverflowException::getReason)
+                .containsExactly(QueueOverflowException.Reason.SHED_OLDEST);
+        assertThat(queue.pollNextTask(1L)).isNull();
+    }
+
+    @Test
+    void 오래_기다린_작업은_실행하지_않고_거절한다() {
+        // given: 최대 대기 시간 100ms
+        List<String> executed = new ArrayList<>();
+        UserRequestQueue queue = new UserRequestQueue(10, 100, QueueOverflowPolicy.REJECT_NEW, 100, clock::get);
+        queue.addToQueue(1L, () -> executed.add("stale"), rejections::add);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        queue.addToQueue(1L, () -> executed.add("fresh"), rejections::add);
+
+        // when
+        queue.pollNextTask(1L).run();
+        queue.pollNextTask(1L).run();
+
+        // then
+        assertThat(executed).containsExactly("fresh");
+        assertThat(rejections).extracting(QueueOverflowException::getReason)
+                .containsExactly(QueueOverflowException.Reason.EXPIRED);
+    }
+
+    @Test
+    void 작업을_모두_꺼낸_사용자_큐는_삭제된다() {
+        // given
+        UserRequestQueue queue = new UserRequestQueue();
+        queue.addToQueue(1L, () -> { });
+        queue.addToQueue(2L, () -> { });
+
+        // when
+        queue.pollNextTask(1L);
+
+        // then
+        assertThat(queue.getUserIds()).containsExactly(2L);
+        assertThat(queue.getTotalTaskCount()).isEqualTo(1);
+    }
+}